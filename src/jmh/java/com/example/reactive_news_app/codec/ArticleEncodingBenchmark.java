@@ -0,0 +1,132 @@
+package com.example.reactive_news_app.codec;
+
+import com.example.reactive_news_app.config.QueryCacheProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 기본 Jackson 인코더 vs 캐시된 바이트 인코더 (-prof gc 로 할당률도 함께 비교)
+// 목록 응답: 같은 목록을 반복 응답, SSE: 기사 하나를 subscribers 명에게 전송
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ArticleEncodingBenchmark {
+
+    private static final ResolvableType ARTICLE = ResolvableType.forClass(NewsArticle.class);
+
+    @Param({"20", "1000"})
+    private int size;
+
+    @Param({"1000"})
+    private int subscribers;
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private Jackson2JsonEncoder jackson;
+    private ArticleJsonEncoder cached;
+    private List<NewsArticle> articles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        jackson = new Jackson2JsonEncoder(objectMapper);
+        cached = new ArticleJsonEncoder(new ArticleJsonCache(objectMapper, new QueryCacheProperties(),
+                new SimpleMeterRegistry()));
+
+        articles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            articles.add(NewsArticle.create("Spring WebFlux 완전정복 " + i,
+                            "리액티브 프로그래밍의 새로운 패러다임 " + i, "TECH", "김기자")
+                    .withId(i + 1)
+                    .withPublishedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i))
+                    .withTags(List.of("spring", "webflux", "reactor")));
+        }
+    }
+
+    @Benchmark
+    public long jacksonJsonArray() {
+        return drain(jackson.encode(Flux.fromIterable(articles), bufferFactory, ARTICLE, MediaType.APPLICATION_JSON, Collections.emptyMap()));
+    }
+
+    @Benchmark
+    public long cachedJsonArray() {
+        return drain(cached.encode(Flux.fromIterable(articles), bufferFactory, ARTICLE, MediaType.APPLICATION_JSON, Collections.emptyMap()));
+    }
+
+    @Benchmark
+    public long jacksonNdjson() {
+        return drain(jackson.encode(Flux.fromIterable(articles), bufferFactory, ARTICLE, MediaType.APPLICATION_NDJSON, Collections.emptyMap()));
+    }
+
+    @Benchmark
+    public long cachedNdjson() {
+        return drain(cached.encode(Flux.fromIterable(articles), bufferFactory, ARTICLE, MediaType.APPLICATION_NDJSON, Collections.emptyMap()));
+    }
+
+    @Benchmark
+    public long jacksonSseFanout() {
+        return fanout(jackson::encodeValue);
+    }
+
+    @Benchmark
+    public long cachedSseFanout() {
+        return fanout(cached::encodeValue);
+    }
+
+    private long fanout(ValueEncoder encoder) {
+        NewsArticle article = articles.get(0);
+        long bytes = 0;
+        for (int i = 0; i < subscribers; i++) {
+            DataBuffer buffer = encoder.encode(article, bufferFactory, ARTICLE, MediaType.APPLICATION_JSON, Collections.emptyMap());
+            bytes += buffer.readableByteCount();
+            DataBufferUtils.release(buffer);
+        }
+        return bytes;
+    }
+
+    private static long drain(Flux<DataBuffer> buffers) {
+        return buffers.map(buffer -> {
+                    int bytes = buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return (long) bytes;
+                })
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    @FunctionalInterface
+    private interface ValueEncoder {
+        DataBuffer encode(Object value, DefaultDataBufferFactory bufferFactory, ResolvableType type, MimeType mimeType,
+                          Map<String, Object> hints);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.reactive_news_app.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 스레드 수별 ID 발급 처리량: Snowflake(CAS) vs 단일 AtomicLong 카운터(같은 경합에서의 기준선)
+// 밀리초당 4,096개를 넘으면 다음 밀리초를 앞당겨 쓰므로 시계가 아닌 CAS 경합이 처리량을 정함
+// 실행: ./gradlew jmh -PjmhIncludes=IdGeneratorBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator snowflake = new SnowflakeIdGenerator(1, Instant.parse("2024-01-01T00:00:00Z"));
+    private final AtomicLong counter = new AtomicLong();
+
+    @Benchmark
+    @Threads(1)
+    public long snowflake1() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long snowflake4() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long snowflake8() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long snowflake16() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long counter1() {
+        return counter.incrementAndGet();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long counter4() {
+        return counter.incrementAndGet();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long counter8() {
+        return counter.incrementAndGet();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long counter16() {
+        return counter.incrementAndGet();
+    }
+}
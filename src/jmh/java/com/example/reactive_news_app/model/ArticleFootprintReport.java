@@ -0,0 +1,85 @@
+package com.example.reactive_news_app.model;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+// 기사 하나가 힙에서 차지하는 바이트 수를 이전 표현(@Data 가변 객체)과 현재 레코드로 비교
+// 실행: ./gradlew footprintReport -PfootprintArgs="100000"
+public class ArticleFootprintReport {
+
+    private static final String[] CATEGORIES = {"TECH", "SPORTS", "POLITICS", "ENTERTAINMENT", "SCIENCE"};
+    private static final String[] AUTHORS = {"김기자", "이기자", "박기자", "최기자", "정기자"};
+    private static final String[] TAGS = {"spring", "webflux", "reactor", "netty", "java"};
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        System.out.println(VM.current().details());
+
+        List<LegacyNewsArticle> legacy = new ArrayList<>(size);
+        List<NewsArticle> compact = new ArrayList<>(size);
+
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < size; i++) {
+            // 요청 본문/DB 에서 읽은 값처럼 문자열은 매번 새 인스턴스로 만듦
+            String title = "[TECH] 새로운 소식 " + i;
+            String content = "카테고리의 상세한 뉴스 내용입니다. 이 뉴스는 기자가 작성했습니다. " + i;
+            String category = new String(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            String author = new String(AUTHORS[random.nextInt(AUTHORS.length)]);
+            LocalDateTime publishedAt = base.plusSeconds(i);
+            int viewCount = 1_000 + random.nextInt(1_000);
+            List<String> tags = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                tags.add(new String(TAGS[random.nextInt(TAGS.length)]));
+            }
+
+            LegacyNewsArticle before = new LegacyNewsArticle();
+            before.id = (long) i + 1;
+            before.title = title;
+            before.content = content;
+            before.category = category;
+            before.author = author;
+            before.publishedAt = publishedAt;
+            before.viewCount = viewCount;
+            before.tags = tags;
+            legacy.add(before);
+
+            compact.add(NewsArticle.of(i + 1, title, content, category, author, publishedAt, viewCount, tags));
+        }
+
+        // 제목/본문은 양쪽이 같은 문자열을 공유하므로 따로 빼서 기사 자체의 오버헤드만 비교
+        long sharedText = GraphLayout.parseInstance(legacy.stream()
+                .flatMap(article -> Stream.of(article.title, article.content))
+                .toArray()).totalSize();
+        long legacyBytes = GraphLayout.parseInstance(legacy.toArray()).totalSize();
+        long compactBytes = GraphLayout.parseInstance(compact.toArray()).totalSize();
+
+        System.out.printf("기사 %,d개%n", size);
+        print("이전 (@Data, LocalDateTime, Integer, List<String>)", legacyBytes, sharedText, size);
+        print("현재 (record, epoch millis, int, 태그 문자열, 값 공유)", compactBytes, sharedText, size);
+        System.out.printf("절감: %.1f%%%n", 100.0 * (legacyBytes - compactBytes) / legacyBytes);
+    }
+
+    private static void print(String label, long total, long sharedText, int size) {
+        System.out.printf("%-50s 전체 %,d B, 기사당 %,d B (제목/본문 제외 %,d B)%n",
+                label, total, total / size, (total - sharedText) / size);
+    }
+
+    // 변경 전 NewsArticle 과 같은 필드 구성
+    static class LegacyNewsArticle {
+        Long id;
+        String title;
+        String content;
+        String category;
+        String author;
+        LocalDateTime publishedAt;
+        Integer viewCount;
+        List<String> tags;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.reactive_news_app.search;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.repository.InMemoryArticleStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 기존 선형 검색(전체 소문자 변환 + 정렬)과 역색인 검색 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final String[] KOREAN_WORDS = {
+            "월드컵", "결승전", "하이라이트", "정책", "발표", "영화", "개봉", "과학", "발견", "리액티브",
+            "프로그래밍", "국민", "관심", "경기", "연구", "결과", "선수", "감독", "기술", "시장"
+    };
+    private static final String[] ENGLISH_WORDS = {
+            "spring", "webflux", "reactor", "netty", "java", "kotlin", "cloud", "data", "stream", "server"
+    };
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"월드컵", "webflux"})
+    private String keyword;
+
+    private List<NewsArticle> articles;
+    private NewsSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        index = new NewsSearchIndex(store);
+        articles = new ArrayList<>(size);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        for (int i = 0; i < size; i++) {
+            NewsArticle article = NewsArticle.create(sentence(random, 4), sentence(random, 10), "TECH", "김기자")
+                    .withId(i + 1)
+                    .withPublishedAt(base.plusSeconds(i));
+            articles.add(article);
+            store.save(article);
+            index.index(article);
+        }
+    }
+
+    @Benchmark
+    public List<NewsArticle> linearScan() {
+        return articles.stream()
+                .filter(article -> article.title().toLowerCase().contains(keyword.toLowerCase())
+                        || article.content().toLowerCase().contains(keyword.toLowerCase()))
+                .sorted(Comparator.comparingLong(NewsArticle::publishedAtMillis).reversed())
+                .toList();
+    }
+
+    @Benchmark
+    public List<NewsArticle> invertedIndex() {
+        return index.search(SearchQuery.of(keyword));
+    }
+
+    @Benchmark
+    public List<NewsArticle> invertedIndexTop20() {
+        return index.search(new SearchQuery(keyword, SearchQuery.Operator.AND, SearchQuery.Ranking.RECENCY, 20, null));
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            String[] source = random.nextInt(4) == 0 ? ENGLISH_WORDS : KOREAN_WORDS;
+            builder.append(source[random.nextInt(source.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.reactive_news_app.service;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.reactive_news_app.config.AccessLogProperties;
+import com.example.reactive_news_app.filter.AccessLogWebFilter;
+import com.example.reactive_news_app.model.NewsArticle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// 요청 경로 로그 비용 비교, 동기 vs 비동기 appender
+// BASELINE: 변경 전처럼 요청마다 컨트롤러/서비스가 INFO 를 2~3줄 남기고 목록은 원소마다 debug 연산자를 거침
+//           (당시 로거 이름이 패키지와 달라 DEBUG 줄은 실제로 기록되지 않았으므로 여기서도 INFO 레벨)
+// ACCESS_LOG: 변경 후 경로. 서비스 로그는 DEBUG 라 꺼져 있고 AccessLogWebFilter 가 샘플링해 한 줄만 기록
+// 변경 전에 켜져 있던 reactor.netty / WebFlux DEBUG 로그는 실제 서버를 거쳐야 생기므로 여기서는 재현하지 않고
+// 부하 테스트의 --logging=debug-baseline 으로 비교 (./gradlew loadTest -PloadTestArgs="--logging=debug-baseline")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingOverheadBenchmark {
+
+    private static final org.slf4j.Logger CONTROLLER_LOG = LoggerFactory.getLogger("com.example.reactive_news_app.controller.NewsController");
+    private static final org.slf4j.Logger SERVICE_LOG = LoggerFactory.getLogger("com.example.reactive_news_app.service.NewsService");
+
+    @Param({"BASELINE", "ACCESS_LOG"})
+    private String logging;
+
+    @Param({"SYNC", "ASYNC"})
+    private String appender;
+
+    private NewsService newsService;
+    private AccessLogWebFilter accessLog;
+    private Appender<ILoggingEvent> sink;
+    private long[] ids;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(Level.INFO);
+
+        // 실제 출력 비용 대신 포맷팅/인코딩 비용만 남기도록 버리는 스트림에 기록
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{ISO8601} %5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        if ("ASYNC".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setNeverBlock(true);
+            async.addAppender(output);
+            async.start();
+            sink = async;
+        } else {
+            sink = output;
+        }
+        root.addAppender(sink);
+        context.getLogger("com.example.reactive_news_app").setLevel(Level.INFO);
+
+        accessLog = new AccessLogWebFilter(new AccessLogProperties());
+        newsService = NewsServiceFixture.create().newsService();
+        ids = newsService.getAllNews()
+                .map(NewsArticle::id)
+                .collectList()
+                .block()
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() {
+        sink.stop();
+    }
+
+    @Benchmark
+    public void getNewsById(Blackhole blackhole) {
+        long id = ids[(int) (Thread.currentThread().getId() % ids.length)];
+        if (isBaseline()) {
+            CONTROLLER_LOG.info("GET /api/news/{} - 특정 뉴스 조회", id);
+            SERVICE_LOG.info("뉴스 조회 요청: ID={}", id);
+            handle("/api/news/" + id, newsService.getNewsById(id)
+                    .doOnNext(article -> SERVICE_LOG.info("뉴스 조회 완료: {} (조회수: {})",
+                            article.title(), article.viewCount())), blackhole);
+            return;
+        }
+        handle("/api/news/" + id, newsService.getNewsById(id), blackhole);
+    }
+
+    @Benchmark
+    public void getAllNews(Blackhole blackhole) {
+        if (isBaseline()) {
+            CONTROLLER_LOG.info("GET /api/news - 모든 뉴스 조회");
+            SERVICE_LOG.info("모든 뉴스 조회 요청");
+            handle("/api/news", newsService.getAllNews()
+                    .doOnNext(article -> SERVICE_LOG.debug("뉴스 반환: {}", article.title()))
+                    .doOnComplete(() -> SERVICE_LOG.info("모든 뉴스 조회 완료")), blackhole);
+            return;
+        }
+        handle("/api/news", newsService.getAllNews(), blackhole);
+    }
+
+    @Benchmark
+    public void searchNews(Blackhole blackhole) {
+        if (isBaseline()) {
+            CONTROLLER_LOG.info("GET /api/news/search?keyword={} - 뉴스 검색", "리액티브");
+            SERVICE_LOG.info("뉴스 검색: 키워드={}", "리액티브");
+            handle("/api/news/search", newsService.searchNews("리액티브")
+                    .doOnNext(article -> SERVICE_LOG.debug("검색 결과: {}", article.title())), blackhole);
+            return;
+        }
+        handle("/api/news/search", newsService.searchNews("리액티브"), blackhole);
+    }
+
+    private boolean isBaseline() {
+        return "BASELINE".equals(logging);
+    }
+
+    // 두 경우 모두 같은 교환 객체를 만들어 비용 차이가 로그에서만 나도록 함
+    private void handle(String path, Mono<NewsArticle> call, Blackhole blackhole) {
+        handle(path, call.flux(), blackhole);
+    }
+
+    private void handle(String path, Flux<NewsArticle> call, Blackhole blackhole) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        Mono<Void> response = call.doOnNext(blackhole::consume).then();
+        if (isBaseline()) {
+            response.block();
+        } else {
+            accessLog.filter(exchange, ignored -> response).block();
+        }
+        blackhole.consume(exchange);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsPage;
+import com.example.reactive_news_app.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// NewsService 조회 경로별 지연시간 (데이터 크기별)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class NewsServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private NewsService newsService;
+    private User user;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        NewsServiceFixture fixture = NewsServiceFixture.create();
+        fixture.populate(size, 42);
+        newsService = fixture.newsService();
+
+        ids = newsService.getAllNews()
+                .map(NewsArticle::id)
+                .collectList()
+                .block()
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        user = User.builder()
+                .id(1L)
+                .username("bench")
+                .preferredCategories(List.of("TECH", "SCIENCE"))
+                .build();
+    }
+
+    @Benchmark
+    public List<NewsArticle> getAllNews() {
+        return newsService.getAllNews().collectList().block();
+    }
+
+    @Benchmark
+    public NewsPage getAllNewsFirstPage() {
+        return newsService.getAllNews(null, NewsPage.DEFAULT_LIMIT).block();
+    }
+
+    @Benchmark
+    public List<NewsArticle> getNewsByCategory() {
+        return newsService.getNewsByCategory("TECH").collectList().block();
+    }
+
+    @Benchmark
+    public List<NewsArticle> searchNews() {
+        return newsService.searchNews("리액티브").collectList().block();
+    }
+
+    @Benchmark
+    public List<NewsArticle> getPopularNews() {
+        return newsService.getPopularNews(10).collectList().block();
+    }
+
+    @Benchmark
+    public List<NewsArticle> getPersonalizedNews() {
+        return newsService.getPersonalizedNews(user).collectList().block();
+    }
+
+    @Benchmark
+    public NewsArticle getNewsById() {
+        return newsService.getNewsById(ids[ThreadLocalRandom.current().nextInt(ids.length)]).block();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.cache.NewsQueryCache;
+import com.example.reactive_news_app.cluster.ClusterOutbox;
+import com.example.reactive_news_app.cluster.InProcessClusterEventBus;
+import com.example.reactive_news_app.config.ClusterProperties;
+import com.example.reactive_news_app.config.FeedProperties;
+import com.example.reactive_news_app.config.IdGeneratorProperties;
+import com.example.reactive_news_app.config.JournalProperties;
+import com.example.reactive_news_app.config.NewsStreamProperties;
+import com.example.reactive_news_app.config.PersistenceProperties;
+import com.example.reactive_news_app.config.QueryCacheProperties;
+import com.example.reactive_news_app.config.SchedulingProperties;
+import com.example.reactive_news_app.config.ViewCountProperties;
+import com.example.reactive_news_app.id.SnowflakeIdGenerator;
+import com.example.reactive_news_app.journal.Journal;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.repository.InMemoryArticleStore;
+import com.example.reactive_news_app.repository.NewsArticlePersistence;
+import com.example.reactive_news_app.scheduling.ServiceScheduler;
+import com.example.reactive_news_app.search.NewsSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Instant;
+import java.util.Random;
+
+// 스프링 컨텍스트 없이 NewsService 를 조립 (DB 저장, 클러스터 전파, 저널은 끔)
+record NewsServiceFixture(InMemoryArticleStore store, ViewCountAggregator viewCounts, NewsService newsService) {
+
+    static final String[] CATEGORIES = {"TECH", "SPORTS", "POLITICS", "ENTERTAINMENT", "SCIENCE"};
+    private static final String[] AUTHORS = {"김기자", "이기자", "박기자", "최기자", "정기자"};
+    private static final String[] WORDS = {
+            "월드컵", "결승전", "하이라이트", "정책", "발표", "영화", "개봉", "과학", "발견", "리액티브",
+            "프로그래밍", "국민", "관심", "경기", "연구", "spring", "webflux", "reactor", "netty", "java"
+    };
+
+    static NewsServiceFixture create() {
+        return create(new InMemoryArticleStore(), new SchedulingProperties());
+    }
+
+    static NewsServiceFixture create(InMemoryArticleStore store, SchedulingProperties scheduling) {
+
+        PersistenceProperties persistenceProperties = new PersistenceProperties();
+        persistenceProperties.setEnabled(false);
+        NewsArticlePersistence persistence = new NewsArticlePersistence(null, store, persistenceProperties);
+        persistence.start();
+
+        NewsQueryCache queryCache = new NewsQueryCache(new QueryCacheProperties(), new SimpleMeterRegistry());
+        ClusterOutbox clusterOutbox = new ClusterOutbox(new ClusterProperties(), new IdGeneratorProperties(),
+                new InProcessClusterEventBus("bench", 0));
+        Journal journal = new Journal(new JournalProperties());
+        // 반영 주기 없이 populate 에서 직접 flush
+        ViewCountAggregator viewCounts = new ViewCountAggregator(store, persistence, queryCache,
+                new ViewCountProperties(), clusterOutbox, journal);
+
+        NewsStreamProperties streamProperties = new NewsStreamProperties();
+        NewsService newsService = new NewsService(
+                store,
+                new NewsSearchIndex(store),
+                persistence,
+                new PersonalizedFeedService(store, new FeedProperties()),
+                new NewsBroadcaster(streamProperties, new SimpleMeterRegistry()),
+                new SnowflakeIdGenerator(0, Instant.EPOCH),
+                viewCounts,
+                queryCache,
+                clusterOutbox,
+                new ServiceScheduler(scheduling),
+                journal,
+                streamProperties);
+        return new NewsServiceFixture(store, viewCounts, newsService);
+    }
+
+    // 고정 시드로 기사 size 개를 추가로 생성 (조회수도 무작위로 올려 인기 순위를 만듦)
+    void populate(int size, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < size; i++) {
+            NewsArticle article = NewsArticle.create(sentence(random, 4), sentence(random, 12),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], AUTHORS[random.nextInt(AUTHORS.length)]);
+            NewsArticle created = newsService.createNews(article).block();
+            int views = random.nextInt(5);
+            for (int v = 0; v < views; v++) {
+                newsService.getNewsById(created.id()).block();
+            }
+        }
+        viewCounts.flush().block();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
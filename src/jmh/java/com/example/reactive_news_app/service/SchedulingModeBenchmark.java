@@ -0,0 +1,146 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.config.SchedulingProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.repository.InMemoryArticleStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+// 실행 방식별 GET /news/{id} 지연시간 분포 (결과의 p0.99 를 비교)
+// 실제 reactor-netty 서버에 HTTP 로 요청하므로 INLINE 에서 조회가 막히면 같은 이벤트 루프의 다른 요청도 함께 밀림
+// 서버 이벤트 루프는 SERVER_LOOPS 개로 고정하고, 클라이언트는 별도 이벤트 루프를 써서 서버 쪽만 재도록 함
+// blockMicros: 조회 한 건이 스레드를 막는 시간 (0 이면 메모리 조회만, 1000 은 JDBC 조회 정도)
+// burst: 한 번에 몰려드는 요청 수. boundedElastic 은 풀 크기(코어 x 10)를 넘으면 대기열에서 기다림
+// 실행: ./gradlew jmh -PjmhIncludes=SchedulingModeBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 5)
+@Threads(8)
+@Fork(1)
+public class SchedulingModeBenchmark {
+
+    private static final int SERVER_LOOPS = 4;
+
+    @Param({"INLINE", "BOUNDED_ELASTIC", "VIRTUAL"})
+    private SchedulingProperties.Mode mode;
+
+    @Param({"0", "1000"})
+    private long blockMicros;
+
+    @Param({"1", "64"})
+    private int burst;
+
+    private long[] ids;
+    private LoopResources serverLoops;
+    private LoopResources clientLoops;
+    private ConnectionProvider connections;
+    private DisposableServer server;
+    private WebClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SchedulingProperties scheduling = new SchedulingProperties();
+        scheduling.setDefaultMode(mode);
+
+        BlockingArticleStore store = new BlockingArticleStore();
+        NewsServiceFixture fixture = NewsServiceFixture.create(store, scheduling);
+        fixture.populate(1000, 42);
+        NewsService newsService = fixture.newsService();
+
+        ids = store.snapshot().stream()
+                .mapToLong(NewsArticle::id)
+                .toArray();
+        // 데이터를 채운 뒤부터 조회를 막음
+        store.blockNanos = TimeUnit.MICROSECONDS.toNanos(blockMicros);
+
+        RouterFunction<ServerResponse> routes = RouterFunctions.route(GET("/news/{id}"), request ->
+                newsService.getNewsById(Long.parseLong(request.pathVariable("id")))
+                        .flatMap(article -> ServerResponse.ok().bodyValue(article))
+                        .switchIfEmpty(ServerResponse.notFound().build()));
+        serverLoops = LoopResources.create("bench-server", 1, SERVER_LOOPS, true);
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .runOn(serverLoops)
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes)))
+                .bindNow();
+
+        // 벤치마크 스레드 수 x burst 만큼 동시에 연결할 수 있어야 연결 대기가 지연시간에 섞이지 않음
+        clientLoops = LoopResources.create("bench-client", 1, Runtime.getRuntime().availableProcessors(), true);
+        connections = ConnectionProvider.builder("bench-client")
+                .maxConnections(Math.max(64, burst * 8))
+                .build();
+        client = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.port())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections).runOn(clientLoops)))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.disposeNow();
+        connections.disposeLater().block(Duration.ofSeconds(5));
+        clientLoops.disposeLater().block(Duration.ofSeconds(5));
+        serverLoops.disposeLater().block(Duration.ofSeconds(5));
+    }
+
+    @Benchmark
+    public List<String> getNewsById() {
+        return Flux.range(0, burst)
+                .flatMap(i -> client.get()
+                        .uri("/news/{id}", ids[ThreadLocalRandom.current().nextInt(ids.length)])
+                        .retrieve()
+                        .bodyToMono(String.class), burst)
+                .collectList()
+                .block();
+    }
+
+    // 조회마다 blockNanos 만큼 스레드를 막는 저장소
+    static class BlockingArticleStore extends InMemoryArticleStore {
+
+        private volatile long blockNanos;
+
+        @Override
+        public Optional<NewsArticle> findById(long id) {
+            if (blockNanos > 0) {
+                LockSupport.parkNanos(blockNanos);
+            }
+            return super.findById(id);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.reactive_news_app.load;
+
+// 유휴 연결 connections 개를 유지할 때 늘어난 힙/Netty 다이렉트 메모리 (연결당, 같은 JVM 의 클라이언트 쪽 포함)
+public record ConnectionScalingResult(String transport, int connections, long connectMillis,
+                                      long heapBytesPerConnection, long directBytesPerConnection) {
+}
@@ -0,0 +1,163 @@
+package com.example.reactive_news_app.load;
+
+import com.example.reactive_news_app.ReactiveNewsAppApplication;
+import com.example.reactive_news_app.handler.NewsWebSocketHandler;
+import com.example.reactive_news_app.model.NewsEvent;
+import com.example.reactive_news_app.service.NewsBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.WebsocketClientSpec;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+// 실시간 피드 유휴 연결 하나가 차지하는 메모리를 SSE / WebSocket(JSON, CBOR) / RSocket(CBOR) 별로 비교
+// 클라이언트도 같은 JVM 에서 돌기 때문에 결과는 서버 + 클라이언트 양쪽 합계 (전송 방식 간 상대 비교용)
+// 예) ./gradlew connectionScaling -PconnectionScalingArgs="--connections=5000"  (ulimit -n 이 연결 수의 2배 이상이어야 함)
+@Slf4j
+public class ConnectionScalingRunner {
+
+    private static final String SUBSCRIBE = "{\"type\":\"SUBSCRIBE\"}";
+    private static final long SETTLE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int connections = 2000;
+        Path output = Path.of("build/load-test/connections-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        for (String arg : args) {
+            if (arg.startsWith("--connections=")) {
+                connections = Integer.parseInt(arg.substring("--connections=".length()));
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(arg.substring("--output=".length()));
+            } else {
+                throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+        }
+
+        // 측정 중 새 기사가 발행되지 않도록 생성 주기를 길게, 이전 실행 상태를 복구하지 않도록 저널은 끔
+        // 스트림 한도(max-streams)보다 많은 연결도 받도록 과부하 보호는 끔
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ReactiveNewsAppApplication.class)
+                .properties("server.port=0", "news.persistence.enabled=false", "news.stream.interval=1h",
+                        "news.access-log.enabled=false", "news.journal.enabled=false", "news.overload.enabled=false")
+                .run();
+
+        try {
+            int port = ((ReactiveWebServerApplicationContext) context).getWebServer().getPort();
+            NewsBroadcaster broadcaster = context.getBean(NewsBroadcaster.class);
+            RSocketStrategies strategies = context.getBean(RSocketStrategies.class);
+            IntSupplier subscribers = broadcaster::getSubscriberCount;
+
+            HttpClient client = HttpClient.newConnection();
+            URI sse = URI.create("http://localhost:" + port + "/api/news/stream");
+            URI websocket = URI.create("ws://localhost:" + port + "/ws/news");
+            URI rsocket = URI.create("ws://localhost:" + port + "/rsocket");
+
+            List<ConnectionScalingResult> results = new ArrayList<>();
+            results.add(measure("sse", connections, subscribers, () -> client
+                    .headers(headers -> headers.set(HttpHeaderNames.ACCEPT, "text/event-stream"))
+                    .get()
+                    .uri(sse)
+                    .responseContent()
+                    .subscribe()));
+            results.add(measure("websocket.json", connections, subscribers,
+                    () -> openWebSocket(client, websocket, NewsWebSocketHandler.JSON_PROTOCOL)));
+            results.add(measure("websocket.cbor", connections, subscribers,
+                    () -> openWebSocket(client, websocket, NewsWebSocketHandler.CBOR_PROTOCOL)));
+            results.add(measure("rsocket.cbor", connections, subscribers, () -> {
+                RSocketRequester requester = RSocketRequester.builder()
+                        .rsocketStrategies(strategies)
+                        .dataMimeType(MediaType.APPLICATION_CBOR)
+                        .websocket(rsocket);
+                Disposable stream = requester.route("news.stream")
+                        .retrieveFlux(NewsEvent.class)
+                        .subscribe();
+                return Disposables.composite(stream, requester::dispose);
+            }));
+
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), results);
+            log.info("연결 스케일링 결과 저장: {}", output.toAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Disposable openWebSocket(HttpClient client, URI uri, String protocol) {
+        return client.websocket(WebsocketClientSpec.builder().protocols(protocol).build())
+                .uri(uri)
+                .handle((in, out) -> out.sendString(Mono.just(SUBSCRIBE))
+                        .then()
+                        .thenMany(in.receive().then()))
+                .subscribe();
+    }
+
+    private static ConnectionScalingResult measure(String transport, int connections, IntSupplier subscribers,
+                                                   Supplier<Disposable> open) throws InterruptedException {
+        long heapBefore = settledHeap();
+        long directBefore = PooledByteBufAllocator.DEFAULT.metric().usedDirectMemory();
+
+        long start = System.nanoTime();
+        List<Disposable> opened = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            opened.add(open.get());
+        }
+        awaitSubscribers(transport, subscribers, connections);
+        long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        long heapBytes = settledHeap() - heapBefore;
+        long directBytes = PooledByteBufAllocator.DEFAULT.metric().usedDirectMemory() - directBefore;
+
+        opened.forEach(Disposable::dispose);
+        awaitSubscribers(transport, subscribers, 0);
+
+        ConnectionScalingResult result = new ConnectionScalingResult(transport, connections, connectMillis,
+                heapBytes / connections, directBytes / connections);
+        log.info("{}: 연결 {}개, 연결당 힙 {} B, 다이렉트 {} B ({}ms)", transport, connections,
+                result.heapBytesPerConnection(), result.directBytesPerConnection(), connectMillis);
+        return result;
+    }
+
+    private static void awaitSubscribers(String transport, IntSupplier subscribers, int expected)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + SETTLE_TIMEOUT_MILLIS;
+        while (subscribers.getAsInt() != expected) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException(transport + ": 구독자 수가 " + expected + " 에 도달하지 않음 (현재 "
+                        + subscribers.getAsInt() + ")");
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    // GC 를 몇 차례 돌린 뒤 살아 있는 힙 크기
+    private static long settledHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
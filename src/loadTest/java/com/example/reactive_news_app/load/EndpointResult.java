@@ -0,0 +1,19 @@
+package com.example.reactive_news_app.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+// 지연시간은 밀리초, 처리량은 초당 요청 수, nonSuccess 는 2xx 가 아닌 응답의 상태 코드별 건수
+public record EndpointResult(String name, String path, long requests, long errors, Map<Integer, Long> nonSuccess,
+                             double throughput, double p50Millis, double p99Millis, double maxMillis) {
+
+    static EndpointResult of(String name, String path, Histogram micros, long errors, Map<Integer, Long> nonSuccess,
+                             double seconds) {
+        long requests = micros.getTotalCount();
+        return new EndpointResult(name, path, requests, errors, nonSuccess, requests / seconds,
+                micros.getValueAtPercentile(50) / 1000.0,
+                micros.getValueAtPercentile(99) / 1000.0,
+                micros.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.reactive_news_app.load;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 고정된 수의 작업자가 응답을 받자마자 다음 요청을 보내는 closed-loop 부하
+public class HttpLoadGenerator {
+
+    private final String baseUrl;
+    private final HttpClient client;
+
+    public HttpLoadGenerator(String baseUrl, int concurrency) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.create(ConnectionProvider.builder("load")
+                        .maxConnections(concurrency)
+                        .pendingAcquireMaxCount(-1)
+                        .build())
+                .baseUrl(baseUrl);
+    }
+
+    public Mono<String> get(String path) {
+        return client.headers(headers -> headers.set(HttpHeaderNames.ACCEPT, "application/json"))
+                .get()
+                .uri(path)
+                .responseSingle((response, body) -> body.asString().defaultIfEmpty(""));
+    }
+
+    // 본문과 함께 응답 헤더 하나를 읽음 (없으면 null)
+    public Mono<Page> getPage(String path, String header) {
+        return client.headers(headers -> headers.set(HttpHeaderNames.ACCEPT, "application/json"))
+                .get()
+                .uri(path)
+                .responseSingle((response, body) -> body.asString()
+                        .defaultIfEmpty("")
+                        .map(text -> new Page(text, response.responseHeaders().get(header))));
+    }
+
+    public record Page(String body, String header) {
+    }
+
+    public Mono<String> post(String path, String json) {
+        return client.headers(headers -> headers
+                        .set(HttpHeaderNames.ACCEPT, "application/json")
+                        .set(HttpHeaderNames.CONTENT_TYPE, "application/json"))
+                .post()
+                .uri(path)
+                .send(ByteBufFlux.fromString(Mono.just(json)))
+                .responseSingle((response, body) -> body.asString().defaultIfEmpty(""));
+    }
+
+    public EndpointResult run(String name, Supplier<String> path, int concurrency, Duration warmup, Duration duration) {
+        // 워밍업 구간은 별도 히스토그램에 기록하고 버림
+        measure(path, concurrency, warmup, new ConcurrentHistogram(3), new LongAdder(), new ConcurrentHashMap<>());
+
+        Histogram micros = new ConcurrentHistogram(3);
+        LongAdder errors = new LongAdder();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        long elapsed = measure(path, concurrency, duration, micros, errors, statuses);
+        Map<Integer, Long> nonSuccess = new TreeMap<>();
+        statuses.forEach((status, count) -> nonSuccess.put(status, count.sum()));
+        return EndpointResult.of(name, path.get(), micros, errors.sum(), nonSuccess, elapsed / 1_000_000_000.0);
+    }
+
+    public SseResult sse(String path, int subscribers, Duration hold) {
+        HttpClient sseClient = HttpClient.create(ConnectionProvider.builder("sse")
+                        .maxConnections(subscribers)
+                        .pendingAcquireMaxCount(-1)
+                        .pendingAcquireTimeout(hold)
+                        .build())
+                .baseUrl(baseUrl)
+                .headers(headers -> headers.set(HttpHeaderNames.ACCEPT, "text/event-stream"));
+
+        Sinks.Empty<Void> release = Sinks.empty();
+        AtomicInteger receiving = new AtomicInteger();
+        LongAdder failures = new LongAdder();
+        Histogram firstEvent = new ConcurrentHistogram(3);
+
+        Flux<Void> connections = Flux.range(0, subscribers)
+                .flatMap(i -> {
+                    long start = System.nanoTime();
+                    AtomicBoolean first = new AtomicBoolean();
+                    return sseClient.get()
+                            .uri(path)
+                            .responseContent()
+                            .asString()
+                            .doOnNext(chunk -> {
+                                if (first.compareAndSet(false, true)) {
+                                    receiving.incrementAndGet();
+                                    firstEvent.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                                }
+                            })
+                            .takeUntilOther(release.asMono())
+                            .onErrorResume(error -> {
+                                failures.increment();
+                                return Mono.empty();
+                            })
+                            .then();
+                }, subscribers);
+
+        // 모든 구독을 hold 동안 동시에 유지한 뒤 한 번에 해제
+        Mono.delay(hold).subscribe(tick -> release.tryEmitEmpty());
+        connections.blockLast(hold.plusSeconds(30));
+
+        return new SseResult(path, subscribers, receiving.get(), failures.sum(),
+                firstEvent.getValueAtPercentile(50) / 1000.0,
+                firstEvent.getValueAtPercentile(99) / 1000.0);
+    }
+
+    private long measure(Supplier<String> path, int concurrency, Duration duration, Histogram micros, LongAdder errors,
+                         Map<Integer, LongAdder> statuses) {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        Flux.range(0, concurrency)
+                .flatMap(worker -> Mono.defer(() -> timed(path.get(), micros, errors, statuses))
+                        .repeat(() -> System.nanoTime() < deadline), concurrency)
+                .blockLast();
+
+        return System.nanoTime() - start;
+    }
+
+    private Mono<Integer> timed(String path, Histogram micros, LongAdder errors, Map<Integer, LongAdder> statuses) {
+        long start = System.nanoTime();
+        return client.headers(headers -> headers.set(HttpHeaderNames.ACCEPT, "application/json"))
+                .get()
+                .uri(path)
+                .responseSingle((response, body) -> body.asByteArray()
+                        .defaultIfEmpty(new byte[0])
+                        .thenReturn(response.status().code()))
+                .doOnNext(status -> {
+                    micros.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                    // 과부하 거절(503) 같은 응답이 처리량에 섞이지 않았는지 보이도록 상태 코드별로 셈
+                    if (status < 200 || status >= 300) {
+                        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+                    }
+                    if (status >= 400) {
+                        errors.increment();
+                    }
+                })
+                .onErrorResume(error -> {
+                    errors.increment();
+                    return Mono.empty();
+                });
+    }
+}
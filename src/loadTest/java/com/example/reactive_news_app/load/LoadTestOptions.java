@@ -0,0 +1,61 @@
+package com.example.reactive_news_app.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// --key=value 형식의 실행 인자 (base-url 이 없으면 애플리케이션을 직접 띄움)
+public record LoadTestOptions(String baseUrl, int articles, int concurrency, Duration warmup, Duration duration,
+                              int sseSubscribers, Duration sseHold, Logging logging, Path output) {
+
+    // 직접 띄우는 애플리케이션의 로그 설정 (--logging=current | debug-baseline)
+    // DEBUG_BASELINE 은 변경 전 application.yml 처럼 reactor.netty / WebFlux 를 DEBUG 로 두고 접근 로그는 끔
+    public enum Logging {
+        CURRENT(),
+        DEBUG_BASELINE("logging.level.reactor.netty=DEBUG",
+                "logging.level.org.springframework.web.reactive=DEBUG",
+                "news.access-log.enabled=false");
+
+        private final List<String> properties;
+
+        Logging(String... properties) {
+            this.properties = List.of(properties);
+        }
+
+        public List<String> properties() {
+            return properties;
+        }
+
+        static Logging parse(String value) {
+            return valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        return new LoadTestOptions(
+                values.get("base-url"),
+                Integer.parseInt(values.getOrDefault("articles", "1000")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "5"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "15"))),
+                Integer.parseInt(values.getOrDefault("sse-subscribers", "1000")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("sse-hold-seconds", "10"))),
+                Logging.parse(values.getOrDefault("logging", "current")),
+                Path.of(values.getOrDefault("output", "build/load-test/result-" + timestamp + ".json")));
+    }
+}
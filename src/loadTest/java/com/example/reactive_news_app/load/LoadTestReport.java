@@ -0,0 +1,7 @@
+package com.example.reactive_news_app.load;
+
+import java.util.List;
+
+public record LoadTestReport(String startedAt, String baseUrl, int articles, int concurrency, long durationSeconds,
+                             LoadTestOptions.Logging logging, List<EndpointResult> endpoints, List<SseResult> sse) {
+}
@@ -0,0 +1,146 @@
+package com.example.reactive_news_app.load;
+
+import com.example.reactive_news_app.ReactiveNewsAppApplication;
+import com.example.reactive_news_app.model.NewsPage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// 로컬에서 애플리케이션을 띄우고 어노테이션/함수형 라우트와 SSE 에 부하를 건 뒤 결과를 JSON 으로 저장
+// 예) ./gradlew loadTest -PloadTestArgs="--articles=10000 --concurrency=128 --duration-seconds=30"
+// 변경 전 로그 설정과 비교: -PloadTestArgs="--logging=debug-baseline"
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String[] CATEGORIES = {"TECH", "SPORTS", "POLITICS", "ENTERTAINMENT", "SCIENCE"};
+    private static final String[] WORDS = {"월드컵", "결승전", "정책", "영화", "과학", "리액티브", "spring", "webflux", "netty"};
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            // 저널을 켜 두면 이전 실행에서 넣은 기사가 복구되어 실행마다 데이터 크기가 달라짐
+            // 과부하 보호가 켜져 있으면 한도를 넘는 요청이 503 으로 빨리 끝나 처리량이 부풀려짐
+            List<String> properties = new ArrayList<>(List.of("server.port=0", "news.persistence.enabled=false",
+                    "news.journal.enabled=false", "news.overload.enabled=false"));
+            properties.addAll(options.logging().properties());
+            context = new SpringApplicationBuilder(ReactiveNewsAppApplication.class)
+                    .properties(properties.toArray(String[]::new))
+                    .run();
+            int port = ((ReactiveWebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+        } else if (options.logging() != LoadTestOptions.Logging.CURRENT) {
+            log.warn("--base-url 을 지정하면 --logging 은 적용되지 않습니다 (대상 서버의 로그 설정을 그대로 사용)");
+        }
+
+        try {
+            HttpLoadGenerator generator = new HttpLoadGenerator(baseUrl, options.concurrency());
+            String startedAt = Instant.now().toString();
+
+            seed(generator, objectMapper, options.articles());
+            long[] ids = articleIds(generator, objectMapper);
+            log.info("부하 테스트 시작: {} (기사 {}개, 동시 요청 {}, 로그 {})", baseUrl, ids.length, options.concurrency(),
+                    options.logging());
+
+            List<EndpointResult> endpoints = new ArrayList<>();
+            for (String prefix : List.of("/api/news", "/functional/news")) {
+                // limit 이 없으면 기본 크기의 첫 페이지
+                endpoints.add(run(generator, options, prefix, "all", () -> prefix));
+                endpoints.add(run(generator, options, prefix, "page", () -> prefix + "?limit=20"));
+                endpoints.add(run(generator, options, prefix, "byId",
+                        () -> prefix + "/" + ids[ThreadLocalRandom.current().nextInt(ids.length)]));
+                endpoints.add(run(generator, options, prefix, "category", () -> prefix + "/category/TECH"));
+                endpoints.add(run(generator, options, prefix, "search", () -> prefix + "/search?keyword=webflux&limit=20"));
+                endpoints.add(run(generator, options, prefix, "popular", () -> prefix + "/popular?limit=10"));
+            }
+            endpoints.add(run(generator, options, "/api/news", "personalized", () -> "/api/news/personalized/1"));
+
+            List<SseResult> sse = List.of(
+                    generator.sse("/api/news/stream", options.sseSubscribers(), options.sseHold()),
+                    generator.sse("/functional/news/stream", options.sseSubscribers(), options.sseHold()));
+
+            LoadTestReport report = new LoadTestReport(startedAt, baseUrl, ids.length, options.concurrency(),
+                    options.duration().toSeconds(), options.logging(), endpoints, sse);
+            Files.createDirectories(options.output().toAbsolutePath().getParent());
+            objectMapper.writeValue(options.output().toFile(), report);
+            log.info("부하 테스트 결과 저장: {}", options.output().toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static EndpointResult run(HttpLoadGenerator generator, LoadTestOptions options, String prefix,
+                                      String name, Supplier<String> path) {
+        String label = (prefix.startsWith("/api") ? "annotated." : "functional.") + name;
+        EndpointResult result = generator.run(label, path, options.concurrency(), options.warmup(), options.duration());
+        log.info("{}: {} req/s, p99 {}ms, 오류 {}, 2xx 외 응답 {}", label, Math.round(result.throughput()),
+                result.p99Millis(), result.errors(), result.nonSuccess());
+        return result;
+    }
+
+    // 요청한 수만큼 기사를 POST 로 생성
+    private static void seed(HttpLoadGenerator generator, ObjectMapper objectMapper, int articles) {
+        Random random = new Random(42);
+        List<String> bodies = new ArrayList<>(articles);
+        for (int i = 0; i < articles; i++) {
+            bodies.add(objectMapper.createObjectNode()
+                    .put("title", sentence(random, 4))
+                    .put("content", sentence(random, 12))
+                    .put("category", CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .put("author", "부하테스트")
+                    .toString());
+        }
+
+        Flux.fromIterable(bodies)
+                .flatMap(body -> generator.post("/api/news", body), 32)
+                .blockLast();
+    }
+
+    // 목록은 페이지 단위이므로 다음 커서를 따라가며 모든 기사 ID 를 모음
+    private static long[] articleIds(HttpLoadGenerator generator, ObjectMapper objectMapper) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            String path = "/api/news?limit=" + NewsPage.MAX_LIMIT
+                    + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            HttpLoadGenerator.Page page = generator.getPage(path, NewsPage.NEXT_CURSOR_HEADER).block();
+            for (JsonNode article : objectMapper.readTree(page.body())) {
+                ids.add(article.get("id").asLong());
+            }
+            cursor = page.header();
+        } while (cursor != null);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.reactive_news_app.load;
+
+// requested 개의 SSE 구독 중 첫 이벤트까지 받은 구독 수와 첫 이벤트 도착 시간(밀리초)
+public record SseResult(String path, int requested, int receiving, long failures,
+                        double firstEventP50Millis, double firstEventP99Millis) {
+}
@@ -2,8 +2,10 @@ package com.example.reactive_news_app;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class ReactiveNewsAppApplication {
 
 	public static void main(String[] args) {
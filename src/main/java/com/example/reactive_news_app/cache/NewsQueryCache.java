@@ -0,0 +1,139 @@
+package com.example.reactive_news_app.cache;
+
+import com.example.reactive_news_app.config.QueryCacheProperties;
+import com.example.reactive_news_app.model.NewsPage;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 조회 결과(NewsPage) 캐시. 같은 키로 동시에 들어온 요청은 하나의 계산 결과를 함께 기다림
+// 범위(scope)마다 세대 번호를 두고, 무효화하면 세대를 올려 진행 중이던 계산 결과도 다시 읽히지 않게 함
+// 지난 세대 항목은 범위별 키 목록으로 바로 비움 (쓰기 경로에서 캐시 전체 키를 훑지 않도록)
+// 카테고리 범위는 요청 경로에서 오므로, 캐시에 남은 키가 없는 범위는 지워 범위 수가 캐시 크기를 넘지 않게 함
+@Component
+@Slf4j
+public class NewsQueryCache {
+
+    public static final String ALL = "all";
+    public static final String SEARCH = "search";
+    public static final String POPULAR = "popular";
+    private static final String CATEGORY_PREFIX = "category:";
+
+    private final QueryCacheProperties properties;
+    private final AsyncCache<CacheKey, NewsPage> cache;
+    private final ConcurrentHashMap<String, Scope> scopes = new ConcurrentHashMap<>();
+    // 세대 번호는 모든 범위가 함께 쓰는 증가값에서 받으므로, 지웠다가 다시 만든 범위도 이전 세대 키를 다시 읽지 않음
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    public NewsQueryCache(QueryCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxArticles())
+                .weigher((CacheKey key, NewsPage page) -> Math.max(1, page.items().size()))
+                .expireAfterWrite(properties.getTtl())
+                .removalListener((CacheKey key, NewsPage page, RemovalCause cause) -> {
+                    if (key != null) {
+                        Scope scope = scopes.get(key.scope());
+                        if (scope != null && scope.keys.remove(key)) {
+                            pruneIfEmpty(key.scope(), scope);
+                        }
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "news.query");
+    }
+
+    public static String category(String category) {
+        return CATEGORY_PREFIX + (category == null ? "" : category.toUpperCase(Locale.ROOT));
+    }
+
+    public Mono<NewsPage> get(String scope, String args, Supplier<Mono<NewsPage>> loader) {
+        if (!properties.isEnabled()) {
+            return Mono.defer(loader);
+        }
+
+        return Mono.defer(() -> {
+            Scope state = scopes.computeIfAbsent(scope, name -> new Scope(generationSequence.incrementAndGet()));
+            CacheKey key = new CacheKey(scope, state.generation.get(), args);
+            state.keys.add(key);
+            // 한 구독자가 취소해도 함께 기다리는 다른 요청의 계산은 취소하지 않음
+            return Mono.fromFuture(cache.get(key, (k, executor) -> loader.get().toFuture()), true);
+        });
+    }
+
+    // 새 기사는 전체 목록, 해당 카테고리, 검색 결과에만 영향을 줌
+    public void invalidateArticle(String category) {
+        invalidate(ALL);
+        invalidate(SEARCH);
+        if (category != null) {
+            invalidate(category(category));
+        }
+    }
+
+    public void invalidatePopular() {
+        invalidate(POPULAR);
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    // 범위별 상태 수 (캐시된 키가 하나라도 있거나 계산 중인 범위)
+    int scopeCount() {
+        return scopes.size();
+    }
+
+    // 한 번도 읽지 않은 범위는 캐시된 것이 없으므로 상태를 만들지 않음
+    private void invalidate(String scope) {
+        Scope state = scopes.get(scope);
+        if (state == null) {
+            return;
+        }
+
+        long stale = state.generation.getAndSet(generationSequence.incrementAndGet());
+        Iterator<CacheKey> keys = state.keys.iterator();
+        while (keys.hasNext()) {
+            CacheKey key = keys.next();
+            if (key.generation() <= stale) {
+                keys.remove();
+                cache.synchronous().invalidate(key);
+            }
+        }
+        pruneIfEmpty(scope, state);
+    }
+
+    // 지우는 사이에 키가 추가되면 그 키는 목록에서 빠지지만, 다시 만든 범위는 더 큰 세대로 시작하므로 이후 요청이 읽지 않고
+    // 크기/시간 한도로 캐시에서 사라짐
+    private void pruneIfEmpty(String scope, Scope state) {
+        if (state.keys.isEmpty()) {
+            scopes.remove(scope, state);
+        }
+    }
+
+    private static final class Scope {
+        private final AtomicLong generation;
+        // 캐시에 들어간 키 (정확성은 세대 번호가 보장하며, 이 목록은 메모리를 일찍 돌려받기 위한 용도)
+        private final Set<CacheKey> keys = ConcurrentHashMap.newKeySet();
+
+        private Scope(long generation) {
+            this.generation = new AtomicLong(generation);
+        }
+    }
+
+    private record CacheKey(String scope, long generation, String args) {
+    }
+}
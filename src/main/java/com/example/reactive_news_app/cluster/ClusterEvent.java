@@ -0,0 +1,81 @@
+package com.example.reactive_news_app.cluster;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+// 노드 사이에 주고받는 메시지
+// ARTICLES/VIEWS/USERS 는 보낸 노드(origin)의 기동 시각(epoch)별로 1부터 이어지는 순서 번호(seq)를 가짐
+// HEARTBEAT 은 보낸 노드의 현재 순서 번호, SNAPSHOT 의 마지막 묶음은 스냅샷에 포함된 노드별 순서 번호(versions)를 가짐
+// 조회수는 기사별로 노드(기동 단위, replica)마다 센 누적값(G-counter)으로 주고받음
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClusterEvent(Type type,
+                           int origin,
+                           long epoch,
+                           long seq,
+                           int target,
+                           boolean live,
+                           List<NewsArticle> articles,
+                           Map<Long, Long> views,
+                           Map<Long, Map<String, Long>> counters,
+                           List<User> users,
+                           Map<Integer, Version> versions) {
+
+    public static final int ANY = -1;
+
+    public enum Type {
+        ARTICLES, VIEWS, USERS, HEARTBEAT, SNAPSHOT_REQUEST, SNAPSHOT,
+        // TCP 연결을 받은 노드가 자기 노드 번호를 알려줌 (버스 안에서만 사용)
+        HELLO
+    }
+
+    public record Version(long epoch, long seq) {
+    }
+
+    // live: 보낸 노드의 실시간 스트림에도 발행된 기사
+    static ClusterEvent articles(int origin, long epoch, long seq, List<NewsArticle> articles, boolean live) {
+        return new ClusterEvent(Type.ARTICLES, origin, epoch, seq, ANY, live, articles, null, null, null, null);
+    }
+
+    // 기사별로 보낸 노드(이번 기동)가 센 누적 조회수
+    static ClusterEvent views(int origin, long epoch, long seq, Map<Long, Long> counts) {
+        return new ClusterEvent(Type.VIEWS, origin, epoch, seq, ANY, false, null, counts, null, null, null);
+    }
+
+    static ClusterEvent users(int origin, long epoch, long seq, List<User> users) {
+        return new ClusterEvent(Type.USERS, origin, epoch, seq, ANY, false, null, null, null, users, null);
+    }
+
+    static ClusterEvent heartbeat(int origin, long epoch, long seq) {
+        return new ClusterEvent(Type.HEARTBEAT, origin, epoch, seq, ANY, false, null, null, null, null, null);
+    }
+
+    static ClusterEvent snapshotRequest(int origin, long epoch, int target) {
+        return new ClusterEvent(Type.SNAPSHOT_REQUEST, origin, epoch, 0, target, false, null, null, null, null, null);
+    }
+
+    // seq 는 1부터 매기는 묶음 번호. versions 가 있으면 마지막 묶음
+    // 기사의 조회수는 카운터를 뺀 값이고, counters 는 묶음에 든 기사의 replica 별 카운터
+    static ClusterEvent snapshot(int origin, long epoch, int target, long chunk, List<NewsArticle> articles,
+                                 Map<Long, Map<String, Long>> counters, List<User> users,
+                                 Map<Integer, Version> versions) {
+        return new ClusterEvent(Type.SNAPSHOT, origin, epoch, chunk, target, false, articles, null, counters, users,
+                versions);
+    }
+
+    static ClusterEvent hello(int origin) {
+        return new ClusterEvent(Type.HELLO, origin, 0, 0, ANY, false, null, null, null, null, null);
+    }
+
+    // 조회수 카운터의 주인. 다시 뜬 노드는 카운터를 0 부터 새로 세므로 기동 시각까지 포함
+    public static String replica(int origin, long epoch) {
+        return origin + "-" + epoch;
+    }
+
+    boolean isFor(int nodeId) {
+        return target == ANY || target == nodeId;
+    }
+}
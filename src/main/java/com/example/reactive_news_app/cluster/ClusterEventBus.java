@@ -0,0 +1,26 @@
+package com.example.reactive_news_app.cluster;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+// 노드 사이 이벤트 전달 방식. 전달을 보장하지 않으며 (연결이 끊기거나 대기열이 넘치면 버림)
+// 빠진 이벤트는 받는 쪽이 순서 번호로 알아채고 스냅샷으로 복구
+public interface ClusterEventBus {
+
+    // 다른 노드가 보낸 이벤트를 handler 로 넘김 (자신이 보낸 것은 제외)
+    // handler 가 끝나야 다음 이벤트를 읽으므로 반영이 밀리면 수신도 멈추고, 보내는 쪽 대기열에서 기다림
+    void start(Function<ClusterEvent, Mono<Void>> handler);
+
+    void stop();
+
+    // 연결된 모든 노드에 전송 (호출 스레드를 막지 않음)
+    void send(ClusterEvent event);
+
+    // target 노드에만 전송. 아직 어느 연결이 target 인지 모르면 모든 노드에 보내고 받는 쪽이 target 을 보고 버림
+    void send(int target, ClusterEvent event);
+
+    int getPeerCount();
+
+    long getDroppedCount();
+}
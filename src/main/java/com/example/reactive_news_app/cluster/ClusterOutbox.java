@@ -0,0 +1,92 @@
+package com.example.reactive_news_app.cluster;
+
+import com.example.reactive_news_app.config.ClusterProperties;
+import com.example.reactive_news_app.config.IdGeneratorProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// 이 노드에서 생긴 변경에 순서 번호를 붙여 다른 노드로 보냄 (클러스터를 끄면 아무것도 하지 않음)
+// 변경을 로컬에 반영한 뒤 호출해야 스냅샷의 순서 번호와 내용이 어긋나지 않음
+@Component
+public class ClusterOutbox {
+
+    private final ClusterProperties properties;
+    private final ClusterEventBus bus;
+    private final int nodeId;
+    // 기동할 때마다 달라지므로 다른 노드가 재시작을 알아챌 수 있음
+    private final long epoch = System.currentTimeMillis();
+    private final LongAdder sentCount = new LongAdder();
+
+    private long seq;
+
+    public ClusterOutbox(ClusterProperties properties, IdGeneratorProperties idProperties, ClusterEventBus bus) {
+        this.properties = properties;
+        this.bus = bus;
+        this.nodeId = (int) idProperties.getNodeId();
+    }
+
+    public void publishArticles(List<NewsArticle> articles, boolean live) {
+        if (properties.isEnabled() && !articles.isEmpty()) {
+            synchronized (this) {
+                send(ClusterEvent.articles(nodeId, epoch, ++seq, List.copyOf(articles), live));
+            }
+        }
+    }
+
+    // 기사별로 이 노드가 이번 기동에서 센 누적 조회수
+    public void publishViewCounts(Map<Long, Long> counts) {
+        if (properties.isEnabled() && !counts.isEmpty()) {
+            synchronized (this) {
+                send(ClusterEvent.views(nodeId, epoch, ++seq, Map.copyOf(counts)));
+            }
+        }
+    }
+
+    public void publishUser(User user) {
+        if (properties.isEnabled()) {
+            synchronized (this) {
+                send(ClusterEvent.users(nodeId, epoch, ++seq, List.of(user)));
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // 이 노드가 센 조회수 카운터의 이름
+    public String getReplica() {
+        return ClusterEvent.replica(nodeId, epoch);
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public synchronized long getSequence() {
+        return seq;
+    }
+
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    // 이벤트와 같은 잠금 안에서 보내야 받는 쪽에서 하트비트가 이벤트를 앞지르지 않음
+    synchronized void sendHeartbeat() {
+        bus.send(ClusterEvent.heartbeat(nodeId, epoch, seq));
+    }
+
+    private void send(ClusterEvent event) {
+        bus.send(event);
+        sentCount.increment();
+    }
+}
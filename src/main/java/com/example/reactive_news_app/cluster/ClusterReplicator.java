@@ -0,0 +1,233 @@
+package com.example.reactive_news_app.cluster;
+
+import com.example.reactive_news_app.cluster.ClusterEvent.Version;
+import com.example.reactive_news_app.config.ClusterProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+import com.example.reactive_news_app.repository.ArticleStore;
+import com.example.reactive_news_app.service.NewsService;
+import com.example.reactive_news_app.service.UserService;
+import com.example.reactive_news_app.service.ViewCountAggregator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 다른 노드의 변경을 이 노드의 저장소/색인/피드/스트림에 반영 (결과적 일관성)
+// 빠진 이벤트가 보이거나 늦게 합류하면 해당 노드에 스냅샷을 요청해 따라잡음
+@Service
+@Slf4j
+public class ClusterReplicator {
+
+    private final ClusterProperties properties;
+    private final ClusterEventBus bus;
+    private final ClusterOutbox outbox;
+    private final ArticleStore articleStore;
+    private final NewsService newsService;
+    private final UserService userService;
+    private final ViewCountAggregator viewCounts;
+
+    private final SequenceTracker tracker = new SequenceTracker();
+    // 스냅샷을 요청한 노드와 요청 시각 (마지막 묶음을 받으면 지움)
+    private final Map<Integer, Long> pendingSnapshots = new ConcurrentHashMap<>();
+    // 요청한 스냅샷의 받은 묶음 수 (중간 묶음이 버려졌으면 반영 완료로 보지 않음)
+    private final Map<Integer, Integer> receivedChunks = new HashMap<>();
+
+    private final LongAdder appliedCount = new LongAdder();
+    private final LongAdder duplicateCount = new LongAdder();
+    private final LongAdder gapCount = new LongAdder();
+    private final LongAdder snapshotCount = new LongAdder();
+
+    private Scheduler applyScheduler;
+    private Disposable heartbeats;
+
+    public ClusterReplicator(ClusterProperties properties, ClusterEventBus bus, ClusterOutbox outbox,
+                             ArticleStore articleStore, NewsService newsService, UserService userService,
+                             ViewCountAggregator viewCounts) {
+        this.properties = properties;
+        this.bus = bus;
+        this.outbox = outbox;
+        this.articleStore = articleStore;
+        this.newsService = newsService;
+        this.userService = userService;
+        this.viewCounts = viewCounts;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        // 받은 이벤트는 한 스레드에서 순서대로 반영하고, 반영이 끝나야 버스가 다음 이벤트를 넘김
+        // (반영이 밀리면 전송 쪽 대기열이 차서 넘친 만큼 버려지고, 빠진 부분은 스냅샷으로 채움)
+        applyScheduler = Schedulers.newSingle("cluster-apply");
+        bus.start(event -> event.isFor(outbox.getNodeId())
+                ? Mono.fromRunnable(() -> onEvent(event)).subscribeOn(applyScheduler).then()
+                : Mono.empty());
+        heartbeats = Flux.interval(properties.getHeartbeatInterval())
+                .subscribe(tick -> outbox.sendHeartbeat());
+
+        log.info("클러스터 모드 시작: 노드={}, 전송={}", outbox.getNodeId(), properties.getTransport());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeats != null) {
+            heartbeats.dispose();
+        }
+        bus.stop();
+        if (applyScheduler != null) {
+            applyScheduler.dispose();
+        }
+    }
+
+    public int getPeerCount() {
+        return bus.getPeerCount();
+    }
+
+    public int getOriginCount() {
+        return tracker.getOriginCount();
+    }
+
+    public long getAppliedCount() {
+        return appliedCount.sum();
+    }
+
+    public long getDuplicateCount() {
+        return duplicateCount.sum();
+    }
+
+    public long getGapCount() {
+        return gapCount.sum();
+    }
+
+    public long getSnapshotCount() {
+        return snapshotCount.sum();
+    }
+
+    void onEvent(ClusterEvent event) {
+        try {
+            switch (event.type()) {
+                case ARTICLES, VIEWS, USERS -> onSequenced(event);
+                case HEARTBEAT -> {
+                    if (tracker.isBehind(event.origin(), event.epoch(), event.seq())) {
+                        requestSnapshot(event.origin());
+                    }
+                }
+                case SNAPSHOT_REQUEST -> sendSnapshot(event.origin());
+                case SNAPSHOT -> applySnapshot(event);
+            }
+        } catch (RuntimeException e) {
+            log.error("클러스터 이벤트 반영 실패: {} (노드={}), {}", event.type(), event.origin(), e.getMessage());
+        }
+    }
+
+    // 중간이 빠졌어도 받은 이벤트는 반영하고 (기사/사용자는 같은 것을 다시 반영해도 무방) 빠진 부분은 스냅샷으로 채움
+    private void onSequenced(ClusterEvent event) {
+        SequenceTracker.Result result = tracker.accept(event.origin(), event.epoch(), event.seq());
+        if (result == SequenceTracker.Result.DUPLICATE) {
+            duplicateCount.increment();
+            return;
+        }
+        if (result == SequenceTracker.Result.GAP) {
+            gapCount.increment();
+            log.warn("클러스터 이벤트 누락 감지: 노드={}, 순서={}", event.origin(), event.seq());
+            requestSnapshot(event.origin());
+        }
+
+        switch (event.type()) {
+            case ARTICLES -> viewCounts.addCounters(newsService.applyReplicated(event.articles(), event.live()));
+            case VIEWS -> viewCounts.applyReplicated(ClusterEvent.replica(event.origin(), event.epoch()), event.views());
+            case USERS -> userService.applyReplicated(event.users());
+            default -> {
+            }
+        }
+        appliedCount.increment();
+    }
+
+    private void requestSnapshot(int origin) {
+        long now = System.nanoTime();
+        Long requestedAt = pendingSnapshots.get(origin);
+        if (requestedAt != null && now - requestedAt < properties.getSnapshotTimeout().toNanos()) {
+            return;
+        }
+
+        pendingSnapshots.put(origin, now);
+        receivedChunks.remove(origin);
+        log.info("클러스터 스냅샷 요청: 노드={}", origin);
+        bus.send(origin, ClusterEvent.snapshotRequest(outbox.getNodeId(), outbox.getEpoch(), origin));
+    }
+
+    // 순서 번호를 먼저 읽고 내용을 읽으므로 스냅샷 내용은 항상 적어 둔 순서 번호 이상으로 최신
+    // 요청한 노드에만 보냄 (상대를 아직 모르는 연결이면 모두에게 보내고 받는 쪽이 target 을 보고 버림)
+    // 조회수는 기사별 카운터와 카운터를 뺀 기본값으로 나눠 보내 받는 쪽이 replica 별로 큰 값을 택해 합침
+    private void sendSnapshot(int requester) {
+        Map<Integer, Version> versions = new HashMap<>(tracker.versions());
+        // 따라잡는 중인 노드의 이벤트는 빠진 것이 있을 수 있어 제외
+        versions.keySet().removeAll(pendingSnapshots.keySet());
+        versions.put(outbox.getNodeId(), new Version(outbox.getEpoch(), outbox.getSequence()));
+
+        ViewCountAggregator.CounterSnapshot views = viewCounts.snapshot(articleStore.snapshot());
+        List<NewsArticle> articles = views.articles();
+        List<User> users = userService.snapshot();
+
+        int chunkSize = Math.max(1, properties.getSnapshotChunkSize());
+        int chunks = Math.max(1, (articles.size() + chunkSize - 1) / chunkSize);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            List<NewsArticle> part = articles.subList(chunk * chunkSize,
+                    Math.min(articles.size(), (chunk + 1) * chunkSize));
+            Map<Long, Map<String, Long>> counters = new HashMap<>();
+            for (NewsArticle article : part) {
+                Map<String, Long> byReplica = views.counters().get(article.id());
+                if (byReplica != null) {
+                    counters.put(article.id(), byReplica);
+                }
+            }
+            boolean last = chunk == chunks - 1;
+            bus.send(requester, ClusterEvent.snapshot(outbox.getNodeId(), outbox.getEpoch(), requester, chunk + 1,
+                    part, counters, chunk == 0 ? users : null, last ? versions : null));
+        }
+
+        log.info("클러스터 스냅샷 전송: 대상={}, 기사 {}개, 사용자 {}명", requester, articles.size(), users.size());
+    }
+
+    private void applySnapshot(ClusterEvent event) {
+        int received = receivedChunks.merge(event.origin(), 1, Integer::sum);
+        if (event.articles() != null && !event.articles().isEmpty()) {
+            viewCounts.addCounters(newsService.applyReplicated(event.articles(), false));
+        }
+        if (event.counters() != null) {
+            viewCounts.mergeCounters(event.counters());
+        }
+        if (event.users() != null) {
+            userService.applyReplicated(event.users());
+        }
+
+        if (event.versions() != null) {
+            receivedChunks.remove(event.origin());
+            if (received != event.seq()) {
+                // 요청을 그대로 둬서 하트비트가 오면 제한 시간 뒤에 다시 요청
+                log.warn("클러스터 스냅샷 일부 누락: 노드={}, 받은 묶음 {}/{}", event.origin(), received, event.seq());
+                return;
+            }
+            Map<Integer, Version> versions = new HashMap<>(event.versions());
+            versions.remove(outbox.getNodeId());
+            tracker.catchUp(versions);
+            pendingSnapshots.remove(event.origin());
+            snapshotCount.increment();
+            log.info("클러스터 스냅샷 반영 완료: 노드={}", event.origin());
+        }
+    }
+}
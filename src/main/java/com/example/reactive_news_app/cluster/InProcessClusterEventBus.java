@@ -0,0 +1,101 @@
+package com.example.reactive_news_app.cluster;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 같은 JVM 안에서 이름이 같은 버스끼리 이벤트를 주고받음 (여러 노드를 한 프로세스에서 띄우는 테스트용)
+// 노드마다 크기가 제한된 수신 대기열을 두고 handler 가 끝나야 다음 이벤트를 꺼냄 (TCP 전송의 노드별 송신 대기열과 같은 역할)
+public class InProcessClusterEventBus implements ClusterEventBus {
+
+    private static final Map<String, List<Member>> HUBS = new ConcurrentHashMap<>();
+    private static final int DEFAULT_INBOX_SIZE = 10_000;
+
+    private final List<Member> members;
+    private final int nodeId;
+    private final int inboxSize;
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile Member self;
+
+    public InProcessClusterEventBus(String name, int nodeId) {
+        this(name, nodeId, DEFAULT_INBOX_SIZE);
+    }
+
+    public InProcessClusterEventBus(String name, int nodeId, int inboxSize) {
+        this.members = HUBS.computeIfAbsent(name, key -> new CopyOnWriteArrayList<>());
+        this.nodeId = nodeId;
+        this.inboxSize = inboxSize;
+    }
+
+    @Override
+    public synchronized void start(Function<ClusterEvent, Mono<Void>> handler) {
+        if (self != null) {
+            return;
+        }
+        Sinks.Many<ClusterEvent> inbox = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<ClusterEvent>get(inboxSize).get());
+        Disposable consumer = inbox.asFlux()
+                .concatMap(handler, 1)
+                .subscribe();
+        self = new Member(nodeId, inbox, consumer);
+        members.add(self);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (self != null) {
+            members.remove(self);
+            self.consumer.dispose();
+            self = null;
+        }
+    }
+
+    @Override
+    public void send(ClusterEvent event) {
+        deliver(ClusterEvent.ANY, event);
+    }
+
+    @Override
+    public void send(int target, ClusterEvent event) {
+        deliver(target, event);
+    }
+
+    @Override
+    public int getPeerCount() {
+        return Math.max(0, members.size() - (self != null ? 1 : 0));
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    // 받는 쪽 대기열이 차 있으면 그 노드에는 전달되지 않음 (TCP 전송의 대기열 초과와 같은 상황)
+    private void deliver(int target, ClusterEvent event) {
+        if (self == null) {
+            droppedCount.increment();
+            return;
+        }
+        for (Member member : members) {
+            if (member.nodeId == nodeId || (target != ClusterEvent.ANY && member.nodeId != target)) {
+                continue;
+            }
+            synchronized (member) {
+                if (member.inbox.tryEmitNext(event).isFailure()) {
+                    droppedCount.increment();
+                }
+            }
+        }
+    }
+
+    private record Member(int nodeId, Sinks.Many<ClusterEvent> inbox, Disposable consumer) {
+    }
+}
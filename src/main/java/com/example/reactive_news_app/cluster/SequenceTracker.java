@@ -0,0 +1,65 @@
+package com.example.reactive_news_app.cluster;
+
+import com.example.reactive_news_app.cluster.ClusterEvent.Version;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 노드별로 마지막으로 반영한 (기동 시각, 순서 번호)를 기억해 중복/누락을 판단
+// 노드가 다시 뜨면 기동 시각이 바뀌고 순서 번호는 1부터 다시 시작
+public class SequenceTracker {
+
+    public enum Result {
+        // 다음 순서
+        APPLY,
+        // 중간이 빠짐 (반영은 하되 스냅샷으로 복구 필요)
+        GAP,
+        // 이미 반영했거나 이전 기동의 이벤트
+        DUPLICATE
+    }
+
+    private final Map<Integer, Version> applied = new HashMap<>();
+
+    public synchronized Result accept(int origin, long epoch, long seq) {
+        Version last = current(origin, epoch);
+        if (last == null || seq <= last.seq()) {
+            return Result.DUPLICATE;
+        }
+
+        applied.put(origin, new Version(epoch, seq));
+        return seq == last.seq() + 1 ? Result.APPLY : Result.GAP;
+    }
+
+    // 하트비트로 알려준 순서 번호까지 반영하지 못했으면 true
+    public synchronized boolean isBehind(int origin, long epoch, long seq) {
+        Version last = current(origin, epoch);
+        return last != null && seq > last.seq();
+    }
+
+    // 스냅샷에 포함된 만큼 반영한 것으로 기록 (더 최신 값은 유지)
+    public synchronized void catchUp(Map<Integer, Version> versions) {
+        versions.forEach((origin, version) -> {
+            Version last = current(origin, version.epoch());
+            if (last != null && version.seq() > last.seq()) {
+                applied.put(origin, version);
+            }
+        });
+    }
+
+    public synchronized Map<Integer, Version> versions() {
+        return Map.copyOf(applied);
+    }
+
+    public synchronized int getOriginCount() {
+        return applied.size();
+    }
+
+    // 처음 보거나 다시 뜬 노드면 0 부터 시작, 이전 기동의 이벤트면 null
+    private Version current(int origin, long epoch) {
+        Version last = applied.get(origin);
+        if (last == null || epoch > last.epoch()) {
+            return new Version(epoch, 0);
+        }
+        return epoch == last.epoch() ? last : null;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.reactive_news_app.cluster;
+
+import com.example.reactive_news_app.config.ClusterProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.LineBasedFrameDecoder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+import reactor.util.concurrent.Queues;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.concurrent.atomic.LongAdder;
+
+// 노드마다 TCP 서버를 열어 다른 노드가 보낸 이벤트를 받고, peers 에는 클라이언트로 연결해 보냄
+// 이벤트는 클라이언트 -> 서버 한 방향이고, 서버는 연결 직후 HELLO 로 자기 노드 번호만 돌려보냄 (대상 지정 전송에 사용)
+// 받은 이벤트는 반영이 끝나야 다음 줄을 읽으므로, 반영이 밀리면 소켓 읽기가 멈추고 보내는 쪽 대기열에서 기다림
+// 메시지는 한 줄에 하나씩 JSON (로컬에서 포트만 바꿔 여러 인스턴스를 띄울 수 있음)
+@Slf4j
+public class TcpClusterEventBus implements ClusterEventBus {
+
+    private final ClusterProperties properties;
+    private final ObjectMapper objectMapper;
+    private final int nodeId;
+    private final List<Peer> peers;
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    private DisposableServer server;
+    private Disposable links;
+
+    public TcpClusterEventBus(ClusterProperties properties, ObjectMapper objectMapper, int nodeId) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId;
+        this.peers = properties.getPeers().stream()
+                .map(Peer::parse)
+                .toList();
+    }
+
+    @Override
+    public synchronized void start(Function<ClusterEvent, Mono<Void>> handler) {
+        if (server != null) {
+            return;
+        }
+
+        String hello = encode(ClusterEvent.hello(nodeId));
+        server = TcpServer.create()
+                .host(properties.getBindHost())
+                .port(properties.getPort())
+                .doOnConnection(connection ->
+                        connection.addHandlerLast(new LineBasedFrameDecoder(properties.getMaxFrameLength())))
+                .handle((in, out) -> out.sendString(Mono.justOrEmpty(hello), StandardCharsets.UTF_8)
+                        .then()
+                        .and(in.receive()
+                                .asString(StandardCharsets.UTF_8)
+                                .mapNotNull(this::decode)
+                                .filter(event -> event.origin() != nodeId)
+                                .concatMap(handler, 1)
+                                .then()))
+                .bindNow();
+        links = Flux.fromIterable(peers)
+                .flatMap(this::link)
+                .subscribe();
+
+        log.info("클러스터 TCP 버스 시작: 노드={}, 주소={}:{}, 연결 대상={}",
+                nodeId, properties.getBindHost(), server.port(), peers);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (links != null) {
+            links.dispose();
+        }
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+
+    // 직렬화는 한 번만 하고 연결된 노드마다 대기열에 넣음
+    @Override
+    public synchronized void send(ClusterEvent event) {
+        offer(event, peers);
+    }
+
+    @Override
+    public synchronized void send(int target, ClusterEvent event) {
+        List<Peer> targets = peers.stream()
+                .filter(peer -> peer.nodeId == target)
+                .toList();
+        offer(event, targets.isEmpty() ? peers : targets);
+    }
+
+    @Override
+    public int getPeerCount() {
+        return (int) peers.stream()
+                .filter(peer -> peer.queue != null)
+                .count();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    // 연결이 끊기면 reconnectInterval 뒤에 다시 연결 (끊긴 동안 보낼 이벤트는 버림)
+    private Mono<Void> link(Peer peer) {
+        return Mono.defer(() -> TcpClient.create()
+                        .host(peer.host)
+                        .port(peer.port)
+                        .doOnConnected(connection ->
+                                connection.addHandlerLast(new LineBasedFrameDecoder(properties.getMaxFrameLength())))
+                        .connect())
+                .flatMap(connection -> {
+                    Sinks.Many<String> queue = Sinks.many().unicast()
+                            .onBackpressureBuffer(Queues.<String>get(properties.getSendBuffer()).get());
+                    peer.queue = queue;
+                    log.info("클러스터 노드 연결: {}", peer);
+
+                    connection.inbound().receive()
+                            .asString(StandardCharsets.UTF_8)
+                            .mapNotNull(this::decode)
+                            .filter(event -> event.type() == ClusterEvent.Type.HELLO)
+                            .subscribe(event -> peer.nodeId = event.origin());
+
+                    return connection.outbound()
+                            .sendString(queue.asFlux(), StandardCharsets.UTF_8)
+                            .then()
+                            .or(connection.onDispose())
+                            .doFinally(signal -> {
+                                peer.queue = null;
+                                peer.nodeId = ClusterEvent.ANY;
+                                connection.dispose();
+                                log.info("클러스터 노드 연결 끊김: {}", peer);
+                            });
+                })
+                .onErrorResume(error -> {
+                    log.debug("클러스터 노드 연결 실패: {}, {}", peer, error.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.delay(properties.getReconnectInterval()))
+                .repeat()
+                .then();
+    }
+
+    private void offer(ClusterEvent event, List<Peer> targets) {
+        String frame = encode(event);
+        if (frame == null) {
+            return;
+        }
+        for (Peer peer : targets) {
+            Sinks.Many<String> queue = peer.queue;
+            if (queue == null || queue.tryEmitNext(frame).isFailure()) {
+                droppedCount.increment();
+            }
+        }
+    }
+
+    private String encode(ClusterEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event) + "\n";
+        } catch (JsonProcessingException e) {
+            log.error("클러스터 이벤트 직렬화 실패: {}, {}", event.type(), e.getMessage());
+            return null;
+        }
+    }
+
+    private ClusterEvent decode(String frame) {
+        try {
+            return objectMapper.readValue(frame, ClusterEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 클러스터 메시지 무시: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static final class Peer {
+        private final String host;
+        private final int port;
+        private volatile Sinks.Many<String> queue;
+        // 연결한 노드가 HELLO 로 알려준 노드 번호 (모르면 ANY)
+        private volatile int nodeId = ClusterEvent.ANY;
+
+        private Peer(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        private static Peer parse(String address) {
+            int separator = address.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("클러스터 노드 주소는 host:port 형식이어야 합니다: " + address);
+            }
+            return new Peer(address.substring(0, separator).trim(),
+                    Integer.parseInt(address.substring(separator + 1).trim()));
+        }
+
+        @Override
+        public String toString() {
+            return host + ":" + port;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.reactive_news_app.codec;
+
+import com.example.reactive_news_app.config.QueryCacheProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.stereotype.Component;
+
+// 기사 JSON 직렬화 결과(byte[])를 보관해 같은 기사를 여러 응답/구독자에게 보낼 때 한 번만 직렬화
+// 기사는 불변이므로 같은 객체일 때만 재사용 (조회수가 바뀌거나 다시 저장되면 새 객체라 새로 직렬화)
+@Component
+public class ArticleJsonCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Encoded> cache;
+
+    public ArticleJsonCache(ObjectMapper objectMapper, QueryCacheProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEncodedArticles())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "news.article.json");
+    }
+
+    public byte[] bytes(NewsArticle article) {
+        Encoded cached = cache.getIfPresent(article.id());
+        if (cached != null && cached.article == article) {
+            return cached.json;
+        }
+
+        byte[] json = serialize(article);
+        cache.put(article.id(), new Encoded(article, json));
+        return json;
+    }
+
+    private byte[] serialize(NewsArticle article) {
+        try {
+            return objectMapper.writeValueAsBytes(article);
+        } catch (JsonProcessingException e) {
+            throw new EncodingException("기사 JSON 직렬화 실패: " + article.id(), e);
+        }
+    }
+
+    private record Encoded(NewsArticle article, byte[] json) {
+    }
+}
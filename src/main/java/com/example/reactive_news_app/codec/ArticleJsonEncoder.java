@@ -0,0 +1,111 @@
+package com.example.reactive_news_app.codec;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// NewsArticle 을 ArticleJsonCache 의 바이트로 바로 기록 (단건, JSON 배열, NDJSON, SSE data)
+// fallback 이 있으면 기사 외의 타입은 fallback 에 위임하고, 요소 타입이 Object 인 Flux(기사 뒤에 다음 커서가 붙는 목록)는
+// 요소마다 기사면 캐시된 바이트로, 아니면 fallback 으로 기록
+public class ArticleJsonEncoder implements HttpMessageEncoder<Object> {
+
+    private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON);
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final ArticleJsonCache cache;
+    private final Encoder<Object> fallback;
+
+    public ArticleJsonEncoder(ArticleJsonCache cache) {
+        this(cache, null);
+    }
+
+    public ArticleJsonEncoder(ArticleJsonCache cache, Encoder<Object> fallback) {
+        this.cache = cache;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        if (isArticle(elementType) && supports(mimeType)) {
+            return true;
+        }
+        return fallback != null && fallback.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        boolean mixed = fallback != null && elementType.toClass() == Object.class && !(inputStream instanceof Mono);
+        if (!isArticle(elementType) && !mixed) {
+            return fallback.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+
+        Function<Object, DataBuffer> element = value -> encodeValue(value, bufferFactory,
+                ResolvableType.forInstance(value), mimeType, hints);
+
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(element)
+                    .flux();
+        }
+
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mimeType)) {
+            return Flux.from(inputStream)
+                    .map(value -> bufferFactory.join(List.of(element.apply(value), bufferFactory.wrap(NEWLINE))));
+        }
+
+        return Flux.defer(() -> {
+            boolean[] first = {true};
+            return Flux.from(inputStream)
+                    .map(value -> {
+                        byte[] prefix = first[0] ? ARRAY_START : ARRAY_SEPARATOR;
+                        first[0] = false;
+                        return bufferFactory.join(List.of(bufferFactory.wrap(prefix), element.apply(value)));
+                    })
+                    .concatWith(Mono.fromSupplier(() -> bufferFactory.wrap(first[0] ? EMPTY_ARRAY : ARRAY_END)));
+        });
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        if (value instanceof NewsArticle article) {
+            return bufferFactory.wrap(cache.bytes(article));
+        }
+        return fallback.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return fallback != null ? fallback.getEncodableMimeTypes() : MIME_TYPES;
+    }
+
+    @Override
+    public List<MediaType> getStreamingMediaTypes() {
+        return List.of(MediaType.APPLICATION_NDJSON);
+    }
+
+    private static boolean isArticle(ResolvableType elementType) {
+        return NewsArticle.class.isAssignableFrom(elementType.toClass());
+    }
+
+    private static boolean supports(MimeType mimeType) {
+        return mimeType == null || MIME_TYPES.stream().anyMatch(type -> type.isCompatibleWith(mimeType));
+    }
+}
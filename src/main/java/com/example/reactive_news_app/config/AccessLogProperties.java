@@ -0,0 +1,21 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "news.access-log")
+@Getter
+@Setter
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    // 일반 요청 중 기록할 비율 (0.0 ~ 1.0)
+    private double sampleRate = 0.1;
+
+    // 이 시간보다 오래 걸린 요청은 샘플링과 무관하게 항상 기록
+    private Duration slowThreshold = Duration.ofMillis(500);
+}
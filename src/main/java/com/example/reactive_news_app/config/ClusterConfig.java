@@ -0,0 +1,25 @@
+package com.example.reactive_news_app.config;
+
+import com.example.reactive_news_app.cluster.ClusterEventBus;
+import com.example.reactive_news_app.cluster.InProcessClusterEventBus;
+import com.example.reactive_news_app.cluster.TcpClusterEventBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 버스는 클러스터 모드가 켜졌을 때만 ClusterReplicator 가 시작함
+@Configuration
+public class ClusterConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ClusterEventBus.class)
+    public ClusterEventBus clusterEventBus(ClusterProperties properties, IdGeneratorProperties idProperties,
+                                           ObjectMapper objectMapper) {
+        int nodeId = (int) idProperties.getNodeId();
+        return switch (properties.getTransport()) {
+            case IN_PROCESS -> new InProcessClusterEventBus(properties.getName(), nodeId, properties.getSendBuffer());
+            case TCP -> new TcpClusterEventBus(properties, objectMapper, nodeId);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 노드 식별자는 news.id.node-id 를 그대로 사용 (노드마다 달라야 함)
+@ConfigurationProperties(prefix = "news.cluster")
+@Getter
+@Setter
+public class ClusterProperties {
+
+    public enum Transport {
+        // 같은 JVM 안의 노드끼리 (테스트용)
+        IN_PROCESS,
+        // 노드마다 TCP 포트를 열고 peers 에 연결
+        TCP
+    }
+
+    private boolean enabled = false;
+
+    private Transport transport = Transport.TCP;
+
+    // IN_PROCESS 에서 같은 이름끼리 한 클러스터
+    private String name = "news";
+
+    private String bindHost = "127.0.0.1";
+    private int port = 7400;
+
+    // 다른 노드 주소 (host:port)
+    private List<String> peers = new ArrayList<>();
+
+    // 현재 순서 번호를 알리는 주기. 받은 쪽은 이 값으로 빠진 이벤트를 알아챔
+    private Duration heartbeatInterval = Duration.ofSeconds(2);
+
+    // 스냅샷을 요청한 뒤 응답이 없을 때 다시 요청하기까지 기다리는 시간
+    private Duration snapshotTimeout = Duration.ofSeconds(10);
+
+    // 스냅샷 메시지 하나에 담을 기사 수
+    private int snapshotChunkSize = 1000;
+
+    // 노드별 송신 대기열 크기 (넘치면 버리고 받는 쪽이 스냅샷으로 복구)
+    private int sendBuffer = 10_000;
+
+    private int maxFrameLength = 16 * 1024 * 1024;
+
+    private Duration reconnectInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,29 @@
+package com.example.reactive_news_app.config;
+
+import com.example.reactive_news_app.codec.ArticleJsonCache;
+import com.example.reactive_news_app.codec.ArticleJsonEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class CodecConfig implements WebFluxConfigurer {
+
+    private final ArticleJsonCache articleJsonCache;
+    private final ObjectMapper objectMapper;
+
+    // 기사 전용 인코더는 기본 Jackson 인코더보다 먼저 선택되고, 기사 외의 타입은 Jackson 으로 직렬화
+    // (기사와 다음 커서가 섞인 NDJSON 목록도 기사는 캐시된 바이트로 보냄)
+    // SSE 는 기사 이벤트만 캐시된 바이트로 보내고 나머지 타입은 Jackson 으로 직렬화
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(
+                new ArticleJsonEncoder(articleJsonCache, new Jackson2JsonEncoder(objectMapper)));
+        configurer.defaultCodecs().serverSentEventEncoder(
+                new ArticleJsonEncoder(articleJsonCache, new Jackson2JsonEncoder(objectMapper)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "news.feed")
+@Getter
+@Setter
+public class FeedProperties {
+
+    // 사용자별로 유지하는 최신 기사 수
+    private int size = 10;
+
+    // 마지막 활동 이후 이 시간이 지나면 피드 제거
+    private Duration ttl = Duration.ofMinutes(30);
+
+    // 피드를 유지하는 최대 사용자 수 (초과 시 가장 오래 활동하지 않은 사용자부터 제거)
+    private int maxUsers = 100_000;
+
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,19 @@
+package com.example.reactive_news_app.config;
+
+import com.example.reactive_news_app.id.IdGenerator;
+import com.example.reactive_news_app.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+    @Bean
+    @ConditionalOnMissingBean(IdGenerator.class)
+    public IdGenerator idGenerator(IdGeneratorProperties properties) {
+        log.info("Snowflake ID 생성기 초기화: 노드={}", properties.getNodeId());
+        return new SnowflakeIdGenerator(properties.getNodeId(), properties.getEpoch());
+    }
+}
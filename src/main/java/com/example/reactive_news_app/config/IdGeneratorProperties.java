@@ -0,0 +1,19 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Instant;
+
+@ConfigurationProperties(prefix = "news.id")
+@Getter
+@Setter
+public class IdGeneratorProperties {
+
+    // 여러 노드를 띄울 때 노드마다 다르게 설정 (0~1023)
+    private long nodeId = 0;
+
+    // 타임스탬프 기준 시각 (초 단위 31비트로 약 68년 사용 가능)
+    private Instant epoch = Instant.parse("2024-01-01T00:00:00Z");
+}
@@ -0,0 +1,19 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "news.ingest")
+@Getter
+@Setter
+public class IngestProperties {
+
+    // 한 번에 저장/색인할 기사 수
+    private int chunkSize = 500;
+
+    // 업로드가 느릴 때 묶음이 다 차지 않아도 저장하는 최대 대기 시간
+    private Duration chunkTimeout = Duration.ofMillis(200);
+}
@@ -0,0 +1,37 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "news.journal")
+@Getter
+@Setter
+public class JournalProperties {
+
+    private boolean enabled = false;
+
+    // 스냅샷과 저널 파일을 둘 디렉터리 (노드마다 달라야 함)
+    private Path directory = Path.of("data", "journal");
+
+    // 한 번의 쓰기/fsync 로 묶을 최대 레코드 수와, 묶음이 덜 찼을 때 최대 대기 시간
+    private int batchSize = 1000;
+    private Duration flushInterval = Duration.ofMillis(20);
+
+    // 기록을 기다리는 레코드 수 한도 (디스크가 따라가지 못해 넘치면 버리고, 다음 스냅샷에서 메모리 상태로 채워짐)
+    private int queueCapacity = 100_000;
+
+    // 묶음마다 fsync (끄면 OS 가 내려쓸 때까지 유실될 수 있음)
+    private boolean fsync = true;
+
+    // 이 주기마다 저널 크기를 확인해 compactThreshold 를 넘으면 스냅샷을 새로 쓰고 저널을 비움
+    private Duration snapshotInterval = Duration.ofMinutes(1);
+    private DataSize compactThreshold = DataSize.ofMegabytes(64);
+
+    // 종료할 때 스냅샷을 써 두면 다음 기동 때 저널 재생이 거의 없음
+    private boolean snapshotOnShutdown = true;
+}
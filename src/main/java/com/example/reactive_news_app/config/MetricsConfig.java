@@ -0,0 +1,183 @@
+package com.example.reactive_news_app.config;
+
+import com.example.reactive_news_app.cluster.ClusterEventBus;
+import com.example.reactive_news_app.cluster.ClusterOutbox;
+import com.example.reactive_news_app.cluster.ClusterReplicator;
+import com.example.reactive_news_app.journal.Journal;
+import com.example.reactive_news_app.repository.ArticleStore;
+import com.example.reactive_news_app.overload.AdaptiveConcurrencyLimiter;
+import com.example.reactive_news_app.overload.EventLoopLatencyMonitor;
+import com.example.reactive_news_app.overload.StreamLimiter;
+import com.example.reactive_news_app.repository.NewsArticlePersistence;
+import com.example.reactive_news_app.service.NewsBroadcaster;
+import com.example.reactive_news_app.service.PersonalizedFeedService;
+import com.example.reactive_news_app.service.ViewCountAggregator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class MetricsConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    // 설정한 라우트만 백분위 지연시간을 기록 (어노테이션/함수형 라우트 모두 uri 태그로 구분)
+    @Bean
+    public MeterFilter routePercentilesMeterFilter(NewsMetricsProperties properties) {
+        log.info("라우트별 백분위 지연시간 설정: {}", properties.getPercentileRoutes());
+
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName())
+                        || !properties.getPercentileRoutes().contains(id.getTag("uri"))) {
+                    return config;
+                }
+
+                return DistributionStatisticConfig.builder()
+                        .percentiles(properties.getPercentiles())
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder newsMeterBinder(ArticleStore articleStore,
+                                       NewsBroadcaster broadcaster,
+                                       PersonalizedFeedService feedService,
+                                       NewsArticlePersistence persistence,
+                                       ViewCountAggregator viewCounts,
+                                       StreamLimiter streamLimiter,
+                                       AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                       EventLoopLatencyMonitor latencyMonitor,
+                                       ClusterOutbox clusterOutbox,
+                                       ClusterReplicator clusterReplicator,
+                                       ClusterEventBus clusterEventBus,
+                                       Journal journal) {
+        return registry -> {
+            Gauge.builder("news.articles.size", articleStore, ArticleStore::size)
+                    .description("메모리 저장소의 기사 수")
+                    .register(registry);
+
+            Gauge.builder("news.stream.subscribers", broadcaster, NewsBroadcaster::getSubscriberCount)
+                    .description("실시간 스트림 구독자 수")
+                    .register(registry);
+            Gauge.builder("news.stream.buffered", broadcaster, NewsBroadcaster::getBufferedCount)
+                    .description("구독자 버퍼에 쌓인 기사 수")
+                    .register(registry);
+            FunctionCounter.builder("news.stream.published", broadcaster, NewsBroadcaster::getPublishedCount)
+                    .description("스트림으로 발행된 기사 수")
+                    .register(registry);
+            FunctionCounter.builder("news.stream.dropped", broadcaster, NewsBroadcaster::getDroppedCount)
+                    .description("버퍼 초과로 버려진 기사 수")
+                    .register(registry);
+            FunctionCounter.builder("news.stream.disconnected", broadcaster, NewsBroadcaster::getDisconnectedCount)
+                    .description("버퍼 초과로 연결이 끊긴 구독자 수")
+                    .register(registry);
+
+            Gauge.builder("news.feed.users", feedService, PersonalizedFeedService::getFeedCount)
+                    .description("개인화 피드를 유지 중인 사용자 수")
+                    .register(registry);
+
+            FunctionCounter.builder("news.persistence.written", persistence, NewsArticlePersistence::getWrittenCount)
+                    .description("DB 에 일괄 저장된 기사 수")
+                    .register(registry);
+            FunctionCounter.builder("news.persistence.failed", persistence, NewsArticlePersistence::getFailedCount)
+                    .description("DB 저장에 실패한 기사 수")
+                    .register(registry);
+            FunctionCounter.builder("news.persistence.dropped", persistence, NewsArticlePersistence::getDroppedCount)
+                    .description("저장 대기열이 가득 차 버린 기사 수")
+                    .register(registry);
+
+            Gauge.builder("news.views.pending", viewCounts, ViewCountAggregator::getPendingCount)
+                    .description("아직 반영하지 않은 조회수")
+                    .register(registry);
+            FunctionCounter.builder("news.views.flushed", viewCounts, ViewCountAggregator::getFlushedCount)
+                    .description("저장소에 반영된 조회수")
+                    .register(registry);
+
+            Gauge.builder("news.overload.streams.active", streamLimiter, StreamLimiter::getActiveCount)
+                    .description("열려 있는 스트림 연결 수")
+                    .register(registry);
+            Gauge.builder("news.overload.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("현재 동시 요청 한도")
+                    .register(registry);
+            Gauge.builder("news.overload.concurrency.inflight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInflight)
+                    .description("처리 중인 요청 수")
+                    .register(registry);
+            Gauge.builder("news.overload.eventloop.lag", latencyMonitor, monitor -> monitor.getLagNanos() / 1_000_000.0)
+                    .description("이벤트 루프 지연 (ms)")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            FunctionCounter.builder("news.overload.shed", streamLimiter, StreamLimiter::getShedCount)
+                    .description("과부하로 거절한 요청 수")
+                    .tag("reason", "stream-limit")
+                    .register(registry);
+            FunctionCounter.builder("news.overload.shed", concurrencyLimiter, AdaptiveConcurrencyLimiter::getShedCount)
+                    .description("과부하로 거절한 요청 수")
+                    .tag("reason", "concurrency-limit")
+                    .register(registry);
+
+            Gauge.builder("news.cluster.peers", clusterReplicator, ClusterReplicator::getPeerCount)
+                    .description("연결된 클러스터 노드 수")
+                    .register(registry);
+            Gauge.builder("news.cluster.origins", clusterReplicator, ClusterReplicator::getOriginCount)
+                    .description("이벤트를 받은 적 있는 노드 수")
+                    .register(registry);
+            FunctionCounter.builder("news.cluster.events", clusterOutbox, ClusterOutbox::getSentCount)
+                    .description("클러스터 이벤트 수")
+                    .tag("result", "sent")
+                    .register(registry);
+            FunctionCounter.builder("news.cluster.events", clusterReplicator, ClusterReplicator::getAppliedCount)
+                    .description("클러스터 이벤트 수")
+                    .tag("result", "applied")
+                    .register(registry);
+            FunctionCounter.builder("news.cluster.events", clusterReplicator, ClusterReplicator::getDuplicateCount)
+                    .description("클러스터 이벤트 수")
+                    .tag("result", "duplicate")
+                    .register(registry);
+            FunctionCounter.builder("news.cluster.events", clusterEventBus, ClusterEventBus::getDroppedCount)
+                    .description("클러스터 이벤트 수")
+                    .tag("result", "dropped")
+                    .register(registry);
+            FunctionCounter.builder("news.cluster.gaps", clusterReplicator, ClusterReplicator::getGapCount)
+                    .description("순서 번호로 감지한 누락 수")
+                    .register(registry);
+            FunctionCounter.builder("news.cluster.snapshots", clusterReplicator, ClusterReplicator::getSnapshotCount)
+                    .description("반영한 스냅샷 수")
+                    .register(registry);
+
+            Gauge.builder("news.journal.size", journal, Journal::getJournalSize)
+                    .description("마지막 스냅샷 이후 저널 크기")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("news.journal.records", journal, Journal::getAppendedCount)
+                    .description("저널에 기록한 레코드 수")
+                    .tag("result", "written")
+                    .register(registry);
+            FunctionCounter.builder("news.journal.records", journal, Journal::getFailedCount)
+                    .description("저널에 기록한 레코드 수")
+                    .tag("result", "failed")
+                    .register(registry);
+            FunctionCounter.builder("news.journal.records", journal, Journal::getDroppedCount)
+                    .description("저널에 기록한 레코드 수")
+                    .tag("result", "dropped")
+                    .register(registry);
+            FunctionCounter.builder("news.journal.syncs", journal, Journal::getSyncCount)
+                    .description("저널 fsync 횟수 (묶음 수)")
+                    .register(registry);
+            FunctionCounter.builder("news.journal.snapshots", journal, Journal::getSnapshotCount)
+                    .description("저장한 스냅샷 수")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "news.metrics")
+@Getter
+@Setter
+public class NewsMetricsProperties {
+
+    // 백분위 지연시간을 기록할 라우트 패턴 (http.server.requests 의 uri 태그 값)
+    private List<String> percentileRoutes = new ArrayList<>();
+
+    private double[] percentiles = {0.5, 0.95, 0.99};
+}
@@ -0,0 +1,41 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "news.stream")
+@Getter
+@Setter
+public class NewsStreamProperties {
+
+    // 실시간 뉴스 생성 주기
+    private Duration interval = Duration.ofSeconds(3);
+
+    // 구독자별 버퍼 크기
+    private int bufferSize = 50;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    // Last-Event-ID 로 재연결한 구독자에게 다시 보낼 수 있는 최근 이벤트 수
+    private int replaySize = 1000;
+
+    // CONFLATE 정책에서 구독자에게 보내는 최소 간격
+    private Duration conflateInterval = Duration.ofSeconds(1);
+
+    // 구독자가 따로 고르지 않으면 overflowPolicy 를 사용
+    public enum OverflowPolicy {
+        // 가장 오래된 뉴스를 버리고 계속 전송
+        DROP_OLDEST,
+        // 버퍼가 가득 차면 새로 들어온 뉴스를 버림
+        DROP_LATEST,
+        // 가장 최근 뉴스 하나만 유지
+        LATEST,
+        // conflateInterval 마다 최대 한 건, 그 사이에는 가장 최근 뉴스만 유지
+        CONFLATE,
+        // 버퍼가 가득 차면 느린 구독자 연결 종료
+        DISCONNECT
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "news.overload")
+@Getter
+@Setter
+public class OverloadProperties {
+
+    private boolean enabled = true;
+
+    // 동시에 유지할 수 있는 스트림 연결 수 (SSE, WebSocket, RSocket, 오래 걸리는 응답 합계)
+    private int maxStreams = 10_000;
+
+    // 요청 동시성 제한 대신 스트림 수 제한을 적용할 경로
+    private Set<String> streamPaths = new LinkedHashSet<>(List.of(
+            "/api/news/stream",
+            "/api/news/stream-backpressure",
+            "/api/news/slow",
+            "/functional/news/stream",
+            "/ws/news"));
+
+    // 거절(503) 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private final Concurrency concurrency = new Concurrency();
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+
+        private int initialLimit = 256;
+        private int minLimit = 16;
+        private int maxLimit = 4096;
+
+        // 이벤트 루프 지연이 이 값을 넘으면 한도를 backoffRatio 만큼 줄이고, 아니면 1씩 늘림
+        private Duration latencyThreshold = Duration.ofMillis(50);
+        private double backoffRatio = 0.8;
+
+        // 이벤트 루프 지연 측정 및 한도 조정 주기
+        private Duration probeInterval = Duration.ofMillis(100);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "news.persistence")
+@Getter
+@Setter
+public class PersistenceProperties {
+
+    private boolean enabled = true;
+
+    // 한 번의 다중 행 MERGE 로 저장할 최대 기사 수
+    private int batchSize = 500;
+
+    // 배치가 가득 차지 않아도 저장하는 주기
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    // 저장을 기다리는 기사 수 한도 (DB 가 따라가지 못해 넘치면 버림)
+    private int queueCapacity = 100_000;
+
+    // 저널에서 복구한 기사/사용자를 기동 시 DB 에 다시 기록할지 (DB 가 기동마다 비는 메모리 DB 일 때만 켬)
+    // 영속 DB 라면 이미 기록되어 있으므로 끄면 기동 시 DB 왕복이 없음
+    private boolean resyncOnRecovery = false;
+}
@@ -0,0 +1,24 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "news.cache")
+@Getter
+@Setter
+public class QueryCacheProperties {
+
+    private boolean enabled = true;
+
+    // 캐시에 담을 수 있는 기사 수 합계 (목록 하나의 가중치 = 기사 수)
+    private long maxArticles = 200_000;
+
+    // 무효화가 누락되더라도 이 시간이 지나면 다시 계산
+    private Duration ttl = Duration.ofSeconds(30);
+
+    // 직렬화된 기사 JSON 을 보관할 최대 기사 수
+    private long maxEncodedArticles = 100_000;
+}
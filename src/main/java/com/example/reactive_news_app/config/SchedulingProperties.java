@@ -0,0 +1,41 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "news.scheduling")
+@Getter
+@Setter
+public class SchedulingProperties {
+
+    public enum Mode {
+        // 구독한 스레드(보통 이벤트 루프)에서 그대로 실행. 막히지 않는 메모리 작업용
+        INLINE,
+        // 크기 제한이 있는 공용 풀로 넘김 (기존 방식)
+        BOUNDED_ELASTIC,
+        // 작업마다 가상 스레드. JDBC/파일 I/O 처럼 실제로 막히는 작업용
+        VIRTUAL
+    }
+
+    // 실행 방식을 따로 정할 수 있는 서비스 메서드
+    public enum Operation {
+        GET_NEWS,
+        CREATE_NEWS,
+        CREATE_NEWS_BATCH,
+        GET_USER,
+        CREATE_USER
+    }
+
+    private Mode defaultMode = Mode.BOUNDED_ELASTIC;
+
+    // 메서드별 실행 방식 (없으면 defaultMode)
+    private Map<Operation, Mode> operations = new EnumMap<>(Operation.class);
+
+    public Mode modeOf(Operation operation) {
+        return operations.getOrDefault(operation, defaultMode);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.reactive_news_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "news.views")
+@Getter
+@Setter
+public class ViewCountProperties {
+
+    // 모아둔 조회수를 저장소/DB 에 반영하는 주기
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    // 주기와 관계없이 이만큼 쌓이면 바로 반영
+    private long flushThreshold = 10_000;
+
+    // 클러스터 모드에서 저장소에 없는 기사의 카운터를 남겨 두는 시간 (기사가 늦게 도착하는 경우 대비)
+    private Duration counterRetention = Duration.ofMinutes(10);
+}
@@ -18,11 +18,16 @@ public class WebFluxConfig {
     public RouterFunction<ServerResponse> newsRoutes(NewsHandler newsHandler) {
         log.info("함수형 라우팅 설정 초기화");
 
+        // 목록 조회는 JSON 배열 또는 NDJSON 스트림으로 응답
         return RouterFunctions
-                .route(GET("/functional/news").and(accept(MediaType.APPLICATION_JSON)), newsHandler::getNewsById)
+                .route(GET("/functional/news").and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)), newsHandler::getAllNews)
+                .andRoute(GET("/functional/news/stream").and(accept(MediaType.TEXT_EVENT_STREAM)), newsHandler::getNewsStream)
+                .andRoute(GET("/functional/news/search").and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)), newsHandler::searchNews)
+                .andRoute(GET("/functional/news/popular").and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)), newsHandler::getPopularNews)
+                .andRoute(GET("/functional/news/trending").and(accept(MediaType.APPLICATION_JSON)), newsHandler::getTrendingNews)
+                .andRoute(GET("/functional/news/category/{category}").and(accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON)), newsHandler::getNewsByCategory)
                 .andRoute(GET("/functional/news/{id}").and(accept(MediaType.APPLICATION_JSON)), newsHandler::getNewsById)
                 .andRoute(POST("/functional/news").and(contentType(MediaType.APPLICATION_JSON)), newsHandler::createNews)
-                .andRoute(GET("/functional/news/stream").and(accept(MediaType.TEXT_EVENT_STREAM)), newsHandler::getNewsStream)
-                .andRoute(GET("/functional/news/category/{category}").and(accept(MediaType.APPLICATION_JSON)), newsHandler::getNewsByCategory);
+                .andRoute(POST("/functional/news/bulk").and(contentType(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)), newsHandler::bulkIngest);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.example.reactive_news_app.config;
+
+import com.example.reactive_news_app.handler.NewsWebSocketHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+
+import java.util.Map;
+
+@Configuration
+public class WebSocketConfig {
+
+    // 어노테이션/함수형 라우트보다 먼저 확인
+    @Bean
+    public HandlerMapping newsWebSocketMapping(NewsWebSocketHandler handler) {
+        return new SimpleUrlHandlerMapping(Map.of("/ws/news", handler), -1);
+    }
+}
@@ -1,12 +1,27 @@
 package com.example.reactive_news_app.controller;
 
+import com.example.reactive_news_app.config.NewsStreamProperties.OverflowPolicy;
+import com.example.reactive_news_app.model.IngestResult;
 import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsPage;
+import com.example.reactive_news_app.search.SearchQuery;
+import com.example.reactive_news_app.service.NewsBroadcaster;
+import com.example.reactive_news_app.service.NewsIngestService;
 import com.example.reactive_news_app.service.NewsService;
+import com.example.reactive_news_app.service.StreamFilter;
 import com.example.reactive_news_app.service.UserService;
+import com.example.reactive_news_app.service.ViewCountAggregator;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -18,92 +33,173 @@ import java.time.Duration;
 @Slf4j
 public class NewsController {
 
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
     private final NewsService newsService;
+    private final NewsIngestService ingestService;
     private final UserService userService;
-
-    @GetMapping
-    public Flux<NewsArticle> getAllNews() {
-        log.info("GET /api/news - 모든 뉴스 조회");
-        return newsService.getAllNews();
+    private final MeterRegistry meterRegistry;
+
+    // 키셋 페이지 단위로 응답하고 다음 커서를 헤더로 전달 (limit 이 없으면 기본 크기의 페이지)
+    // NDJSON 은 캐시 없이 기사를 하나씩 스트리밍하고 다음 커서는 마지막 줄로 전달
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<Object>>> getAllNews(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer limit,
+                                                         ServerWebExchange exchange) {
+        log.debug("GET /api/news - 모든 뉴스 조회");
+        if (acceptsNdjson(exchange)) {
+            return streamResponse(newsService.streamAllNews(cursor, limit));
+        }
+        return toResponse(newsService.getAllNews(cursor, limit));
     }
 
     @GetMapping("/{id}")
     public Mono<NewsArticle> getNewsById(@PathVariable Long id) {
-        log.info("GET /api/news/{} - 특정 뉴스 조회", id);
+        log.debug("GET /api/news/{} - 특정 뉴스 조회", id);
         return newsService.getNewsById(id);
     }
 
-    @GetMapping("/category/{category}")
-    public Flux<NewsArticle> getNewsByCategory(@PathVariable String category) {
-        log.info("GET /api/news/category/{} - 카테고리별 뉴스 조회", category);
-        return newsService.getNewsByCategory(category);
+    @GetMapping(value = "/category/{category}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<Object>>> getNewsByCategory(@PathVariable String category,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                ServerWebExchange exchange) {
+        log.debug("GET /api/news/category/{} - 카테고리별 뉴스 조회", category);
+        if (acceptsNdjson(exchange)) {
+            return streamResponse(newsService.streamNewsByCategory(category, cursor, limit));
+        }
+        return toResponse(newsService.getNewsByCategory(category, cursor, limit));
     }
 
-    // Server-Sent Events
+    // Server-Sent Events. 조건에 맞는 기사만 받고, Last-Event-ID 로 재연결하면 놓친 기사부터 다시 받음
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public Flux<NewsArticle> getNewsStream() {
-        log.info("GET /api/news/stream - 실시간 뉴스 스트림 시작");
+    public Flux<ServerSentEvent<NewsArticle>> getNewsStream(@RequestParam(required = false) String category,
+                                                            @RequestParam(required = false) String author,
+                                                            @RequestParam(required = false) String keyword,
+                                                            @RequestParam(required = false) OverflowPolicy overflow,
+                                                            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        log.debug("GET /api/news/stream - 실시간 뉴스 스트림 시작");
+
+        return newsService.getNewsStream(StreamFilter.of(category, author, keyword), lastEventId, overflow)
+                .map(event -> ServerSentEvent.builder(event.article()).id(event.id()).build());
+    }
 
-        return newsService.getNewsStream()
-                .doOnSubscribe(subscription -> log.info("클라이언트가 뉴스 스트림 구독 시작"))
-                .doOnCancel(() -> log.info("클라이언트가 뉴스 스트림 구독 취소"))
-                .doOnTerminate(() -> log.info("뉴스 스트림 종료"));
+    @GetMapping("/stream/stats")
+    public Mono<NewsBroadcaster.StreamStats> getStreamStats() {
+        log.debug("GET /api/news/stream/stats - 뉴스 스트림 통계 조회");
+        return newsService.getStreamStats();
     }
 
     @GetMapping("/personalized/{userId}")
     public Flux<NewsArticle> getPersonalizedNews(@PathVariable Long userId) {
-        log.info("GET /api/news/personalized/{} - 개인화 뉴스 조회", userId);
+        log.debug("GET /api/news/personalized/{} - 개인화 뉴스 조회", userId);
+
+        return userService.getUserById(userId)
+                .flatMapMany(newsService::getPersonalizedNews);
+    }
 
-        return userService.getUserPreferences(userId)
-                .flatMapMany(newsService::getPersonalizedNews)
-                .doOnNext(article -> log.debug("개인화 뉴스 반환: {}", article.getTitle()));
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<Object>>> searchNews(@RequestParam String keyword,
+                                                         @RequestParam(defaultValue = "AND") SearchQuery.Operator operator,
+                                                         @RequestParam(defaultValue = "RECENCY") SearchQuery.Ranking sort,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer limit,
+                                                         ServerWebExchange exchange) {
+        log.debug("GET /api/news/search?keyword={} - 뉴스 검색", keyword);
+        if (acceptsNdjson(exchange)) {
+            return streamResponse(newsService.streamSearchNews(keyword, operator, sort, cursor, limit));
+        }
+        return toResponse(newsService.searchNews(keyword, operator, sort, cursor, limit));
     }
 
-    @GetMapping("/search")
-    public Flux<NewsArticle> searchNews(@RequestParam String keyword) {
-        log.info("GET /api/news/search?keyword={} - 뉴스 검색", keyword);
-        return newsService.searchNews(keyword);
+    @GetMapping(value = "/popular", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<Object>>> getPopularNews(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "5") int limit,
+                                                             ServerWebExchange exchange) {
+        log.debug("GET /api/news/popular?limit={} - 인기 뉴스 조회", limit);
+        if (acceptsNdjson(exchange)) {
+            return streamResponse(newsService.streamPopularNews(cursor, limit));
+        }
+        return toResponse(newsService.getPopularNews(cursor, limit));
     }
 
-    @GetMapping("/popular")
-    public Flux<NewsArticle> getPopularNews(@RequestParam(defaultValue = "5") int limit) {
-        log.info("GET /api/news/popular?limit={} - 인기 뉴스 조회", limit);
-        return newsService.getPopularNews(limit);
+    @GetMapping("/trending")
+    public Flux<NewsArticle> getTrendingNews(@RequestParam(defaultValue = "FIVE_MINUTES") ViewCountAggregator.Window window,
+                                             @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /api/news/trending?window={}&limit={} - 급상승 뉴스 조회", window, limit);
+        return newsService.getTrendingNews(window, limit);
     }
 
     @PostMapping
     public Mono<NewsArticle> createNews(@RequestBody NewsArticle newsArticle) {
-        log.info("POST /api/news - 새 뉴스 생성: {}", newsArticle.getTitle());
+        log.debug("POST /api/news - 새 뉴스 생성: {}", newsArticle.title());
         return newsService.createNews(newsArticle);
     }
 
+    // 일괄 등록: NDJSON 또는 JSON 배열 본문을 스트림으로 읽고 항목별 결과를 NDJSON 으로 응답
+    // NDJSON 은 줄 단위 문자열로, JSON 배열은 요소 단위 트리로 받아 잘못된 항목만 거부
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<IngestResult> bulkIngestLines(@RequestBody Flux<String> lines) {
+        log.debug("POST /api/news/bulk - 뉴스 일괄 등록 (NDJSON)");
+        return ingestService.ingestLines(lines);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<IngestResult> bulkIngestArray(@RequestBody Flux<JsonNode> items) {
+        log.debug("POST /api/news/bulk - 뉴스 일괄 등록 (JSON 배열)");
+        return ingestService.ingestNodes(items);
+    }
+
     @GetMapping("/slow")
     public Flux<NewsArticle> getSlowNews() {
-        log.info("GET /api/news/slow - 느린 뉴스 조회 (백프레셔 테스트)");
+        log.debug("GET /api/news/slow - 느린 뉴스 조회 (백프레셔 테스트)");
 
         return newsService.getAllNews()
-                .delayElements(Duration.ofSeconds(1))
-                .doOnNext(article -> log.debug("느린 뉴스 반환: {}", article.getTitle()));
+                .delayElements(Duration.ofSeconds(1));
     }
 
     @GetMapping(value = "/stream-backpressure", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<NewsArticle> getNewsStreamBackpressure() {
-        log.info("GET /api/news/stream-backpressure - 백프레셔 처리된 뉴스 스트림");
+        log.debug("GET /api/news/stream-backpressure - 백프레셔 처리된 뉴스 스트림");
 
+        // 버퍼가 넘치면 오류로 끊지 않고 오래된 것부터 버림
         return Flux.interval(Duration.ofMillis(100))
                 .map(this::generateTestArticle)
-                .onBackpressureBuffer(10)
-                .doOnNext(article -> log.debug("백프레셔 스트림: {}", article.getTitle()))
-                .doOnError(error -> log.error("백프레셔 오류: {}", error.getMessage()));
+                .onBackpressureBuffer(10, dropped -> meterRegistry.counter("news.stream.backpressure.dropped").increment(),
+                        BufferOverflowStrategy.DROP_OLDEST)
+                .doOnError(error -> log.error("백프레셔 오류: {}", error.getMessage()))
+                .name("news.stream.backpressure")
+                .tap(Micrometer.metrics(meterRegistry));
+    }
+
+    // ETag 가 있으면 If-None-Match 가 일치할 때 WebFlux 가 본문 없이 304 로 응답
+    private Mono<ResponseEntity<Flux<Object>>> toResponse(Mono<NewsPage> page) {
+        return page.map(result -> {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(result.etag());
+            if (result.nextCursor() != null) {
+                builder.header(NewsPage.NEXT_CURSOR_HEADER, result.nextCursor());
+            }
+            return builder.body(Flux.<Object>fromIterable(result.items()));
+        });
+    }
+
+    // 본문을 쓰기 전에는 목록 내용을 알 수 없으므로 ETag 없이 스트리밍
+    private static Mono<ResponseEntity<Flux<Object>>> streamResponse(Flux<Object> items) {
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(items));
+    }
+
+    private static boolean acceptsNdjson(ServerWebExchange exchange) {
+        return exchange.getRequest().getHeaders().getAccept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
     }
 
     private NewsArticle generateTestArticle(Long tick) {
-        return NewsArticle.builder()
-                .id(tick)
-                .title("백프레셔 테스트 뉴스" + tick)
-                .content("백프레셔 처리를 위한 테스트 뉴스입니다.")
-                .category("TEST")
-                .author("시스템")
-                .build();
+        return NewsArticle.of(tick, "백프레셔 테스트 뉴스" + tick, "백프레셔 처리를 위한 테스트 뉴스입니다.",
+                "TEST", "시스템", null, 0, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.reactive_news_app.controller;
+
+import com.example.reactive_news_app.model.NewsEvent;
+import com.example.reactive_news_app.model.StreamSubscription;
+import com.example.reactive_news_app.overload.StreamLimiter;
+import com.example.reactive_news_app.service.NewsService;
+import com.example.reactive_news_app.service.StreamFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+// RSocket request-stream. 요청자의 request(n) 이 그대로 구독 요청량이 되므로 느린 클라이언트는 서버에서 꺼내 가는 속도를 늦춤
+// 데이터 형식은 SETUP 의 data mime type 으로 선택 (application/cbor 또는 application/json)
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class NewsRSocketController {
+
+    private final NewsService newsService;
+    private final StreamLimiter streamLimiter;
+
+    @MessageMapping("news.stream")
+    public Flux<NewsEvent> stream(@Payload(required = false) StreamSubscription subscription) {
+        log.debug("RSocket news.stream - 실시간 뉴스 스트림 시작: {}", subscription);
+
+        StreamSubscription conditions = subscription == null ? StreamSubscription.ALL : subscription;
+        // RSocket 은 WebFilter 를 거치지 않으므로 여기서 전체 스트림 수 한도를 적용
+        return Flux.defer(() -> {
+            if (!streamLimiter.tryAcquire()) {
+                return Flux.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "동시 스트림 한도 초과"));
+            }
+            return newsService.getNewsStream(
+                            StreamFilter.of(conditions.category(), conditions.author(), conditions.keyword()),
+                            conditions.lastEventId(),
+                            conditions.overflow())
+                    .doFinally(signal -> streamLimiter.release());
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.reactive_news_app.filter;
+
+import com.example.reactive_news_app.config.AccessLogProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 한 줄만 기록하는 액세스 로그 (샘플링 + 느린 요청은 항상 기록)
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j(topic = "access")
+public class AccessLogWebFilter implements WebFilter {
+
+    private final AccessLogProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.isEnabled() || !log.isInfoEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> record(exchange, signal, System.nanoTime() - start));
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long elapsedNanos) {
+        boolean slow = elapsedNanos >= properties.getSlowThreshold().toNanos();
+        if (!slow && ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            return;
+        }
+
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        log.info("method={} path={} status={} durationMs={} signal={} slow={}",
+                exchange.getRequest().getMethod(),
+                exchange.getRequest().getPath().value(),
+                status != null ? status.value() : 0,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                signal,
+                slow);
+    }
+}
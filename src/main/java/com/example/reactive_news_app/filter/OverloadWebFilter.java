@@ -0,0 +1,65 @@
+package com.example.reactive_news_app.filter;
+
+import com.example.reactive_news_app.config.OverloadProperties;
+import com.example.reactive_news_app.overload.AdaptiveConcurrencyLimiter;
+import com.example.reactive_news_app.overload.StreamLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// 과부하 시 처리 전에 503 + Retry-After 로 거절
+// 스트림 경로는 전체 스트림 수로, 나머지 API 는 이벤트 루프 지연에 따라 바뀌는 동시 요청 한도로 제한
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+@Slf4j
+public class OverloadWebFilter implements WebFilter {
+
+    private final OverloadProperties properties;
+    private final StreamLimiter streamLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        if (properties.getStreamPaths().contains(path)) {
+            if (!streamLimiter.tryAcquire()) {
+                return reject(exchange, "stream-limit");
+            }
+            return chain.filter(exchange).doFinally(signal -> streamLimiter.release());
+        }
+
+        if (path.startsWith("/api/") || path.startsWith("/functional/")) {
+            if (!concurrencyLimiter.tryAcquire()) {
+                return reject(exchange, "concurrency-limit");
+            }
+            return chain.filter(exchange).doFinally(signal -> concurrencyLimiter.release());
+        }
+
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, String reason) {
+        log.debug("과부하로 요청 거절: {} {} ({})", exchange.getRequest().getMethod(),
+                exchange.getRequest().getPath().value(), reason);
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                Long.toString(Math.max(1, properties.getRetryAfter().toSeconds())));
+        return response.setComplete();
+    }
+}
@@ -1,70 +1,197 @@
 package com.example.reactive_news_app.handler;
 
+import com.example.reactive_news_app.config.NewsStreamProperties.OverflowPolicy;
+import com.example.reactive_news_app.model.IngestResult;
 import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsPage;
+import com.example.reactive_news_app.search.SearchQuery;
+import com.example.reactive_news_app.service.NewsIngestService;
 import com.example.reactive_news_app.service.NewsService;
+import com.example.reactive_news_app.service.StreamFilter;
+import com.example.reactive_news_app.service.ViewCountAggregator;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NewsHandler {
     private final NewsService newsService;
+    private final NewsIngestService ingestService;
 
     public Mono<ServerResponse> getAllNews(ServerRequest request) {
-        log.info("Handler: 모든 뉴스 조회 요청");
+        log.debug("Handler: 모든 뉴스 조회 요청");
 
-        return ServerResponse.ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(newsService.getAllNews(), NewsArticle.class)
-                .doOnSuccess(response -> log.info("Handler: 뉴스 목록 응답 완료"));
+        return listResponse(request, newsService::getAllNews, newsService::streamAllNews);
     }
 
     public Mono<ServerResponse> getNewsById(ServerRequest request) {
         Long id = Long.parseLong(request.pathVariable("id"));
-        log.info("Hanlder: 뉴스 조회 요청 - ID: {}", id);
+        log.debug("Hanlder: 뉴스 조회 요청 - ID: {}", id);
 
         return newsService.getNewsById(id)
                 .flatMap(article -> ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
                         .bodyValue(article))
-                .switchIfEmpty(ServerResponse.notFound().build())
-                .doOnSuccess(response -> log.info("Handler: 뉴스 조회 응답 완료 - ID: {}", id));
+                .switchIfEmpty(ServerResponse.notFound().build());
     }
 
     public Mono<ServerResponse> createNews(ServerRequest request) {
-        log.info("Handler: 뉴스 생성 요청");
+        log.debug("Handler: 뉴스 생성 요청");
 
         return request.bodyToMono(NewsArticle.class)
                 .flatMap(newsService::createNews)
                 .flatMap(created -> ServerResponse.ok()
                         .contentType(MediaType.APPLICATION_JSON)
                         .bodyValue(created)
-                )
-                .doOnSuccess(response -> log.info("Handler: 뉴스 생성 응답 완료"));
+                );
+    }
+
+    // NDJSON 은 줄 단위 문자열로, JSON 배열은 요소 단위 트리로 받아 잘못된 항목만 거부
+    public Mono<ServerResponse> bulkIngest(ServerRequest request) {
+        log.debug("Handler: 뉴스 일괄 등록 요청");
+
+        boolean ndjson = request.headers().contentType()
+                .filter(MediaType.APPLICATION_NDJSON::isCompatibleWith)
+                .isPresent();
+        Flux<IngestResult> results = ndjson
+                ? ingestService.ingestLines(request.bodyToFlux(String.class))
+                : ingestService.ingestNodes(request.bodyToFlux(JsonNode.class));
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(results, IngestResult.class);
     }
 
     public Mono<ServerResponse> getNewsStream(ServerRequest request) {
-        log.info("Handler: 실시간 뉴스 스트림 요청");
+        log.debug("Handler: 실시간 뉴스 스트림 요청");
 
+        StreamFilter filter = StreamFilter.of(
+                request.queryParam("category").orElse(null),
+                request.queryParam("author").orElse(null),
+                request.queryParam("keyword").orElse(null));
+        String lastEventId = request.headers().firstHeader("Last-Event-ID");
+        OverflowPolicy overflow = enumParam(request, "overflow", OverflowPolicy.class, null);
+
+        Flux<ServerSentEvent<NewsArticle>> events = newsService.getNewsStream(filter, lastEventId, overflow)
+                .map(event -> ServerSentEvent.builder(event.article()).id(event.id()).build());
         return ServerResponse.ok()
                 .contentType(MediaType.TEXT_EVENT_STREAM)
-                .body(newsService.getNewsStream(), NewsArticle.class)
-                .doOnSuccess(response -> log.info("Handler: 뉴스 스트림 응답 시작"));
+                .body(events, new ParameterizedTypeReference<ServerSentEvent<NewsArticle>>() {
+                });
     }
 
     public Mono<ServerResponse> getNewsByCategory(ServerRequest request) {
         String category = request.pathVariable("category");
-        log.info("Handler: 카테고리별 뉴스 조회 요청 - Category: {}", category);
+        log.debug("Handler: 카테고리별 뉴스 조회 요청 - Category: {}", category);
+
+        return listResponse(request,
+                (cursor, limit) -> newsService.getNewsByCategory(category, cursor, limit),
+                (cursor, limit) -> newsService.streamNewsByCategory(category, cursor, limit));
+    }
+
+    public Mono<ServerResponse> searchNews(ServerRequest request) {
+        String keyword = request.queryParam("keyword")
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "keyword 파라미터가 필요합니다"));
+        SearchQuery.Operator operator = enumParam(request, "operator", SearchQuery.Operator.class, SearchQuery.Operator.AND);
+        SearchQuery.Ranking ranking = enumParam(request, "sort", SearchQuery.Ranking.class, SearchQuery.Ranking.RECENCY);
+        log.debug("Handler: 뉴스 검색 요청 - Keyword: {}", keyword);
 
+        return listResponse(request,
+                (cursor, limit) -> newsService.searchNews(keyword, operator, ranking, cursor, limit),
+                (cursor, limit) -> newsService.streamSearchNews(keyword, operator, ranking, cursor, limit));
+    }
+
+    public Mono<ServerResponse> getTrendingNews(ServerRequest request) {
+        ViewCountAggregator.Window window = enumParam(request, "window", ViewCountAggregator.Window.class,
+                ViewCountAggregator.Window.FIVE_MINUTES);
+        log.debug("Handler: 급상승 뉴스 조회 요청 - Window: {}", window);
+
+        int limit = intParam(request, "limit").orElse(10);
         return ServerResponse.ok()
                 .contentType(MediaType.APPLICATION_JSON)
-                .body(newsService.getNewsByCategory(category), NewsArticle.class)
-                .doOnSuccess(response -> log.info("Handler: 카테고리별 뉴스 응답 완료 - Category: {}", category));
+                .body(newsService.getTrendingNews(window, limit), NewsArticle.class);
+    }
+
+    public Mono<ServerResponse> getPopularNews(ServerRequest request) {
+        log.debug("Handler: 인기 뉴스 조회 요청");
+
+        int limit = intParam(request, "limit").orElse(5);
+        String cursor = request.queryParam("cursor").orElse(null);
+        if (acceptsNdjson(request)) {
+            return streamResponse(newsService.streamPopularNews(cursor, limit));
+        }
+        return pageResponse(newsService.getPopularNews(cursor, limit));
+    }
+
+    // 키셋 페이지로 응답 (limit 이 없으면 기본 크기)
+    // NDJSON 을 요청하면 캐시 없이 기사를 하나씩 스트리밍하고 다음 커서는 마지막 줄로 전달
+    private Mono<ServerResponse> listResponse(ServerRequest request,
+                                              BiFunction<String, Integer, Mono<NewsPage>> paged,
+                                              BiFunction<String, Integer, Flux<Object>> streamed) {
+        String cursor = request.queryParam("cursor").orElse(null);
+        Integer limit = intParam(request, "limit").orElse(null);
+        if (acceptsNdjson(request)) {
+            return streamResponse(streamed.apply(cursor, limit));
+        }
+        return pageResponse(paged.apply(cursor, limit));
+    }
+
+    // ETag 가 있으면 If-None-Match 가 일치할 때 WebFlux 가 본문 없이 304 로 응답
+    private Mono<ServerResponse> pageResponse(Mono<NewsPage> page) {
+        return page.flatMap(result -> {
+            ServerResponse.BodyBuilder builder = ServerResponse.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(result.etag());
+            if (result.nextCursor() != null) {
+                builder.header(NewsPage.NEXT_CURSOR_HEADER, result.nextCursor());
+            }
+            return builder.body(Flux.fromIterable(result.items()), NewsArticle.class);
+        });
+    }
+
+    // 본문을 쓰기 전에는 목록 내용을 알 수 없으므로 ETag 없이 스트리밍
+    private static Mono<ServerResponse> streamResponse(Flux<Object> items) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(items, Object.class);
+    }
+
+    private static boolean acceptsNdjson(ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    private static Optional<Integer> intParam(ServerRequest request, String name) {
+        try {
+            return request.queryParam(name).map(Integer::parseInt);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " 파라미터는 숫자여야 합니다");
+        }
+    }
+
+    private static <E extends Enum<E>> E enumParam(ServerRequest request, String name, Class<E> type, E defaultValue) {
+        try {
+            return request.queryParam(name)
+                    .map(value -> Enum.valueOf(type, value.toUpperCase(Locale.ROOT)))
+                    .orElse(defaultValue);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, name + " 파라미터 값이 올바르지 않습니다");
+        }
     }
 }
\ No newline at end of file
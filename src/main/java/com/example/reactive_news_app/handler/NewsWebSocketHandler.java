@@ -0,0 +1,122 @@
+package com.example.reactive_news_app.handler;
+
+import com.example.reactive_news_app.codec.ArticleJsonCache;
+import com.example.reactive_news_app.model.FeedCommand;
+import com.example.reactive_news_app.model.NewsEvent;
+import com.example.reactive_news_app.service.NewsService;
+import com.example.reactive_news_app.service.StreamFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 실시간 뉴스 WebSocket (/ws/news)
+// 클라이언트가 REQUEST 로 보낸 개수와 소켓이 쓸 수 있는 만큼만 꺼내 보내므로, 느린 클라이언트는 서버 쪽 구독자 버퍼에서 기다림
+// 하위 프로토콜 news.v1.cbor 를 고르면 바이너리 CBOR, 아니면 JSON 텍스트 프레임으로 주고받음
+@Component
+@Slf4j
+public class NewsWebSocketHandler implements WebSocketHandler {
+
+    public static final String JSON_PROTOCOL = "news.v1.json";
+    public static final String CBOR_PROTOCOL = "news.v1.cbor";
+
+    private final NewsService newsService;
+    private final ArticleJsonCache articleJsonCache;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    public NewsWebSocketHandler(NewsService newsService, ArticleJsonCache articleJsonCache, ObjectMapper jsonMapper,
+                                Jackson2ObjectMapperBuilder mapperBuilder) {
+        this.newsService = newsService;
+        this.articleJsonCache = articleJsonCache;
+        this.jsonMapper = jsonMapper;
+        // JSON 과 같은 모듈/설정을 쓰는 CBOR 매퍼
+        this.cborMapper = mapperBuilder.factory(new CBORFactory()).build();
+    }
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(CBOR_PROTOCOL, JSON_PROTOCOL);
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        boolean cbor = CBOR_PROTOCOL.equals(session.getHandshakeInfo().getSubProtocol());
+        WebSocketFeed feed = new WebSocketFeed(subscription -> newsService.getNewsStream(
+                StreamFilter.of(subscription.category(), subscription.author(), subscription.keyword()),
+                subscription.lastEventId(),
+                subscription.overflow()));
+        log.debug("WebSocket 연결: {} ({})", session.getId(), cbor ? "cbor" : "json");
+
+        Mono<Void> input = session.receive()
+                .map(this::readCommand)
+                .doOnNext(feed::onCommand)
+                .doOnTerminate(feed::close)
+                .then()
+                .onErrorResume(error -> {
+                    log.debug("WebSocket 제어 메시지 오류: {} - {}", session.getId(), error.getMessage());
+                    feed.close();
+                    return session.close(CloseStatus.BAD_DATA);
+                });
+
+        // 구독이 끝나면 (예: 느린 구독자 연결 종료 정책) 연결도 닫음
+        Mono<Void> output = session.send(feed.events()
+                        .map(event -> cbor ? cborMessage(session, event) : jsonMessage(session, event)))
+                .then(Mono.defer(session::close));
+
+        return Mono.zip(input, output)
+                .then()
+                .doFinally(signal -> {
+                    feed.close();
+                    log.debug("WebSocket 종료: {}", session.getId());
+                });
+    }
+
+    private FeedCommand readCommand(WebSocketMessage message) {
+        ObjectMapper mapper = message.getType() == WebSocketMessage.Type.BINARY ? cborMapper : jsonMapper;
+        try (InputStream payload = message.getPayload().asInputStream()) {
+            return mapper.readValue(payload, FeedCommand.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // {"id":"...","article":{...}} - 기사 부분은 캐시된 직렬화 바이트를 그대로 사용 (id 는 영숫자와 '-' 뿐이라 이스케이프 불필요)
+    private WebSocketMessage jsonMessage(WebSocketSession session, NewsEvent event) {
+        byte[] prefix = ("{\"id\":\"" + event.id() + "\",\"article\":").getBytes(StandardCharsets.UTF_8);
+        byte[] article = articleJsonCache.bytes(event.article());
+
+        DataBuffer buffer = session.bufferFactory().allocateBuffer(prefix.length + article.length + 1);
+        buffer.write(prefix);
+        buffer.write(article);
+        buffer.write((byte) '}');
+        return new WebSocketMessage(WebSocketMessage.Type.TEXT, buffer);
+    }
+
+    private WebSocketMessage cborMessage(WebSocketSession session, NewsEvent event) {
+        return session.binaryMessage(factory -> factory.wrap(writeCbor(event)));
+    }
+
+    private byte[] writeCbor(NewsEvent event) {
+        try {
+            return cborMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new EncodingException("기사 CBOR 직렬화 실패: " + event.id(), e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.reactive_news_app.handler;
+
+import com.example.reactive_news_app.model.FeedCommand;
+import com.example.reactive_news_app.model.NewsEvent;
+import com.example.reactive_news_app.model.StreamSubscription;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Operators;
+
+import java.util.function.Function;
+
+// WebSocket 연결 하나의 구독 상태
+// 상위 스트림에는 클라이언트가 REQUEST 로 준 요청량과 소켓이 더 받을 수 있는 양 중 작은 만큼만 요청하므로,
+// 클라이언트가 큰 n 을 보내도 소켓 쓰기가 밀리면 이벤트는 서버 쪽 구독자 버퍼(overflow 정책)에서 기다림
+// 조건이 바뀌면 이전 구독을 끊고, 요청했지만 받지 못한 양은 새 구독으로 넘김
+@Slf4j
+final class WebSocketFeed {
+
+    private final Function<StreamSubscription, Flux<NewsEvent>> streams;
+
+    // 클라이언트가 요청했지만 아직 상위 스트림에 요청하지 않은 양
+    private long credit;
+    // 소켓이 요청했지만 아직 상위 스트림에 요청하지 않은 양
+    private long socketDemand;
+    private FeedSubscriber current;
+    private FluxSink<NewsEvent> sink;
+    private boolean closed;
+
+    WebSocketFeed(Function<StreamSubscription, Flux<NewsEvent>> streams) {
+        this.streams = streams;
+    }
+
+    // 소켓이 요청한 만큼만 내보내므로 쌓이지 않음 (넘치면 요청량 계산이 어긋난 것이라 오류로 끝냄)
+    Flux<NewsEvent> events() {
+        return Flux.create(this::attach, FluxSink.OverflowStrategy.ERROR);
+    }
+
+    synchronized void onCommand(FeedCommand command) {
+        if (closed || command.type() == null) {
+            return;
+        }
+
+        switch (command.type()) {
+            case SUBSCRIBE -> subscribe(command.subscription());
+            case REQUEST -> request(command.n());
+            case CANCEL -> cancelCurrent();
+        }
+    }
+
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cancelCurrent();
+        if (sink != null) {
+            sink.complete();
+        }
+    }
+
+    private synchronized void attach(FluxSink<NewsEvent> sink) {
+        if (this.sink != null) {
+            sink.error(new IllegalStateException("이미 전송 중인 연결입니다"));
+            return;
+        }
+        this.sink = sink;
+        if (closed) {
+            sink.complete();
+            return;
+        }
+        sink.onRequest(this::onSocketRequest);
+        sink.onDispose(this::close);
+    }
+
+    private synchronized void onSocketRequest(long n) {
+        socketDemand = Operators.addCap(socketDemand, n);
+        forward();
+    }
+
+    private void subscribe(StreamSubscription subscription) {
+        cancelCurrent();
+        current = new FeedSubscriber();
+        streams.apply(subscription == null ? StreamSubscription.ALL : subscription).subscribe(current);
+    }
+
+    private void request(long n) {
+        if (n <= 0) {
+            return;
+        }
+        credit = Operators.addCap(credit, n);
+        forward();
+    }
+
+    private void forward() {
+        if (current == null || !current.ready) {
+            return;
+        }
+        long n = Math.min(credit, socketDemand);
+        if (n > 0) {
+            credit -= n;
+            socketDemand -= n;
+            current.inFlight = Operators.addCap(current.inFlight, n);
+            current.request(n);
+        }
+    }
+
+    private void cancelCurrent() {
+        if (current == null) {
+            return;
+        }
+        // 요청했지만 받지 못한 양은 클라이언트 요청량과 소켓 요청량 모두에 되돌림
+        credit = Operators.addCap(credit, current.inFlight);
+        socketDemand = Operators.addCap(socketDemand, current.inFlight);
+        current.dispose();
+        current = null;
+    }
+
+    private void deliver(FeedSubscriber from, NewsEvent event) {
+        FluxSink<NewsEvent> target;
+        synchronized (this) {
+            // 끊은 구독에서 늦게 도착한 이벤트는 버림 (요청량은 cancelCurrent 에서 이미 되돌림)
+            if (from != current || closed) {
+                return;
+            }
+            from.inFlight--;
+            target = sink;
+        }
+        target.next(event);
+    }
+
+    private final class FeedSubscriber extends BaseSubscriber<NewsEvent> {
+        // 상위 스트림에 요청했지만 아직 받지 못한 양
+        private long inFlight;
+        private boolean ready;
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            synchronized (WebSocketFeed.this) {
+                ready = true;
+                if (this == current) {
+                    forward();
+                }
+            }
+        }
+
+        @Override
+        protected void hookOnNext(NewsEvent event) {
+            deliver(this, event);
+        }
+
+        // 구독이 끝나면 (예: 느린 구독자 연결 종료 정책) 연결도 닫음
+        @Override
+        protected void hookOnError(Throwable error) {
+            log.debug("WebSocket 구독 종료: {}", error.getMessage());
+            synchronized (WebSocketFeed.this) {
+                if (this == current) {
+                    close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.reactive_news_app.id;
+
+public interface IdGenerator {
+
+    long nextId();
+}
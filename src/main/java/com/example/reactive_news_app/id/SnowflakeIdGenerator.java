@@ -0,0 +1,61 @@
+package com.example.reactive_news_app.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 53비트 = 타임스탬프 초(31) + 노드(10) + 시퀀스(12). JavaScript 숫자(2^53 미만)로도 정확히 읽히도록 JSON 에 숫자 그대로 씀
+// 락 없이 CAS 로 (타임스탬프, 시퀀스) 상태를 갱신하며, 같은 초에 시퀀스가 넘치면 다음 초를 미리 사용
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int TIMESTAMP_BITS = 31;
+    static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    static final long MAX_ID = (1L << (TIMESTAMP_BITS + NODE_BITS + SEQUENCE_BITS)) - 1;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final long epochSeconds;
+
+    // (epoch 기준 초 단위 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId, Instant epoch) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.epochSeconds = epoch.getEpochSecond();
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long now = System.currentTimeMillis() / 1000 - epochSeconds;
+
+            // 시계가 뒤로 가거나 시퀀스가 넘쳐도 상태는 항상 증가하므로 중복이 생기지 않음
+            long next = now > (current >>> SEQUENCE_BITS)
+                    ? now << SEQUENCE_BITS
+                    : current + 1;
+            if ((next >>> SEQUENCE_BITS) > MAX_TIMESTAMP) {
+                throw new IllegalStateException("ID 타임스탬프가 " + TIMESTAMP_BITS + "비트를 넘었습니다. news.id.epoch 를 확인하세요");
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return compose(next);
+            }
+        }
+    }
+
+    private long compose(long next) {
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
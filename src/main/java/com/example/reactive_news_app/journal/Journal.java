@@ -0,0 +1,447 @@
+package com.example.reactive_news_app.journal;
+
+import com.example.reactive_news_app.config.JournalProperties;
+import com.example.reactive_news_app.journal.JournalRecord.ArticleSaved;
+import com.example.reactive_news_app.journal.JournalRecord.UserSaved;
+import com.example.reactive_news_app.journal.JournalRecord.ViewCounts;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// 기사/사용자/조회수 변경을 추가 전용 이진 저널(journal.log)에 남기고, 주기적으로 전체 상태를 스냅샷(snapshot.bin)으로 압축
+// 기동 시 스냅샷(메모리 매핑) + 그 뒤의 저널을 재생해 DB 를 거치지 않고 메모리 상태를 복구
+// 기록은 비동기: 변경을 모아 묶음마다 한 번 쓰고 한 번 fsync (그룹 커밋) 하므로 최대 flush-interval 만큼 유실될 수 있음
+@Component
+@Slf4j
+public class Journal {
+
+    static final String JOURNAL_FILE = "journal.log";
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private static final int JOURNAL_MAGIC = 0x4E574A31;
+    private static final int SNAPSHOT_MAGIC = 0x4E575331;
+    private static final int JOURNAL_HEADER_SIZE = Integer.BYTES;
+    // 형식 표시 + 레코드 수 (레코드 수가 맞지 않으면 다 쓰지 못한 스냅샷)
+    private static final int SNAPSHOT_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    // 스냅샷을 쓸 때 이만큼 모이면 파일에 씀
+    private static final int SNAPSHOT_WRITE_SIZE = 1 << 20;
+    // 레코드를 버릴 때 경고 로그를 남기는 최소 간격
+    private static final long DROP_WARN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final JournalProperties properties;
+
+    // 여러 스레드가 동시에 넣는 다중 생산자 대기열을 쓰기 스레드 하나가 꺼냄 (넣는 쪽은 재시도 없이 바로 반환)
+    // 대기열 자체는 크기 제한이 없어 queued 로 한도를 지킴
+    private final Sinks.Many<JournalRecord> pending = Sinks.unsafe().many().unicast()
+            .onBackpressureBuffer(Queues.<JournalRecord>unboundedMultiproducer().get());
+    private final AtomicInteger queued = new AtomicInteger();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    // 아래는 쓰기 스레드에서만 사용 (기동 시 복구 제외)
+    private final JournalCodec codec = new JournalCodec(64 * 1024);
+    private FileChannel channel;
+
+    private final LongAdder appendedCount = new LongAdder();
+    private final LongAdder syncCount = new LongAdder();
+    private final LongAdder snapshotCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    // 버린 레코드가 있으면 저널 크기와 관계없이 다음 주기에 스냅샷을 씀 (버린 변경은 메모리에만 있으므로)
+    private final AtomicBoolean snapshotRequired = new AtomicBoolean();
+    private final AtomicLong lastDropWarn = new AtomicLong(System.nanoTime() - DROP_WARN_INTERVAL_NANOS);
+    private volatile long journalSize;
+
+    private Scheduler writer;
+
+    // 기동 시 복구한 상태 (서비스가 가져가면 비움)
+    private Map<Long, NewsArticle> recoveredArticles = Map.of();
+    private Map<Long, User> recoveredUsers = Map.of();
+    private Map<Long, Map<String, Long>> recoveredCounters = Map.of();
+
+    public Journal(JournalProperties properties) {
+        this.properties = properties;
+    }
+
+    // 전체 상태. 기사의 조회수는 누적값이고, counters 는 클러스터 모드의 기사별 replica 카운터
+    public record Snapshot(List<NewsArticle> articles, List<User> users, Map<Long, Map<String, Long>> counters) {
+
+        public Snapshot(List<NewsArticle> articles, List<User> users) {
+            this(articles, users, Map.of());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            drained.countDown();
+            return;
+        }
+
+        try {
+            recover();
+        } catch (IOException e) {
+            throw new IllegalStateException("저널을 열 수 없습니다: " + properties.getDirectory(), e);
+        }
+
+        writer = Schedulers.newSingle("journal-writer");
+        pending.asFlux()
+                .bufferTimeout(properties.getBatchSize(), properties.getFlushInterval(), true)
+                .publishOn(writer)
+                .doOnNext(this::writeBatch)
+                .doFinally(signal -> drained.countDown())
+                .subscribe();
+    }
+
+    // 종료 시 남은 레코드를 모두 기록한 뒤 닫음
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        pending.tryEmitComplete();
+        if (!drained.await(10, TimeUnit.SECONDS)) {
+            log.warn("저널 대기열을 모두 기록하지 못하고 종료합니다");
+        }
+        if (writer != null) {
+            writer.dispose();
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    // 변경을 메모리에 반영한 뒤 호출 (스냅샷이 저널보다 항상 최신이도록)
+    // 한도를 넘으면 기다리지 않고 버리되 (호출하는 쪽이 이벤트 루프일 수 있으므로) 다음 주기에 스냅샷을 쓰게 함
+    public void append(JournalRecord record) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (queued.incrementAndGet() > properties.getQueueCapacity()) {
+            queued.decrementAndGet();
+            drop();
+            return;
+        }
+        if (pending.tryEmitNext(record).isFailure()) {
+            // 종료 중 (종료 시 스냅샷에 들어감)
+            queued.decrementAndGet();
+            drop();
+        }
+    }
+
+    // JournalCompactor 가 저널 크기와 함께 확인
+    public boolean isSnapshotRequired() {
+        return snapshotRequired.get();
+    }
+
+    public synchronized List<NewsArticle> takeRecoveredArticles() {
+        List<NewsArticle> articles = new ArrayList<>(recoveredArticles.values());
+        recoveredArticles = Map.of();
+        return articles;
+    }
+
+    public synchronized List<User> takeRecoveredUsers() {
+        List<User> users = new ArrayList<>(recoveredUsers.values());
+        recoveredUsers = Map.of();
+        return users;
+    }
+
+    public synchronized Map<Long, Map<String, Long>> takeRecoveredCounters() {
+        Map<Long, Map<String, Long>> counters = recoveredCounters;
+        recoveredCounters = Map.of();
+        return counters;
+    }
+
+    // 현재 상태를 스냅샷으로 쓰고 저널을 비움
+    // 쓰기 스레드에서 state 를 읽으므로 이미 기록된 레코드의 변경은 모두 스냅샷에 들어감
+    // 아직 대기 중인 레코드는 비운 저널에 다시 쓰이며, 재생해도 결과가 같아 스냅샷과 겹쳐도 무방
+    // state 를 읽기 전에 snapshotRequired 를 끄므로, 그 뒤에 버린 레코드는 다음 스냅샷이 다시 담음
+    public Mono<Void> compact(Supplier<Snapshot> state) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> {
+                    snapshotRequired.set(false);
+                    if (!writeSnapshot(state.get())) {
+                        snapshotRequired.set(true);
+                    }
+                })
+                .subscribeOn(writer)
+                .then();
+    }
+
+    public long getJournalSize() {
+        return journalSize;
+    }
+
+    public long getAppendedCount() {
+        return appendedCount.sum();
+    }
+
+    public long getSyncCount() {
+        return syncCount.sum();
+    }
+
+    public long getSnapshotCount() {
+        return snapshotCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    private void writeBatch(List<JournalRecord> batch) {
+        queued.addAndGet(-batch.size());
+        long start = journalSize;
+        try {
+            codec.clear();
+            batch.forEach(codec::write);
+            write(channel, codec.flip());
+            if (properties.isFsync()) {
+                channel.force(false);
+                syncCount.increment();
+            }
+            journalSize = channel.position();
+            appendedCount.add(batch.size());
+        } catch (IOException e) {
+            failedCount.add(batch.size());
+            log.error("저널 기록 실패: {}건, {}", batch.size(), e.getMessage());
+            // 일부만 쓰인 레코드 뒤에 다음 묶음이 붙지 않도록 되돌림
+            try {
+                channel.truncate(start);
+                channel.position(start);
+            } catch (IOException ignored) {
+                // 다음 기동 때 체크섬으로 걸러짐
+            }
+        }
+    }
+
+    private void drop() {
+        droppedCount.increment();
+        snapshotRequired.set(true);
+        long now = System.nanoTime();
+        long last = lastDropWarn.get();
+        if (now - last >= DROP_WARN_INTERVAL_NANOS && lastDropWarn.compareAndSet(last, now)) {
+            log.warn("저널 대기열이 가득 차 레코드를 버리는 중 (누적 {}건), 다음 주기에 스냅샷을 씀", droppedCount.sum());
+        }
+    }
+
+    private boolean writeSnapshot(Snapshot snapshot) {
+        long started = System.nanoTime();
+        Path target = path(SNAPSHOT_FILE);
+        Path temp = path(SNAPSHOT_FILE + ".tmp");
+
+        try {
+            long records = 0;
+            try (FileChannel out = FileChannel.open(temp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                out.position(SNAPSHOT_HEADER_SIZE);
+                codec.clear();
+                for (NewsArticle article : snapshot.articles()) {
+                    codec.write(new ArticleSaved(article));
+                    records++;
+                    if (codec.size() >= SNAPSHOT_WRITE_SIZE) {
+                        write(out, codec.flip());
+                        codec.clear();
+                    }
+                }
+                for (User user : snapshot.users()) {
+                    codec.write(new UserSaved(user));
+                    records++;
+                    if (codec.size() >= SNAPSHOT_WRITE_SIZE) {
+                        write(out, codec.flip());
+                        codec.clear();
+                    }
+                }
+                for (Map.Entry<Long, Map<String, Long>> entry : snapshot.counters().entrySet()) {
+                    codec.write(new ViewCounts(Map.of(), Map.of(entry.getKey(), entry.getValue())));
+                    records++;
+                    if (codec.size() >= SNAPSHOT_WRITE_SIZE) {
+                        write(out, codec.flip());
+                        codec.clear();
+                    }
+                }
+                write(out, codec.flip());
+                codec.clear();
+
+                out.write(ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE)
+                        .putInt(SNAPSHOT_MAGIC)
+                        .putLong(records)
+                        .flip(), 0);
+                out.force(true);
+            }
+            Files.move(temp, target, ATOMIC_MOVE, REPLACE_EXISTING);
+
+            // 스냅샷이 자리를 잡은 뒤에만 저널을 비움 (그 사이에 죽으면 스냅샷 + 이전 저널을 재생해도 결과가 같음)
+            channel.truncate(JOURNAL_HEADER_SIZE);
+            channel.position(JOURNAL_HEADER_SIZE);
+            channel.force(true);
+            journalSize = JOURNAL_HEADER_SIZE;
+            snapshotCount.increment();
+
+            log.info("스냅샷 저장 완료: 기사 {}개, 사용자 {}명, {}ms", snapshot.articles().size(), snapshot.users().size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return true;
+        } catch (IOException e) {
+            log.error("스냅샷 저장 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(properties.getDirectory());
+
+        Map<Long, NewsArticle> articles = new HashMap<>();
+        Map<Long, User> users = new HashMap<>();
+        Map<Long, Map<String, Long>> counters = new HashMap<>();
+        long fromSnapshot = loadSnapshot(articles, users, counters);
+
+        channel = FileChannel.open(path(JOURNAL_FILE), CREATE, READ, WRITE);
+        long fromJournal = replayJournal(articles, users, counters);
+
+        recoveredArticles = articles;
+        recoveredUsers = users;
+        recoveredCounters = counters;
+        log.info("저널 복구 완료: 기사 {}개, 사용자 {}명 (스냅샷 {}건, 저널 {}건), {}ms",
+                articles.size(), users.size(), fromSnapshot, fromJournal,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private long loadSnapshot(Map<Long, NewsArticle> articles, Map<Long, User> users,
+                              Map<Long, Map<String, Long>> counters) throws IOException {
+        Path path = path(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        long count = 0;
+        JournalCorruptedException corruption = null;
+        try (FileChannel in = FileChannel.open(path, READ)) {
+            if (in.size() < SNAPSHOT_HEADER_SIZE) {
+                throw new JournalCorruptedException(0, "스냅샷 헤더가 잘림");
+            }
+            ByteBuffer header = in.map(FileChannel.MapMode.READ_ONLY, 0, SNAPSHOT_HEADER_SIZE);
+            if (header.getInt() != SNAPSHOT_MAGIC) {
+                throw new JournalCorruptedException(0, "스냅샷 형식이 아님");
+            }
+            long expected = header.getLong();
+
+            MappedRecordReader reader = new MappedRecordReader(in, SNAPSHOT_HEADER_SIZE);
+            for (JournalRecord record = reader.next(); record != null; record = reader.next()) {
+                apply(record, articles, users, counters);
+                count++;
+            }
+            if (count != expected) {
+                throw new JournalCorruptedException(reader.position(),
+                        "스냅샷 레코드 수 불일치 " + count + "/" + expected);
+            }
+        } catch (JournalCorruptedException e) {
+            corruption = e;
+        }
+
+        if (corruption != null) {
+            // 읽은 데까지는 사용하고, 파일은 옮겨 두어 원인을 확인할 수 있게 함
+            Path moved = path(SNAPSHOT_FILE + ".corrupt-" + System.currentTimeMillis());
+            Files.move(path, moved);
+            log.error("스냅샷 손상: {}, {} 로 옮기고 {}건만 복구", corruption.getMessage(), moved.getFileName(), count);
+        }
+        return count;
+    }
+
+    private long replayJournal(Map<Long, NewsArticle> articles, Map<Long, User> users,
+                               Map<Long, Map<String, Long>> counters) throws IOException {
+        // 새 파일이거나 헤더를 쓰다 죽은 파일
+        if (channel.size() < JOURNAL_HEADER_SIZE) {
+            channel.truncate(0);
+            channel.write(ByteBuffer.allocate(JOURNAL_HEADER_SIZE).putInt(JOURNAL_MAGIC).flip(), 0);
+            channel.force(true);
+            channel.position(JOURNAL_HEADER_SIZE);
+            journalSize = JOURNAL_HEADER_SIZE;
+            return 0;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.flip().getInt() != JOURNAL_MAGIC) {
+            throw new IOException("저널 형식이 아닙니다: " + path(JOURNAL_FILE));
+        }
+
+        long count = 0;
+        MappedRecordReader reader = new MappedRecordReader(channel, JOURNAL_HEADER_SIZE);
+        try {
+            for (JournalRecord record = reader.next(); record != null; record = reader.next()) {
+                apply(record, articles, users, counters);
+                count++;
+            }
+        } catch (JournalCorruptedException e) {
+            // 대부분 기록 중에 죽어 끝이 잘린 경우이므로, 마지막으로 온전한 레코드 뒤를 잘라내고 이어서 씀
+            log.warn("저널 손상 감지: {}, 이후 {}바이트 버림", e.getMessage(), channel.size() - e.getPosition());
+            channel.truncate(e.getPosition());
+            channel.force(true);
+        }
+
+        channel.position(channel.size());
+        journalSize = channel.size();
+        return count;
+    }
+
+    // 같은 레코드를 여러 번 재생해도 결과가 같음 (조회수와 카운터는 큰 값 유지)
+    static void apply(JournalRecord record, Map<Long, NewsArticle> articles, Map<Long, User> users,
+                      Map<Long, Map<String, Long>> counters) {
+        switch (record) {
+            case ArticleSaved saved -> articles.merge(saved.article().id(), saved.article(),
+                    (previous, article) -> article.withViewCount(Math.max(previous.viewCount(), article.viewCount())));
+            case ViewCounts views -> {
+                views.totals().forEach((id, total) ->
+                        articles.computeIfPresent(id, (key, article) ->
+                                total > article.viewCount() ? article.withViewCount(total.intValue()) : article));
+                views.counters().forEach((id, byReplica) -> {
+                    Map<String, Long> known = counters.computeIfAbsent(id, key -> new HashMap<>());
+                    byReplica.forEach((replica, count) -> known.merge(replica, count, Math::max));
+                });
+            }
+            case UserSaved saved -> users.put(saved.user().getId(), saved.user());
+        }
+    }
+
+    private Path path(String file) {
+        return properties.getDirectory().resolve(file);
+    }
+
+    private static void write(FileChannel out, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            out.write(bytes);
+        }
+    }
+}
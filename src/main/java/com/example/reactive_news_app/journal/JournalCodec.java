@@ -0,0 +1,253 @@
+package com.example.reactive_news_app.journal;
+
+import com.example.reactive_news_app.journal.JournalRecord.ArticleSaved;
+import com.example.reactive_news_app.journal.JournalRecord.UserSaved;
+import com.example.reactive_news_app.journal.JournalRecord.ViewCounts;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+// 저널/스냅샷 레코드의 이진 형식
+// [본문 길이 int][CRC32C int][본문 = 종류 byte + 필드] (big-endian, 문자열은 UTF-8 바이트 수 + 바이트, null 은 -1)
+// 쓰기 버퍼는 한 묶음의 레코드를 모두 담아 FileChannel 에 한 번에 씀 (쓰기 스레드 하나만 사용)
+final class JournalCodec {
+
+    static final int HEADER_SIZE = 8;
+    static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    private static final byte ARTICLE = 1;
+    private static final byte VIEWS = 2;
+    private static final byte USER = 3;
+    // 누적 조회수 + replica 카운터 (카운터가 없으면 VIEWS 로 씀)
+    private static final byte COUNTED_VIEWS = 4;
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private ByteBuffer buffer;
+
+    JournalCodec(int initialCapacity) {
+        this.buffer = ByteBuffer.allocateDirect(initialCapacity);
+    }
+
+    void clear() {
+        buffer.clear();
+    }
+
+    int size() {
+        return buffer.position();
+    }
+
+    // 지금까지 쓴 내용을 읽을 수 있게 뒤집어 반환 (다음 사용 전에 clear)
+    ByteBuffer flip() {
+        return buffer.flip();
+    }
+
+    void write(JournalRecord record) {
+        int start = buffer.position();
+        ensure(HEADER_SIZE);
+        buffer.position(start + HEADER_SIZE);
+
+        switch (record) {
+            case ArticleSaved saved -> {
+                putByte(ARTICLE);
+                putArticle(saved.article());
+            }
+            case ViewCounts views -> {
+                putByte(views.counters().isEmpty() ? VIEWS : COUNTED_VIEWS);
+                putInt(views.totals().size());
+                views.totals().forEach((id, total) -> {
+                    putLong(id);
+                    putLong(total);
+                });
+                if (!views.counters().isEmpty()) {
+                    putCounters(views.counters());
+                }
+            }
+            case UserSaved saved -> {
+                putByte(USER);
+                putUser(saved.user());
+            }
+        }
+
+        int end = buffer.position();
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(start + HEADER_SIZE).limit(end));
+        buffer.putInt(start, end - start - HEADER_SIZE);
+        buffer.putInt(start + 4, (int) crc.getValue());
+    }
+
+    // 헤더를 뺀 본문(CRC 확인을 마친)을 읽음
+    static JournalRecord decode(ByteBuffer body) {
+        byte type = body.get();
+        return switch (type) {
+            case ARTICLE -> new ArticleSaved(getArticle(body));
+            case VIEWS -> new ViewCounts(getTotals(body));
+            case COUNTED_VIEWS -> new ViewCounts(getTotals(body), getCounters(body));
+            case USER -> new UserSaved(getUser(body));
+            default -> throw new IllegalArgumentException("알 수 없는 레코드 종류: " + type);
+        };
+    }
+
+    static int checksum(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static Map<Long, Long> getTotals(ByteBuffer in) {
+        int size = in.getInt();
+        Map<Long, Long> totals = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            totals.put(in.getLong(), in.getLong());
+        }
+        return totals;
+    }
+
+    private void putCounters(Map<Long, Map<String, Long>> counters) {
+        putInt(counters.size());
+        counters.forEach((id, byReplica) -> {
+            putLong(id);
+            putInt(byReplica.size());
+            byReplica.forEach((replica, count) -> {
+                putString(replica);
+                putLong(count);
+            });
+        });
+    }
+
+    private static Map<Long, Map<String, Long>> getCounters(ByteBuffer in) {
+        int size = in.getInt();
+        Map<Long, Map<String, Long>> counters = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            long id = in.getLong();
+            int replicas = in.getInt();
+            Map<String, Long> byReplica = new HashMap<>(replicas * 2);
+            for (int r = 0; r < replicas; r++) {
+                byReplica.put(getString(in), in.getLong());
+            }
+            counters.put(id, byReplica);
+        }
+        return counters;
+    }
+
+    private void putArticle(NewsArticle article) {
+        putLong(article.id());
+        putLong(article.publishedAtMillis());
+        putInt(article.viewCount());
+        putString(article.title());
+        putString(article.content());
+        putString(article.category());
+        putString(article.author());
+        putString(article.tagData());
+    }
+
+    private static NewsArticle getArticle(ByteBuffer in) {
+        long id = in.getLong();
+        long publishedAtMillis = in.getLong();
+        int viewCount = in.getInt();
+        return NewsArticle.restore(id, getString(in), getString(in), getString(in), getString(in),
+                publishedAtMillis, viewCount, getString(in));
+    }
+
+    private void putUser(User user) {
+        putLong(user.getId());
+        putString(user.getUsername());
+        putString(user.getEmail());
+        List<String> categories = user.getPreferredCategories();
+        putInt(categories == null ? -1 : categories.size());
+        if (categories != null) {
+            categories.forEach(this::putString);
+        }
+        putLong(toMillis(user.getCreatedAt()));
+        putLong(toMillis(user.getLastActiveAt()));
+    }
+
+    private static User getUser(ByteBuffer in) {
+        long id = in.getLong();
+        String username = getString(in);
+        String email = getString(in);
+        int size = in.getInt();
+        List<String> categories = null;
+        if (size >= 0) {
+            categories = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                categories.add(getString(in));
+            }
+        }
+        return User.builder()
+                .id(id)
+                .username(username)
+                .email(email)
+                .preferredCategories(categories)
+                .createdAt(toTime(in.getLong()))
+                .lastActiveAt(toTime(in.getLong()))
+                .build();
+    }
+
+    private void putByte(byte value) {
+        ensure(1);
+        buffer.put(value);
+    }
+
+    private void putInt(int value) {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    private void putLong(long value) {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 공간이 모자라면 두 배씩 늘린 버퍼로 옮김
+    private void ensure(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        int capacity = buffer.capacity();
+        while (capacity - buffer.position() < bytes) {
+            capacity *= 2;
+        }
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        grown.put(buffer.flip());
+        buffer = grown;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? NO_TIME : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toTime(long millis) {
+        return millis == NO_TIME ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
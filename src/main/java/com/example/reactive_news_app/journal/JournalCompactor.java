@@ -0,0 +1,61 @@
+package com.example.reactive_news_app.journal;
+
+import com.example.reactive_news_app.config.JournalProperties;
+import com.example.reactive_news_app.repository.ArticleStore;
+import com.example.reactive_news_app.service.UserService;
+import com.example.reactive_news_app.service.ViewCountAggregator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+// 저널이 compact-threshold 를 넘으면 현재 메모리 상태로 스냅샷을 새로 쓰고 저널을 비움
+// 종료할 때도 스냅샷을 써 두어 다음 기동 때 저널 재생을 줄임
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JournalCompactor {
+
+    private final JournalProperties properties;
+    private final Journal journal;
+    private final ArticleStore articleStore;
+    private final UserService userService;
+    private final ViewCountAggregator viewCounts;
+
+    private Disposable schedule;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        schedule = Flux.interval(properties.getSnapshotInterval())
+                .onBackpressureDrop()
+                .filter(tick -> journal.isSnapshotRequired()
+                        || journal.getJournalSize() >= properties.getCompactThreshold().toBytes())
+                .concatMap(tick -> journal.compact(this::capture), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+        if (properties.isEnabled() && properties.isSnapshotOnShutdown()) {
+            journal.compact(this::capture).block(Duration.ofMinutes(1));
+        }
+    }
+
+    // 조회수는 저장소에 반영된 누적값으로 채우고, 클러스터 모드의 replica 카운터도 같은 시점 값으로 함께 씀
+    private Journal.Snapshot capture() {
+        ViewCountAggregator.CounterSnapshot views = viewCounts.snapshot(articleStore.snapshot());
+        return new Journal.Snapshot(views.totals(), userService.snapshot(), views.counters());
+    }
+}
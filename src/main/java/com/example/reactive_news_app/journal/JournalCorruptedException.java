@@ -0,0 +1,18 @@
+package com.example.reactive_news_app.journal;
+
+import java.io.IOException;
+
+// 저널/스냅샷 파일의 position 위치부터 읽을 수 없음
+public class JournalCorruptedException extends IOException {
+
+    private final long position;
+
+    public JournalCorruptedException(long position, String reason) {
+        super(reason + " (위치 " + position + ")");
+        this.position = position;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+}
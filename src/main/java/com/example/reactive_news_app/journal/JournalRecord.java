@@ -0,0 +1,25 @@
+package com.example.reactive_news_app.journal;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+
+import java.util.Map;
+
+// 저널에 남기는 변경. 같은 레코드를 두 번 재생해도 결과가 같도록 조회수는 증가분이 아니라 누적값으로 기록
+public sealed interface JournalRecord {
+
+    record ArticleSaved(NewsArticle article) implements JournalRecord {
+    }
+
+    // 기사별 누적 조회수와, 클러스터 모드면 바뀐 replica 카운터 (재생 시 둘 다 더 큰 값만 반영)
+    // 카운터를 함께 남겨야 재기동 후 받은 스냅샷의 카운터를 이미 누적값에 든 만큼 다시 더하지 않음
+    record ViewCounts(Map<Long, Long> totals, Map<Long, Map<String, Long>> counters) implements JournalRecord {
+
+        public ViewCounts(Map<Long, Long> totals) {
+            this(totals, Map.of());
+        }
+    }
+
+    record UserSaved(User user) implements JournalRecord {
+    }
+}
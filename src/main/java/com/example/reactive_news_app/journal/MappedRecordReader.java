@@ -0,0 +1,76 @@
+package com.example.reactive_news_app.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static com.example.reactive_news_app.journal.JournalCodec.HEADER_SIZE;
+import static com.example.reactive_news_app.journal.JournalCodec.MAX_RECORD_SIZE;
+
+// 파일을 메모리 매핑해 레코드를 차례로 읽음 (read 호출과 힙 복사 없이 페이지 캐시에서 바로 디코딩)
+// 매핑 하나는 2GB 를 넘을 수 없으므로 1GB 구간씩 매핑하고, 레코드가 구간 끝에 걸치면 그 위치부터 다시 매핑
+final class MappedRecordReader {
+
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    MappedRecordReader(FileChannel channel, long start) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.position = start;
+    }
+
+    // 마지막으로 온전히 읽은 레코드의 끝 위치
+    long position() {
+        return position;
+    }
+
+    // 파일 끝이면 null. 잘린 레코드나 체크섬 불일치는 JournalCorruptedException
+    JournalRecord next() throws IOException {
+        if (position >= size) {
+            return null;
+        }
+        if (size - position < HEADER_SIZE) {
+            throw new JournalCorruptedException(position, "레코드 헤더가 잘림");
+        }
+
+        ByteBuffer header = slice(position, HEADER_SIZE);
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (length <= 0 || length > MAX_RECORD_SIZE) {
+            throw new JournalCorruptedException(position, "잘못된 레코드 길이 " + length);
+        }
+        if (size - position - HEADER_SIZE < length) {
+            throw new JournalCorruptedException(position, "레코드 본문이 잘림");
+        }
+
+        ByteBuffer body = slice(position + HEADER_SIZE, length);
+        if (JournalCodec.checksum(body) != checksum) {
+            throw new JournalCorruptedException(position, "체크섬 불일치");
+        }
+
+        JournalRecord record;
+        try {
+            record = JournalCodec.decode(body);
+        } catch (RuntimeException e) {
+            throw new JournalCorruptedException(position, "디코딩 실패: " + e.getMessage());
+        }
+        position += HEADER_SIZE + length;
+        return record;
+    }
+
+    private ByteBuffer slice(long offset, int length) throws IOException {
+        if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+            windowStart = offset;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                    Math.min(Math.max(WINDOW_SIZE, length), size - offset));
+        }
+        return window.slice((int) (offset - windowStart), length);
+    }
+}
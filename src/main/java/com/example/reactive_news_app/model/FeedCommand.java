@@ -0,0 +1,10 @@
+package com.example.reactive_news_app.model;
+
+// WebSocket 클라이언트 -> 서버 제어 메시지
+// SUBSCRIBE: 구독 시작 또는 조건 변경 (subscription), REQUEST: n 건을 더 받겠다는 요청, CANCEL: 전송 중지
+public record FeedCommand(Type type, StreamSubscription subscription, long n) {
+
+    public enum Type {
+        SUBSCRIBE, REQUEST, CANCEL
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.reactive_news_app.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 일괄 등록 요청의 항목별 결과 (index 는 요청 본문에서의 순서, 0부터)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IngestResult(long index, Status status, Long id, String error) {
+
+    public enum Status {
+        // FAILED: 항목은 올바르지만 서버가 받지 못함 (DB 저장 대기열이 가득 참). 나중에 다시 보내면 됨
+        CREATED, REJECTED, FAILED
+    }
+
+    public static IngestResult created(long index, long id) {
+        return new IngestResult(index, Status.CREATED, id, null);
+    }
+
+    public static IngestResult rejected(long index, String error) {
+        return new IngestResult(index, Status.REJECTED, null, error);
+    }
+
+    public static IngestResult failed(long index, String error) {
+        return new IngestResult(index, Status.FAILED, null, error);
+    }
+}
@@ -1,37 +1,146 @@
 package com.example.reactive_news_app.model;
 
-import lombok.*;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Table;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+// 불변 기사. 여러 요청/스레드가 같은 객체를 공유하므로 변경은 with* 로 새 객체를 만들어 교체
+// 메모리를 줄이기 위해 발행 시각은 epoch millis, 태그는 "길이:값" 을 이어 붙인 문자열 하나로 보관하고
+// 카테고리/작성자는 크기 제한이 있는 공유 맵으로 같은 값끼리 공유. JSON 모양은 기존과 동일
+// 조회수는 저장소의 카운터가 기준값이며, 이 값은 반영 시점의 사본
 @Table("news_articles")
-public class NewsArticle {
-    @Id
-    private long id;
-
-    private String title;
-    private String content;
-    private String category;
-    private String author;
-    private LocalDateTime publishedAt;
-    private Integer viewCount;
-    private List<String> tags;
+@JsonPropertyOrder({"id", "title", "content", "category", "author", "publishedAt", "viewCount", "tags"})
+public record NewsArticle(@Id long id,
+                          String title,
+                          String content,
+                          String category,
+                          String author,
+                          @JsonIgnore long publishedAtMillis,
+                          int viewCount,
+                          @JsonIgnore String tagData) {
+
+    public static final long NO_TIME = Long.MIN_VALUE;
+    private static final char TAG_LENGTH_END = ':';
+
+    // 카테고리/작성자는 종류가 적어 공유하면 이득이지만 클라이언트가 정하는 값이므로 개수를 제한
+    // 한도를 넘은 뒤 처음 보는 값은 공유하지 않고 그대로 둠
+    private static final int MAX_SHARED_VALUES = 4096;
+    private static final ConcurrentHashMap<String, String> SHARED_VALUES = new ConcurrentHashMap<>();
 
     public static NewsArticle create(String title, String content, String category, String author) {
-        return NewsArticle.builder()
-                .title(title)
-                .content(content)
-                .category(category)
-                .author(author)
-                .publishedAt(LocalDateTime.now())
-                .viewCount(0)
-                .build();
+        return of(0, title, content, category, author, LocalDateTime.now(), 0, null);
+    }
+
+    @JsonCreator
+    public static NewsArticle of(@JsonProperty("id") long id,
+                                 @JsonProperty("title") String title,
+                                 @JsonProperty("content") String content,
+                                 @JsonProperty("category") String category,
+                                 @JsonProperty("author") String author,
+                                 @JsonProperty("publishedAt") LocalDateTime publishedAt,
+                                 @JsonProperty("viewCount") int viewCount,
+                                 @JsonProperty("tags") List<String> tags) {
+        return new NewsArticle(id, title, content, shared(category), shared(author), toMillis(publishedAt), viewCount,
+                encodeTags(tags));
+    }
+
+    // 저널처럼 내부 표현을 그대로 저장한 곳에서 읽어 올 때 사용 (with* 복사본은 이미 공유된 값을 물려받음)
+    public static NewsArticle restore(long id, String title, String content, String category, String author,
+                                      long publishedAtMillis, int viewCount, String tagData) {
+        return new NewsArticle(id, title, content, shared(category), shared(author), publishedAtMillis, viewCount,
+                tagData);
+    }
+
+    @JsonProperty("publishedAt")
+    public LocalDateTime publishedAt() {
+        if (publishedAtMillis == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(publishedAtMillis), ZoneOffset.UTC);
+    }
+
+    @JsonProperty("tags")
+    public List<String> tags() {
+        if (tagData == null) {
+            return null;
+        }
+        return decodeTags(tagData);
+    }
+
+    public NewsArticle withId(long id) {
+        return new NewsArticle(id, title, content, category, author, publishedAtMillis, viewCount, tagData);
+    }
+
+    public NewsArticle withPublishedAt(LocalDateTime publishedAt) {
+        return new NewsArticle(id, title, content, category, author, toMillis(publishedAt), viewCount, tagData);
+    }
+
+    public NewsArticle withViewCount(int viewCount) {
+        return viewCount == this.viewCount
+                ? this
+                : new NewsArticle(id, title, content, category, author, publishedAtMillis, viewCount, tagData);
+    }
+
+    public NewsArticle withTags(List<String> tags) {
+        return new NewsArticle(id, title, content, category, author, publishedAtMillis, viewCount, encodeTags(tags));
+    }
+
+    private static String shared(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = SHARED_VALUES.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (SHARED_VALUES.size() >= MAX_SHARED_VALUES) {
+            return value;
+        }
+        existing = SHARED_VALUES.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    // LocalDateTime 을 UTC 벽시계 기준 millis 로 변환 (시간대 변환 없이 그대로 되돌릴 수 있음)
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? NO_TIME : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    // 구분자 대신 길이를 앞에 붙여, 태그에 어떤 문자가 있어도 그대로 되돌릴 수 있게 함 ([] 는 "", [""] 는 "0:")
+    private static String encodeTags(List<String> tags) {
+        if (tags == null) {
+            return null;
+        }
+        StringBuilder data = new StringBuilder();
+        for (String tag : tags) {
+            if (tag == null) {
+                throw new IllegalArgumentException("tags 에 null 을 넣을 수 없습니다");
+            }
+            data.append(tag.length()).append(TAG_LENGTH_END).append(tag);
+        }
+        return data.toString();
+    }
+
+    private static List<String> decodeTags(String data) {
+        List<String> tags = new ArrayList<>();
+        int position = 0;
+        while (position < data.length()) {
+            int lengthEnd = data.indexOf(TAG_LENGTH_END, position);
+            int start = lengthEnd + 1;
+            int end = start + Integer.parseInt(data, position, lengthEnd, 10);
+            tags.add(data.substring(start, end));
+            position = end;
+        }
+        return Collections.unmodifiableList(tags);
     }
 }
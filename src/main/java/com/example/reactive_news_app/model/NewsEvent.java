@@ -0,0 +1,5 @@
+package com.example.reactive_news_app.model;
+
+// 실시간 스트림으로 보내는 기사 (id 는 SSE id 필드 / Last-Event-ID 재개에 사용)
+public record NewsEvent(String id, NewsArticle article) {
+}
@@ -0,0 +1,27 @@
+package com.example.reactive_news_app.model;
+
+import java.util.List;
+import java.util.Objects;
+
+// 커서 기반 페이지. nextCursor 가 null 이면 마지막 페이지
+public record NewsPage(List<NewsArticle> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 1000;
+
+    // 목록 구성(ID 순서)과 조회수가 같으면 같은 값이므로 본문을 직렬화하지 않고 계산
+    public String etag() {
+        long hash = 1125899906842597L;
+        for (NewsArticle article : items) {
+            hash = 31 * hash + article.id();
+            hash = 31 * hash + article.viewCount();
+        }
+        hash = 31 * hash + Objects.hashCode(nextCursor);
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    // NDJSON 목록에서 기사 뒤에 붙는 마지막 줄 (다음 페이지가 있을 때만)
+    public record NextCursor(String nextCursor) {
+    }
+}
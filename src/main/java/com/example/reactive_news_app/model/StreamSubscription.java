@@ -0,0 +1,10 @@
+package com.example.reactive_news_app.model;
+
+import com.example.reactive_news_app.config.NewsStreamProperties.OverflowPolicy;
+
+// WebSocket/RSocket 클라이언트가 보내는 실시간 스트림 구독 조건 (모두 선택, overflow 가 없으면 서버 기본 정책)
+public record StreamSubscription(String category, String author, String keyword, String lastEventId,
+                                 OverflowPolicy overflow) {
+
+    public static final StreamSubscription ALL = new StreamSubscription(null, null, null, null, null);
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.time.LocalDateTime;
@@ -22,6 +23,9 @@ public class User {
 
     private String username;
     private String email;
+
+    // user_preferred_categories 보조 테이블에 저장
+    @Transient
     private List<String> preferredCategories;
     private LocalDateTime createdAt;
     private LocalDateTime lastActiveAt;
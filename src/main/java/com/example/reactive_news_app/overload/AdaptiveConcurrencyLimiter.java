@@ -0,0 +1,101 @@
+package com.example.reactive_news_app.overload;
+
+import com.example.reactive_news_app.config.OverloadProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 일반 요청의 동시 처리 수 한도를 이벤트 루프 지연에 따라 조정 (AIMD)
+// 지연이 기준을 넘으면 한도를 비율로 줄이고, 정상이면서 한도의 절반 이상을 쓰고 있으면 1씩 늘림
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final OverloadProperties properties;
+    private final EventLoopLatencyMonitor latencyMonitor;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder shedCount = new LongAdder();
+    private volatile int limit;
+
+    private Disposable adjuster;
+
+    public AdaptiveConcurrencyLimiter(OverloadProperties properties, EventLoopLatencyMonitor latencyMonitor) {
+        this.properties = properties;
+        this.latencyMonitor = latencyMonitor;
+        this.limit = properties.getConcurrency().getInitialLimit();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        adjuster = Flux.interval(properties.getConcurrency().getProbeInterval())
+                .subscribe(tick -> adjust(latencyMonitor.getLagNanos()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (adjuster != null) {
+            adjuster.dispose();
+        }
+    }
+
+    public boolean tryAcquire() {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= limit) {
+                shedCount.increment();
+                return false;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release() {
+        if (properties.isEnabled()) {
+            inflight.decrementAndGet();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getShedCount() {
+        return shedCount.sum();
+    }
+
+    // 조정 스레드 하나에서만 호출
+    void adjust(long lagNanos) {
+        OverloadProperties.Concurrency concurrency = properties.getConcurrency();
+        int current = limit;
+
+        if (lagNanos > concurrency.getLatencyThreshold().toNanos()) {
+            int reduced = Math.max(concurrency.getMinLimit(), (int) (current * concurrency.getBackoffRatio()));
+            if (reduced < current) {
+                log.warn("이벤트 루프 지연 {}ms - 동시 요청 한도 {} -> {}", lagNanos / 1_000_000, current, reduced);
+            }
+            limit = reduced;
+        } else if (inflight.get() * 2 >= current) {
+            limit = Math.min(concurrency.getMaxLimit(), current + 1);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.reactive_news_app.overload;
+
+import com.example.reactive_news_app.config.OverloadProperties;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 서버 이벤트 루프마다 빈 작업을 넣고 실행되기까지 걸린 시간으로 지연을 측정
+// 이전 측정 작업이 아직 실행되지 않았다면 그 대기 시간을 지연으로 봄 (루프가 막혀 있어도 측정됨)
+@Component
+@Slf4j
+public class EventLoopLatencyMonitor {
+
+    private final OverloadProperties properties;
+
+    private final List<EventExecutor> executors = new ArrayList<>();
+    private AtomicLong[] scheduledAt = new AtomicLong[0];
+    // 직전 측정 주기의 루프별 지연 중 최대값
+    private final AtomicLong roundMaxNanos = new AtomicLong();
+    private volatile long lagNanos;
+
+    private Disposable prober;
+
+    public EventLoopLatencyMonitor(OverloadProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        // 스프링 부트 기본 설정에서 Netty 서버는 reactor-netty 전역 이벤트 루프를 사용
+        EventLoopGroup group = HttpResources.get().onServer(LoopResources.DEFAULT_NATIVE);
+        group.forEach(executors::add);
+        scheduledAt = new AtomicLong[executors.size()];
+        for (int i = 0; i < scheduledAt.length; i++) {
+            scheduledAt[i] = new AtomicLong();
+        }
+
+        prober = Flux.interval(properties.getConcurrency().getProbeInterval())
+                .subscribe(tick -> probe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (prober != null) {
+            prober.dispose();
+        }
+    }
+
+    public long getLagNanos() {
+        return lagNanos;
+    }
+
+    private void probe() {
+        long now = System.nanoTime();
+        long stalled = 0;
+
+        for (int i = 0; i < executors.size(); i++) {
+            AtomicLong slot = scheduledAt[i];
+            long previous = slot.get();
+            if (previous != 0) {
+                stalled = Math.max(stalled, now - previous);
+                continue;
+            }
+
+            slot.set(now);
+            executors.get(i).execute(() -> {
+                roundMaxNanos.accumulateAndGet(System.nanoTime() - slot.get(), Math::max);
+                slot.set(0);
+            });
+        }
+
+        lagNanos = Math.max(stalled, roundMaxNanos.getAndSet(0));
+    }
+}
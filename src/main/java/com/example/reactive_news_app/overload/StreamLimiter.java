@@ -0,0 +1,50 @@
+package com.example.reactive_news_app.overload;
+
+import com.example.reactive_news_app.config.OverloadProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 전송 방식과 관계없이 동시에 열려 있는 스트림 수를 제한
+@Component
+public class StreamLimiter {
+
+    private final OverloadProperties properties;
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder shedCount = new LongAdder();
+
+    public StreamLimiter(OverloadProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean tryAcquire() {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+
+        int current;
+        do {
+            current = active.get();
+            if (current >= properties.getMaxStreams()) {
+                shedCount.increment();
+                return false;
+            }
+        } while (!active.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release() {
+        if (properties.isEnabled()) {
+            active.decrementAndGet();
+        }
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public long getShedCount() {
+        return shedCount.sum();
+    }
+}
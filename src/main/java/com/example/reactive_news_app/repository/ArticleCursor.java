@@ -0,0 +1,44 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.NewsArticle;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 키셋 페이지네이션 위치. 발행순은 (publishedAtMillis, id), 인기순은 (viewCount, id), 검색은 마지막 기사 ID
+public record ArticleCursor(Type type, long position, long id) {
+
+    public enum Type {
+        PUBLISHED, VIEWS, SEARCH
+    }
+
+    public static ArticleCursor published(NewsArticle article) {
+        return new ArticleCursor(Type.PUBLISHED, article.publishedAtMillis(), article.id());
+    }
+
+    public static ArticleCursor views(NewsArticle article) {
+        return new ArticleCursor(Type.VIEWS, article.viewCount(), article.id());
+    }
+
+    public static ArticleCursor search(NewsArticle article) {
+        return new ArticleCursor(Type.SEARCH, 0, article.id());
+    }
+
+    public static ArticleCursor decode(String token, Type expected) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || Type.valueOf(parts[0]) != expected) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다");
+            }
+            return new ArticleCursor(expected, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String raw = type.name() + ":" + position + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
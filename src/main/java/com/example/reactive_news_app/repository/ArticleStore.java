@@ -0,0 +1,67 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.NewsArticle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ArticleStore {
+
+    // 발행 시각 오름차순(시각이 없으면 맨 앞), 같은 시각이면 ID 순
+    Comparator<NewsArticle> PUBLISHED_ORDER = Comparator
+            .comparingLong(NewsArticle::publishedAtMillis)
+            .thenComparingLong(NewsArticle::id);
+
+    NewsArticle save(NewsArticle article);
+
+    // 저장된 순서대로 저장소가 보관한 기사를 반환
+    default List<NewsArticle> saveAll(List<NewsArticle> articles) {
+        List<NewsArticle> saved = new ArrayList<>(articles.size());
+        for (NewsArticle article : articles) {
+            saved.add(save(article));
+        }
+        return saved;
+    }
+
+    Optional<NewsArticle> findById(long id);
+
+    // 조회수를 원자적으로 1 증가시키고 갱신된 기사를 반환
+    Optional<NewsArticle> incrementViewCount(long id);
+
+    // 모아둔 조회수 증가분을 한 번에 반영 (기사가 없으면 false)
+    boolean addViewCount(long id, long delta);
+
+    long getViewCount(long id);
+
+    // 아래 조회는 모두 인덱스를 그대로 순회하며 요청마다 정렬하지 않음
+    // after 가 주어지면 해당 커서 다음 위치부터 순회
+    Stream<NewsArticle> findAllOrderByPublishedAt(ArticleCursor after);
+
+    Stream<NewsArticle> findAllOrderByPublishedAtDesc();
+
+    Stream<NewsArticle> findByCategoryOrderByPublishedAt(String category, ArticleCursor after);
+
+    Stream<NewsArticle> findByCategoryOrderByPublishedAtDesc(String category);
+
+    Stream<NewsArticle> findAllOrderByViewCountDesc(ArticleCursor after);
+
+    default Stream<NewsArticle> findAllOrderByPublishedAt() {
+        return findAllOrderByPublishedAt(null);
+    }
+
+    default Stream<NewsArticle> findByCategoryOrderByPublishedAt(String category) {
+        return findByCategoryOrderByPublishedAt(category, null);
+    }
+
+    default Stream<NewsArticle> findAllOrderByViewCountDesc() {
+        return findAllOrderByViewCountDesc(null);
+    }
+
+    // 호출 시점의 기사 목록 (이후 변경과 무관한 복사본)
+    List<NewsArticle> snapshot();
+
+    int size();
+}
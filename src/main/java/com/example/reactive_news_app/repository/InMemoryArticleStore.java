@@ -0,0 +1,203 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+@Repository
+public class InMemoryArticleStore implements ArticleStore {
+
+    private static final Comparator<TimeKey> TIME_ORDER = Comparator
+            .comparingLong(TimeKey::publishedAtMillis)
+            .thenComparingLong(TimeKey::id);
+
+    private static final Comparator<ViewKey> VIEW_ORDER = Comparator
+            .comparingLong(ViewKey::views).reversed()
+            .thenComparingLong(ViewKey::id);
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 보조 인덱스: 전체 발행순, 카테고리별 발행순, 조회수 내림차순
+    private final NavigableSet<TimeKey> byPublishedAt = new ConcurrentSkipListSet<>(TIME_ORDER);
+    private final ConcurrentHashMap<String, NavigableSet<TimeKey>> byCategory = new ConcurrentHashMap<>();
+    private final NavigableSet<ViewKey> byViewCount = new ConcurrentSkipListSet<>(VIEW_ORDER);
+
+    // 같은 ID 를 동시에 저장해도 (로컬 생성 + 클러스터 반영) 이전 항목의 색인 제거와 새 항목 색인이 섞이지 않도록
+    // 교체를 compute 안에서 수행 (ID 별로 직렬화)
+    @Override
+    public NewsArticle save(NewsArticle article) {
+        Entry entry = new Entry(article);
+        entries.compute(article.id(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+
+            byPublishedAt.add(entry.timeKey);
+            if (entry.category != null) {
+                byCategory.computeIfAbsent(entry.category, key -> new ConcurrentSkipListSet<>(TIME_ORDER))
+                        .add(entry.timeKey);
+            }
+            byViewCount.add(new ViewKey(entry.indexedViews, id));
+            return entry;
+        });
+        return entry.article;
+    }
+
+    @Override
+    public Optional<NewsArticle> findById(long id) {
+        Entry entry = entries.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.article);
+    }
+
+    @Override
+    public Optional<NewsArticle> incrementViewCount(long id) {
+        return addViewCount(id, 1) ? findById(id) : Optional.empty();
+    }
+
+    @Override
+    public boolean addViewCount(long id, long delta) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return false;
+        }
+
+        entry.views.add(delta);
+        reindexViews(entry);
+        return true;
+    }
+
+    @Override
+    public long getViewCount(long id) {
+        Entry entry = entries.get(id);
+        return entry == null ? 0 : entry.views.sum();
+    }
+
+    @Override
+    public Stream<NewsArticle> findAllOrderByPublishedAt(ArticleCursor after) {
+        return resolve(tail(byPublishedAt, after).stream().map(TimeKey::id));
+    }
+
+    @Override
+    public Stream<NewsArticle> findAllOrderByPublishedAtDesc() {
+        return resolve(byPublishedAt.descendingSet().stream().map(TimeKey::id));
+    }
+
+    @Override
+    public Stream<NewsArticle> findByCategoryOrderByPublishedAt(String category, ArticleCursor after) {
+        NavigableSet<TimeKey> index = byCategory.get(normalizeCategory(category));
+        return index == null ? Stream.empty() : resolve(tail(index, after).stream().map(TimeKey::id));
+    }
+
+    @Override
+    public Stream<NewsArticle> findByCategoryOrderByPublishedAtDesc(String category) {
+        NavigableSet<TimeKey> index = byCategory.get(normalizeCategory(category));
+        return index == null ? Stream.empty() : resolve(index.descendingSet().stream().map(TimeKey::id));
+    }
+
+    @Override
+    public Stream<NewsArticle> findAllOrderByViewCountDesc(ArticleCursor after) {
+        NavigableSet<ViewKey> index = after == null
+                ? byViewCount
+                : byViewCount.tailSet(new ViewKey(after.position(), after.id()), false);
+        return resolve(index.stream().map(ViewKey::id));
+    }
+
+    @Override
+    public List<NewsArticle> snapshot() {
+        return entries.values().stream()
+                .map(entry -> entry.article)
+                .toList();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private static NavigableSet<TimeKey> tail(NavigableSet<TimeKey> index, ArticleCursor after) {
+        return after == null ? index : index.tailSet(new TimeKey(after.position(), after.id()), false);
+    }
+
+    private Stream<NewsArticle> resolve(Stream<Long> ids) {
+        return ids.map(entries::get)
+                .filter(Objects::nonNull)
+                .map(entry -> entry.article);
+    }
+
+    // 동시에 여러 스레드가 증가시켜도 재색인은 한 스레드만 수행하고, 나머지는 기다리지 않음
+    private void reindexViews(Entry entry) {
+        while (entry.reindexing.compareAndSet(false, true)) {
+            try {
+                long total = entry.views.sum();
+                if (total != entry.indexedViews) {
+                    long id = entry.article.id();
+                    byViewCount.remove(new ViewKey(entry.indexedViews, id));
+                    byViewCount.add(new ViewKey(total, id));
+                    entry.indexedViews = total;
+                    // 카운터가 기준값이며, 기사에는 조회수 사본을 담은 새 객체로 교체 (copy-on-write)
+                    entry.article = entry.article.withViewCount((int) total);
+                }
+            } finally {
+                entry.reindexing.set(false);
+            }
+
+            if (entry.views.sum() == entry.indexedViews) {
+                return;
+            }
+        }
+    }
+
+    // 교체된 항목은 재색인 권한을 가져간 채 놓지 않아, 늦게 도착한 조회수 재색인이 조회수 색인을 되살리지 않게 함
+    private void unindex(Entry entry) {
+        while (!entry.reindexing.compareAndSet(false, true)) {
+            Thread.onSpinWait();
+        }
+
+        byPublishedAt.remove(entry.timeKey);
+        if (entry.category != null) {
+            NavigableSet<TimeKey> index = byCategory.get(entry.category);
+            if (index != null) {
+                index.remove(entry.timeKey);
+            }
+        }
+        byViewCount.remove(new ViewKey(entry.indexedViews, entry.article.id()));
+    }
+
+    private static String normalizeCategory(String category) {
+        return category == null ? null : category.toUpperCase(Locale.ROOT);
+    }
+
+    private record TimeKey(long publishedAtMillis, long id) {
+    }
+
+    private record ViewKey(long views, long id) {
+    }
+
+    private static final class Entry {
+        private volatile NewsArticle article;
+        private final String category;
+        private final TimeKey timeKey;
+        private final LongAdder views = new LongAdder();
+        private final AtomicBoolean reindexing = new AtomicBoolean();
+        private volatile long indexedViews;
+
+        private Entry(NewsArticle article) {
+            this.article = article;
+            this.category = normalizeCategory(article.category());
+            this.timeKey = new TimeKey(article.publishedAtMillis(), article.id());
+            views.add(article.viewCount());
+            this.indexedViews = views.sum();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.config.PersistenceProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 기사 저장 요청을 모아 일정 개수/주기마다 다중 행 MERGE 로 기록하고, 메모리 저장소에 없는 기사를 DB 에서 읽어옴
+@Component
+@DependsOnDatabaseInitialization
+@Slf4j
+public class NewsArticlePersistence {
+
+    private static final long DROP_WARN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final NewsArticleRepository repository;
+    private final ArticleStore articleStore;
+    private final PersistenceProperties properties;
+
+    // 여러 스레드가 동시에 넣어도 직렬화 없이 큐에 쌓이고, 큐 자체는 크기 제한이 없어 queued 로 한도를 지킴
+    private final Sinks.Many<NewsArticle> pending = Sinks.unsafe().many().unicast()
+            .onBackpressureBuffer(Queues.<NewsArticle>unboundedMultiproducer().get());
+    private final AtomicInteger queued = new AtomicInteger();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final AtomicLong lastDropWarn = new AtomicLong(System.nanoTime() - DROP_WARN_INTERVAL_NANOS);
+
+    public NewsArticlePersistence(NewsArticleRepository repository, ArticleStore articleStore,
+                                  PersistenceProperties properties) {
+        this.repository = repository;
+        this.articleStore = articleStore;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            drained.countDown();
+            return;
+        }
+
+        // fairBackpressure: 저장이 밀리면 묶음을 만들지 않고 대기열에 남겨 둠 (요청 없이 묶음을 내보내다 오류로 끝나지 않도록)
+        // 배치 오류는 writeBatch 안에서 처리하므로 한 번의 실패로 저장 흐름이 끝나지 않음
+        pending.asFlux()
+                .bufferTimeout(properties.getBatchSize(), properties.getFlushInterval(), true)
+                .concatMap(this::writeBatch, 1)
+                .doFinally(signal -> drained.countDown())
+                .subscribe(null, error -> log.error("기사 저장 흐름이 중단되었습니다", error));
+    }
+
+    // 기사 생성은 이벤트 루프에서 호출되므로 기다리지 않고, 한도를 넘으면 버리고 false 를 반환
+    // 저장을 끈 경우에는 기록할 것이 없으므로 true
+    public boolean enqueue(NewsArticle article) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > properties.getQueueCapacity()) {
+            queued.decrementAndGet();
+            drop();
+            return false;
+        }
+        if (pending.tryEmitNext(article).isFailure()) {
+            // 종료 중
+            queued.decrementAndGet();
+            drop();
+            return false;
+        }
+        return true;
+    }
+
+    // 저널에서 복구한 기사를 DB 에 다시 기록 (resync-on-recovery 일 때만)
+    // 저장 대기열을 거치지 않고 묶음을 하나씩 기록하므로 대기열 한도에 걸려 버려지지 않으며, 기록 속도는 DB 가 정함
+    public Mono<Void> resync(List<NewsArticle> articles) {
+        if (!properties.isEnabled() || !properties.isResyncOnRecovery() || articles.isEmpty()) {
+            return Mono.empty();
+        }
+
+        long started = System.nanoTime();
+        return Flux.fromIterable(articles)
+                .buffer(properties.getBatchSize())
+                .concatMap(batch -> Mono.defer(() -> write(withLatestViewCounts(batch))), 1)
+                .then()
+                .doOnSuccess(done -> log.info("복구한 기사 {}개 DB 재기록 완료, {}ms", articles.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)));
+    }
+
+    // 조회수 집계기가 주기적으로 모은 누적 조회수를 기록 (실패해도 다음 집계 때 최신값으로 다시 기록됨)
+    public Mono<Void> saveViewCounts(Map<Long, Long> viewCounts) {
+        if (!properties.isEnabled() || viewCounts.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return repository.updateViewCounts(viewCounts)
+                .doOnSuccess(done -> log.debug("기사 {}개 조회수 저장 완료", viewCounts.size()))
+                .onErrorResume(error -> {
+                    log.error("기사 {}개 조회수 저장 실패: {}", viewCounts.size(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<NewsArticle> load(long id) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+
+        return repository.findArticle(id)
+                .flatMap(article -> repository.findTags(id)
+                        .map(tags -> article.withTags(tags.isEmpty() ? null : tags)));
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    // 종료 시 남은 배치를 모두 기록할 때까지 대기
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        pending.tryEmitComplete();
+        if (!drained.await(10, TimeUnit.SECONDS)) {
+            log.warn("기사 저장 대기열을 모두 기록하지 못하고 종료합니다");
+        }
+    }
+
+    private Mono<Void> writeBatch(List<NewsArticle> batch) {
+        queued.addAndGet(-batch.size());
+        // 대기열의 기사는 생성 시점 조회수(0)를 들고 있고, 그 사이 조회수 UPDATE 는 행이 없어 반영되지 않았을 수 있으므로
+        // 기록 직전의 메모리 조회수로 바꿔 씀
+        return Mono.defer(() -> write(withLatestViewCounts(batch)))
+                .doOnSuccess(done -> log.debug("기사 {}개 일괄 저장 완료", batch.size()))
+                .onErrorResume(error -> {
+                    failedCount.add(batch.size());
+                    log.error("기사 {}개 일괄 저장 실패: {}", batch.size(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private List<NewsArticle> withLatestViewCounts(List<NewsArticle> batch) {
+        return batch.stream()
+                .map(article -> article.withViewCount(
+                        (int) Math.max(article.viewCount(), articleStore.getViewCount(article.id()))))
+                .toList();
+    }
+
+    // 다중 행 MERGE 는 한 행만 잘못돼도 묶음 전체가 실패하므로, 실패하면 반으로 나눠 다시 기록해 나머지 행은 저장되게 함
+    // 끝까지 실패한 기사만 failedCount 에 셈
+    private Mono<Void> write(List<NewsArticle> batch) {
+        return Mono.defer(() -> repository.upsertAll(batch))
+                .doOnSuccess(done -> writtenCount.add(batch.size()))
+                .onErrorResume(error -> {
+                    if (batch.size() == 1) {
+                        failedCount.increment();
+                        log.error("기사 {} 저장 실패: {}", batch.get(0).id(), error.getMessage());
+                        return Mono.empty();
+                    }
+                    log.debug("기사 {}개 일괄 저장 실패, 나눠서 다시 저장: {}", batch.size(), error.getMessage());
+                    int half = batch.size() / 2;
+                    return write(batch.subList(0, half))
+                            .then(Mono.defer(() -> write(batch.subList(half, batch.size()))));
+                });
+    }
+
+    private void drop() {
+        droppedCount.increment();
+        long now = System.nanoTime();
+        long last = lastDropWarn.get();
+        if (now - last >= DROP_WARN_INTERVAL_NANOS && lastDropWarn.compareAndSet(last, now)) {
+            log.warn("기사 저장 대기열이 가득 차 기사를 버리는 중 (누적 {}건)", droppedCount.sum());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import org.springframework.data.repository.Repository;
+
+// 레코드 필드(publishedAtMillis, tagData)가 컬럼과 맞지 않아 파생 CRUD 는 노출하지 않고 직접 작성한 쿼리만 사용
+public interface NewsArticleRepository extends Repository<NewsArticle, Long>, NewsArticleRepositoryCustom {
+}
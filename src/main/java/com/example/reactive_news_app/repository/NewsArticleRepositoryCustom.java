@@ -0,0 +1,21 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface NewsArticleRepositoryCustom {
+
+    // 다중 행 MERGE 한 번으로 기사 묶음을 저장하고 태그 보조 테이블을 갱신
+    Mono<Void> upsertAll(List<NewsArticle> articles);
+
+    // 기사 ID -> 누적 조회수를 일정 개수씩 묶은 UPDATE 로 반영
+    Mono<Void> updateViewCounts(Map<Long, Long> viewCounts);
+
+    // 기사는 불변 레코드라 컬럼(published_at)과 필드(publishedAtMillis)가 달라 직접 매핑
+    Mono<NewsArticle> findArticle(long id);
+
+    Mono<List<String>> findTags(long articleId);
+}
@@ -0,0 +1,169 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class NewsArticleRepositoryCustomImpl implements NewsArticleRepositoryCustom {
+
+    // 한 UPDATE 문에 넣는 기사 수 (문장 길이와 바인딩 수가 기사 수에 비례하므로 나눠서 실행)
+    private static final int VIEW_COUNT_CHUNK_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    @Transactional
+    public Mono<Void> upsertAll(List<NewsArticle> articles) {
+        if (articles.isEmpty()) {
+            return Mono.empty();
+        }
+
+        // 같은 배치에 같은 기사가 여러 번 들어오면 마지막 상태만 저장
+        Map<Long, NewsArticle> latest = new LinkedHashMap<>();
+        articles.forEach(article -> latest.put(article.id(), article));
+        List<NewsArticle> batch = new ArrayList<>(latest.values());
+
+        return mergeArticles(batch).then(replaceTags(batch));
+    }
+
+    // 증가분이 아닌 누적값을 기록하므로 같은 값을 다시 써도 안전함
+    // 아직 INSERT 되지 않은 기사는 행이 없어 건너뛰고, 이후 MERGE 가 기록 시점의 메모리 조회수를 씀
+    @Override
+    public Mono<Void> updateViewCounts(Map<Long, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return Mono.empty();
+        }
+
+        List<Long> ids = new ArrayList<>(viewCounts.keySet());
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += VIEW_COUNT_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + VIEW_COUNT_CHUNK_SIZE, ids.size())));
+        }
+        return Flux.fromIterable(chunks)
+                .concatMap(chunk -> updateViewCountChunk(chunk, viewCounts))
+                .then();
+    }
+
+    @Override
+    public Mono<NewsArticle> findArticle(long id) {
+        return databaseClient.sql("SELECT id, title, content, category, author, published_at, view_count "
+                        + "FROM news_articles WHERE id = :id")
+                .bind("id", id)
+                .map(row -> {
+                    Integer viewCount = row.get("view_count", Integer.class);
+                    return NewsArticle.of(
+                            row.get("id", Long.class),
+                            row.get("title", String.class),
+                            row.get("content", String.class),
+                            row.get("category", String.class),
+                            row.get("author", String.class),
+                            row.get("published_at", LocalDateTime.class),
+                            viewCount == null ? 0 : viewCount,
+                            null);
+                })
+                .one();
+    }
+
+    @Override
+    public Mono<List<String>> findTags(long articleId) {
+        return databaseClient.sql("SELECT tag FROM news_article_tags WHERE article_id = :articleId ORDER BY position")
+                .bind("articleId", articleId)
+                .map(row -> row.get("tag", String.class))
+                .all()
+                .collectList();
+    }
+
+    private Mono<Void> updateViewCountChunk(List<Long> ids, Map<Long, Long> viewCounts) {
+        StringBuilder cases = new StringBuilder();
+        for (int i = 0; i < ids.size(); i++) {
+            cases.append(String.format(" WHEN :id%1$d THEN :viewCount%1$d", i));
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "UPDATE news_articles SET view_count = CASE id" + cases + " ELSE view_count END WHERE id IN (:ids)")
+                .bind("ids", ids);
+        for (int i = 0; i < ids.size(); i++) {
+            spec = spec.bind("id" + i, ids.get(i))
+                    .bind("viewCount" + i, viewCounts.get(ids.get(i)));
+        }
+
+        return spec.then();
+    }
+
+    private Mono<Void> mergeArticles(List<NewsArticle> batch) {
+        StringJoiner rows = new StringJoiner(", ");
+        for (int i = 0; i < batch.size(); i++) {
+            rows.add(String.format(
+                    "(:id%1$d, :title%1$d, :content%1$d, :category%1$d, :author%1$d, :publishedAt%1$d, :viewCount%1$d)", i));
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                "MERGE INTO news_articles (id, title, content, category, author, published_at, view_count) KEY (id) VALUES "
+                        + rows);
+
+        for (int i = 0; i < batch.size(); i++) {
+            NewsArticle article = batch.get(i);
+            spec = spec.bind("id" + i, article.id());
+            spec = bind(spec, "title" + i, article.title(), String.class);
+            spec = bind(spec, "content" + i, article.content(), String.class);
+            spec = bind(spec, "category" + i, article.category(), String.class);
+            spec = bind(spec, "author" + i, article.author(), String.class);
+            spec = bind(spec, "publishedAt" + i, article.publishedAt(), LocalDateTime.class);
+            spec = spec.bind("viewCount" + i, article.viewCount());
+        }
+
+        return spec.then();
+    }
+
+    private Mono<Void> replaceTags(List<NewsArticle> batch) {
+        List<Long> ids = batch.stream().map(NewsArticle::id).toList();
+        Mono<Void> delete = databaseClient.sql("DELETE FROM news_article_tags WHERE article_id IN (:ids)")
+                .bind("ids", ids)
+                .then();
+
+        StringJoiner rows = new StringJoiner(", ");
+        List<Object[]> values = new ArrayList<>();
+        for (NewsArticle article : batch) {
+            List<String> tags = article.tags();
+            if (tags == null) {
+                continue;
+            }
+            for (int position = 0; position < tags.size(); position++) {
+                int i = values.size();
+                rows.add(String.format("(:articleId%1$d, :position%1$d, :tag%1$d)", i));
+                values.add(new Object[]{article.id(), position, tags.get(position)});
+            }
+        }
+
+        if (values.isEmpty()) {
+            return delete;
+        }
+
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(
+                "INSERT INTO news_article_tags (article_id, position, tag) VALUES " + rows);
+        for (int i = 0; i < values.size(); i++) {
+            Object[] row = values.get(i);
+            insert = insert.bind("articleId" + i, row[0])
+                    .bind("position" + i, row[1])
+                    .bind("tag" + i, row[2]);
+        }
+
+        return delete.then(insert.then());
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                          Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+}
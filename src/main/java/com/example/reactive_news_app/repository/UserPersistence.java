@@ -0,0 +1,61 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.config.PersistenceProperties;
+import com.example.reactive_news_app.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// 사용자는 변경 빈도가 낮으므로 배치 없이 바로 기록
+@Component
+@DependsOnDatabaseInitialization
+@RequiredArgsConstructor
+@Slf4j
+public class UserPersistence {
+
+    private final UserRepository repository;
+    private final PersistenceProperties properties;
+
+    public Mono<User> save(User user) {
+        if (!properties.isEnabled()) {
+            return Mono.just(user);
+        }
+
+        return repository.upsert(user)
+                .thenReturn(user)
+                .onErrorResume(error -> {
+                    log.error("사용자 저장 실패: ID={}, {}", user.getId(), error.getMessage());
+                    return Mono.just(user);
+                });
+    }
+
+    // 저널에서 복구한 사용자를 DB 에 다시 기록 (resync-on-recovery 일 때만, 한 명씩 차례로)
+    public Mono<Void> resync(List<User> users) {
+        if (!properties.isEnabled() || !properties.isResyncOnRecovery() || users.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(users)
+                .concatMap(this::save, 1)
+                .then()
+                .doOnSuccess(done -> log.info("복구한 사용자 {}명 DB 재기록 완료", users.size()));
+    }
+
+    public Mono<User> load(long id) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+
+        return repository.findById(id)
+                .flatMap(user -> repository.findPreferredCategories(id)
+                        .map(categories -> {
+                            user.setPreferredCategories(categories.isEmpty() ? null : categories);
+                            return user;
+                        }));
+    }
+}
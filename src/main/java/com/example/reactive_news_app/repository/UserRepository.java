@@ -0,0 +1,7 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.User;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+public interface UserRepository extends ReactiveCrudRepository<User, Long>, UserRepositoryCustom {
+}
@@ -0,0 +1,13 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.User;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+
+    Mono<Void> upsert(User user);
+
+    Mono<List<String>> findPreferredCategories(long userId);
+}
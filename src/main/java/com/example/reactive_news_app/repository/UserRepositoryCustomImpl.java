@@ -0,0 +1,71 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    @Transactional
+    public Mono<Void> upsert(User user) {
+        DatabaseClient.GenericExecuteSpec merge = databaseClient.sql(
+                "MERGE INTO users (id, username, email, created_at, last_active_at) KEY (id) "
+                        + "VALUES (:id, :username, :email, :createdAt, :lastActiveAt)")
+                .bind("id", user.getId());
+        merge = bind(merge, "username", user.getUsername(), String.class);
+        merge = bind(merge, "email", user.getEmail(), String.class);
+        merge = bind(merge, "createdAt", user.getCreatedAt(), LocalDateTime.class);
+        merge = bind(merge, "lastActiveAt", user.getLastActiveAt(), LocalDateTime.class);
+
+        return merge.then().then(replacePreferredCategories(user));
+    }
+
+    @Override
+    public Mono<List<String>> findPreferredCategories(long userId) {
+        return databaseClient.sql("SELECT category FROM user_preferred_categories WHERE user_id = :userId ORDER BY position")
+                .bind("userId", userId)
+                .map(row -> row.get("category", String.class))
+                .all()
+                .collectList();
+    }
+
+    private Mono<Void> replacePreferredCategories(User user) {
+        Mono<Void> delete = databaseClient.sql("DELETE FROM user_preferred_categories WHERE user_id = :userId")
+                .bind("userId", user.getId())
+                .then();
+
+        List<String> categories = user.getPreferredCategories();
+        if (categories == null || categories.isEmpty()) {
+            return delete;
+        }
+
+        StringJoiner rows = new StringJoiner(", ");
+        for (int i = 0; i < categories.size(); i++) {
+            rows.add(String.format("(:userId, :position%1$d, :category%1$d)", i));
+        }
+
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(
+                "INSERT INTO user_preferred_categories (user_id, position, category) VALUES " + rows)
+                .bind("userId", user.getId());
+        for (int i = 0; i < categories.size(); i++) {
+            insert = insert.bind("position" + i, i).bind("category" + i, categories.get(i));
+        }
+
+        return delete.then(insert.then());
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                          Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.reactive_news_app.scheduling;
+
+import com.example.reactive_news_app.config.SchedulingProperties;
+import com.example.reactive_news_app.config.SchedulingProperties.Mode;
+import com.example.reactive_news_app.config.SchedulingProperties.Operation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+// 서비스 메서드의 작업을 설정한 방식(인라인 / boundedElastic / 가상 스레드)으로 실행
+@Component
+@Slf4j
+public class ServiceScheduler {
+
+    private final SchedulingProperties properties;
+    // 작업마다 새 가상 스레드 (풀 크기 제한이 없어 몰려도 대기열에 쌓이지 않음)
+    private final Scheduler virtualThreads = Schedulers.fromExecutorService(
+            Executors.newVirtualThreadPerTaskExecutor(), "news-virtual");
+
+    public ServiceScheduler(SchedulingProperties properties) {
+        this.properties = properties;
+
+        Map<Operation, Mode> modes = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            modes.put(operation, properties.modeOf(operation));
+        }
+        log.info("서비스 실행 방식: {}", modes);
+    }
+
+    public <T> Mono<T> schedule(Operation operation, Mono<T> work) {
+        return switch (properties.modeOf(operation)) {
+            case INLINE -> work;
+            case BOUNDED_ELASTIC -> work.subscribeOn(Schedulers.boundedElastic());
+            case VIRTUAL -> work.subscribeOn(virtualThreads);
+        };
+    }
+
+    @PreDestroy
+    public void stop() {
+        virtualThreads.dispose();
+    }
+}
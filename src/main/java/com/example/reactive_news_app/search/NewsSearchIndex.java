@@ -0,0 +1,281 @@
+package com.example.reactive_news_app.search;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.repository.ArticleStore;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+
+@Component
+public class NewsSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // 최신순 (발행 시각이 없으면 맨 뒤), 같은 시각이면 ID 내림차순
+    private static final Comparator<Hit> RECENCY_ORDER = Comparator
+            .comparingLong((Hit hit) -> hit.article().publishedAtMillis()).reversed()
+            .thenComparing(Comparator.comparingLong((Hit hit) -> hit.article().id()).reversed());
+
+    private static final Comparator<Hit> RELEVANCE_ORDER = Comparator
+            .comparingInt(Hit::score).reversed()
+            .thenComparing(RECENCY_ORDER);
+
+    private final ArticleStore articleStore;
+
+    // 검색어 -> (기사 ID -> 가중치)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<String>> termsById = new ConcurrentHashMap<>();
+    // 색인된 영문/숫자 단어 (부분 문자열 검색 시 훑음, 기사 수가 아니라 어휘 수에 비례)
+    private final Set<String> vocabulary = ConcurrentHashMap.newKeySet();
+
+    public NewsSearchIndex(ArticleStore articleStore) {
+        this.articleStore = articleStore;
+    }
+
+    public void index(NewsArticle article) {
+        indexAll(List.of(article));
+    }
+
+    // 묶음 단위 색인: 기사마다가 아니라 검색어마다 포스팅 목록을 한 번씩만 갱신
+    public void indexAll(Collection<NewsArticle> articles) {
+        Map<String, Map<Long, Integer>> additions = new HashMap<>();
+        for (NewsArticle article : articles) {
+            Map<String, Integer> weights = weights(article);
+
+            long id = article.id();
+            Set<String> previous = termsById.put(id, Set.copyOf(weights.keySet()));
+            if (previous != null) {
+                previous.stream()
+                        .filter(term -> !weights.containsKey(term))
+                        .forEach(term -> removePosting(term, id));
+            }
+
+            weights.forEach((term, weight) -> additions.computeIfAbsent(term, key -> new HashMap<>()).put(id, weight));
+        }
+
+        additions.forEach((term, weights) -> postings.compute(term, (key, ids) -> {
+            // 단어 목록은 포스팅과 같은 잠금 안에서 갱신해 제거와 엇갈리지 않게 함
+            if (ids == null && !NewsTokenizer.isNgramWord(key)) {
+                vocabulary.add(key);
+            }
+            ConcurrentHashMap<Long, Integer> target = ids == null ? new ConcurrentHashMap<>() : ids;
+            target.putAll(weights);
+            return target;
+        }));
+    }
+
+    public void remove(long id) {
+        Set<String> terms = termsById.remove(id);
+        if (terms != null) {
+            terms.forEach(term -> removePosting(term, id));
+        }
+    }
+
+    // 후보 기사 전체를 정렬하지 않고 limit 크기의 힙으로 상위 결과만 골라 순위대로 반환
+    public List<NewsArticle> search(SearchQuery query) {
+        Map<Long, Integer> scores = match(query);
+        if (scores.isEmpty() || query.limit() <= 0) {
+            return List.of();
+        }
+
+        Comparator<Hit> order = query.ranking() == SearchQuery.Ranking.RELEVANCE ? RELEVANCE_ORDER : RECENCY_ORDER;
+        Hit cursor = resolveCursor(query.cursor(), scores);
+
+        List<Hit> hits = new ArrayList<>();
+        PriorityQueue<Hit> top = new PriorityQueue<>(order.reversed());
+        boolean bounded = query.limit() < scores.size();
+
+        scores.forEach((id, score) -> articleStore.findById(id).ifPresent(article -> {
+            Hit hit = new Hit(article, score);
+            if (cursor != null && order.compare(hit, cursor) <= 0) {
+                return;
+            }
+            if (!bounded) {
+                hits.add(hit);
+                return;
+            }
+            top.offer(hit);
+            if (top.size() > query.limit()) {
+                top.poll();
+            }
+        }));
+
+        if (bounded) {
+            hits.addAll(top);
+        }
+        hits.sort(order);
+
+        return hits.stream()
+                .limit(query.limit())
+                .map(Hit::article)
+                .toList();
+    }
+
+    // 단어마다 해당 기사를 찾은 뒤 AND 면 교집합, OR 면 합집합 (점수는 단어별 가중치 합)
+    private Map<Long, Integer> match(SearchQuery query) {
+        List<String> words = NewsTokenizer.words(query.keyword()).stream()
+                .distinct()
+                .toList();
+        if (words.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Map<Long, Integer>> lists = new ArrayList<>(words.size());
+        for (String word : words) {
+            Map<Long, Integer> list = matchWord(word);
+            if (list.isEmpty() && query.operator() == SearchQuery.Operator.AND) {
+                return Map.of();
+            }
+            lists.add(list);
+        }
+        Map<Long, Integer> scores = new HashMap<>();
+
+        if (query.operator() == SearchQuery.Operator.OR) {
+            lists.forEach(list -> list.forEach((id, weight) -> scores.merge(id, weight, Integer::sum)));
+            return scores;
+        }
+
+        intersect(lists, scores, Integer::sum);
+        return scores;
+    }
+
+    // 영문/숫자: 이 단어를 포함하는 색인 단어 전체 (flux 로 webflux 도 찾음, 단어마다 가장 큰 가중치)
+    // 한글 등: 2-gram 이 모두 있는 기사 중 글자가 실제로 이어져 있는 기사만 (2-gram 하나로 끝나면 확인 불필요)
+    private Map<Long, Integer> matchWord(String word) {
+        Map<Long, Integer> matched = new HashMap<>();
+
+        if (!NewsTokenizer.isNgramWord(word)) {
+            vocabulary.stream()
+                    .filter(term -> term.contains(word))
+                    .map(postings::get)
+                    .filter(Objects::nonNull)
+                    .forEach(list -> list.forEach((id, weight) -> matched.merge(id, weight, Integer::max)));
+            return matched;
+        }
+
+        List<String> grams = NewsTokenizer.queryGrams(word).stream().distinct().toList();
+        List<Map<Long, Integer>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Map<Long, Integer> list = postings.get(gram);
+            if (list == null) {
+                return Map.of();
+            }
+            lists.add(list);
+        }
+
+        intersect(lists, matched, Integer::min);
+        if (word.codePointCount(0, word.length()) > 2) {
+            matched.keySet().removeIf(id -> !containsPhrase(id, word));
+        }
+        return matched;
+    }
+
+    // 가장 짧은 목록을 기준으로 나머지 목록에 모두 있는 기사만 남기고, 가중치는 combine 으로 합침
+    private static void intersect(List<Map<Long, Integer>> lists, Map<Long, Integer> target,
+                                  BinaryOperator<Integer> combine) {
+        Map<Long, Integer> shortest = lists.stream()
+                .min(Comparator.comparingInt(Map::size))
+                .orElseGet(Map::of);
+
+        candidates:
+        for (Long id : shortest.keySet()) {
+            Integer score = null;
+            for (Map<Long, Integer> list : lists) {
+                Integer weight = list.get(id);
+                if (weight == null) {
+                    continue candidates;
+                }
+                score = score == null ? weight : combine.apply(score, weight);
+            }
+            target.put(id, score);
+        }
+    }
+
+    private boolean containsPhrase(long id, String word) {
+        return articleStore.findById(id)
+                .map(article -> containsWord(searchableText(article), word))
+                .orElse(false);
+    }
+
+    // 기사 하나가 검색어 단어(NewsTokenizer.words) 하나와 일치하는지. matchWord 를 기사 하나에 적용한 것과 같음
+    // 영문/숫자 단어는 색인 단어의 부분 문자열이고 한글 등은 글자가 이어진 구간이어야 하는데,
+    // 단어에는 구분자가 없으므로 둘 다 소문자로 바꾼 제목/본문/태그 중 하나에 단어가 들어 있는지와 같음
+    public static boolean containsWord(List<String> searchableText, String word) {
+        for (String text : searchableText) {
+            if (text.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // containsWord 로 비교할 제목, 본문, 태그 (소문자)
+    public static List<String> searchableText(NewsArticle article) {
+        List<String> texts = new ArrayList<>();
+        addText(texts, article.title());
+        addText(texts, article.content());
+        List<String> tags = article.tags();
+        if (tags != null) {
+            tags.forEach(tag -> addText(texts, tag));
+        }
+        return texts;
+    }
+
+    private static void addText(List<String> texts, String text) {
+        if (text != null && !text.isEmpty()) {
+            texts.add(text.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private Hit resolveCursor(Long cursor, Map<Long, Integer> scores) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return articleStore.findById(cursor)
+                .map(article -> new Hit(article, scores.getOrDefault(cursor, 0)))
+                .orElse(null);
+    }
+
+    private void removePosting(String term, long id) {
+        postings.computeIfPresent(term, (key, ids) -> {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                vocabulary.remove(key);
+                return null;
+            }
+            return ids;
+        });
+    }
+
+    private static Map<String, Integer> weights(NewsArticle article) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, article.title(), TITLE_WEIGHT);
+        addTerms(weights, article.content(), CONTENT_WEIGHT);
+        List<String> tags = article.tags();
+        if (tags != null) {
+            tags.forEach(tag -> addTerms(weights, tag, TAG_WEIGHT));
+        }
+        return weights;
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        NewsTokenizer.tokenize(text).forEach(term -> weights.merge(term, weight, Integer::sum));
+    }
+
+    private record Hit(NewsArticle article, int score) {
+    }
+}
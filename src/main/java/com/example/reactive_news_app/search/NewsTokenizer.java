@@ -0,0 +1,100 @@
+package com.example.reactive_news_app.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 영문/숫자는 단어 단위, 한글/한자/가나는 띄어쓰기와 조사에 영향받지 않도록 글자 n-gram 단위로 분리
+// 색인에는 1-gram 과 2-gram 을 모두 넣어 한 글자 검색도 찾을 수 있게 하고, 검색어는 2-gram (한 글자면 1-gram) 으로 찾음
+public final class NewsTokenizer {
+
+    private NewsTokenizer() {
+    }
+
+    // 색인용 검색어
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (!isNgramWord(word)) {
+                tokens.add(word);
+                continue;
+            }
+
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 1));
+                if (i + 1 < codePoints.length) {
+                    tokens.add(new String(codePoints, i, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 텍스트를 소문자로 바꿔 영문/숫자 단어와 한글/한자/가나 연속 구간으로 나눔 (나머지 문자는 구분자)
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return words;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+            int start = i;
+
+            if (isNgramScript(codePoint)) {
+                while (i < length && isNgramScript(normalized.codePointAt(i))) {
+                    i += Character.charCount(normalized.codePointAt(i));
+                }
+                words.add(normalized.substring(start, i));
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                while (i < length) {
+                    int next = normalized.codePointAt(i);
+                    if (!Character.isLetterOrDigit(next) || isNgramScript(next)) {
+                        break;
+                    }
+                    i += Character.charCount(next);
+                }
+                words.add(normalized.substring(start, i));
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+
+        return words;
+    }
+
+    // 한 단어를 찾을 때 조회할 색인 검색어: 영문/숫자는 단어 그대로, 한글 등은 2-gram (한 글자면 1-gram)
+    public static List<String> queryGrams(String word) {
+        if (!isNgramWord(word)) {
+            return List.of(word);
+        }
+
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return List.of(word);
+        }
+
+        List<String> grams = new ArrayList<>(codePoints.length - 1);
+        for (int i = 0; i < codePoints.length - 1; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    public static boolean isNgramWord(String word) {
+        return !word.isEmpty() && isNgramScript(word.codePointAt(0));
+    }
+
+    private static boolean isNgramScript(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
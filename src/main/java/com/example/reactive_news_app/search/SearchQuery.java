@@ -0,0 +1,24 @@
+package com.example.reactive_news_app.search;
+
+public record SearchQuery(String keyword, Operator operator, Ranking ranking, int limit, Long cursor) {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    public static SearchQuery of(String keyword) {
+        return new SearchQuery(keyword, Operator.AND, Ranking.RECENCY, UNLIMITED, null);
+    }
+
+    public enum Operator {
+        // 모든 검색어 포함
+        AND,
+        // 하나 이상의 검색어 포함
+        OR
+    }
+
+    public enum Ranking {
+        // 검색어 가중치 합 (제목 > 태그 > 본문)
+        RELEVANCE,
+        // 최신순
+        RECENCY
+    }
+}
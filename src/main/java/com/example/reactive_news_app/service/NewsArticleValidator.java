@@ -0,0 +1,64 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.model.NewsArticle;
+
+import java.util.List;
+
+// 기사 입력 검증. 오류가 없으면 null, 있으면 클라이언트에 돌려줄 메시지
+// 길이 한도를 넘는 기사는 DB 의 다중 행 MERGE 를 묶음째 실패시키므로 메모리 저장소에 넣기 전에 거부
+final class NewsArticleValidator {
+
+    // news_articles / news_article_tags 컬럼 길이와 동일
+    static final int MAX_TITLE_LENGTH = 500;
+    static final int MAX_CATEGORY_LENGTH = 50;
+    static final int MAX_AUTHOR_LENGTH = 100;
+    static final int MAX_TAG_LENGTH = 100;
+
+    private NewsArticleValidator() {
+    }
+
+    // 일괄 등록: 필수 항목, 컬럼 길이, 태그 형식
+    static String validate(NewsArticle article) {
+        if (article.title() == null || article.title().isBlank()) {
+            return "title 은 필수입니다";
+        }
+        if (article.category() == null || article.category().isBlank()) {
+            return "category 는 필수입니다";
+        }
+        String error = checkLengths(article);
+        if (error != null) {
+            return error;
+        }
+        List<String> tags = article.tags();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag.isBlank()) {
+                    return "tags 에 비어 있는 값이 있습니다";
+                }
+                // 제어 문자는 화면/검색에서 의미가 없어 허용하지 않음
+                if (tag.chars().anyMatch(Character::isISOControl)) {
+                    return "tags 에 제어 문자를 사용할 수 없습니다";
+                }
+            }
+        }
+        return null;
+    }
+
+    // 단건 생성: 저장할 수 있는지(컬럼 길이)만 확인
+    static String checkLengths(NewsArticle article) {
+        if (article.title() != null && article.title().length() > MAX_TITLE_LENGTH) {
+            return "title 은 " + MAX_TITLE_LENGTH + "자를 넘을 수 없습니다";
+        }
+        if (article.category() != null && article.category().length() > MAX_CATEGORY_LENGTH) {
+            return "category 는 " + MAX_CATEGORY_LENGTH + "자를 넘을 수 없습니다";
+        }
+        if (article.author() != null && article.author().length() > MAX_AUTHOR_LENGTH) {
+            return "author 는 " + MAX_AUTHOR_LENGTH + "자를 넘을 수 없습니다";
+        }
+        List<String> tags = article.tags();
+        if (tags != null && tags.stream().anyMatch(tag -> tag.length() > MAX_TAG_LENGTH)) {
+            return "tags 에 " + MAX_TAG_LENGTH + "자를 넘는 값이 있습니다";
+        }
+        return null;
+    }
+}
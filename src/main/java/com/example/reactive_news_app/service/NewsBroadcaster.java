@@ -0,0 +1,228 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.config.NewsStreamProperties;
+import com.example.reactive_news_app.config.NewsStreamProperties.OverflowPolicy;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// 구독 조건별로 묶은 라우팅 인덱스로 기사를 해당 구독자에게만 전달하고, 최근 이벤트는 재연결 시 다시 보냄
+@Component
+@Slf4j
+public class NewsBroadcaster {
+
+    private final NewsStreamProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 이벤트 추가와 라우팅 사본 읽기, 재전송 목록 읽기와 구독 등록을 이 잠금으로 묶음 (재전송과 실시간 사이에 빠지거나 겹치는 이벤트가 없도록)
+    // 구독자에게 전달하는 일은 잠금 밖에서 읽어 둔 사본으로 수행
+    private final Object routeLock = new Object();
+    private volatile StreamRoutingIndex<LiveSubscriber> routes = new StreamRoutingIndex<>();
+    private final StreamReplayBuffer replay;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder disconnectedCount = new LongAdder();
+    // 모든 구독자 버퍼에 쌓여 있는 기사 수
+    private final AtomicLong bufferedCount = new AtomicLong();
+
+    private Flux<NewsArticle> source = Flux.empty();
+    private Disposable sourceSubscription;
+
+    public NewsBroadcaster(NewsStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.replay = new StreamReplayBuffer(properties.getReplaySize());
+    }
+
+    // 구독자가 한 명 이상일 때만 동작하는 뉴스 생성기 연결
+    public synchronized void connect(Flux<NewsArticle> source) {
+        this.source = source;
+    }
+
+    public void publish(NewsArticle article) {
+        NewsEvent event;
+        StreamRoutingIndex<LiveSubscriber> current;
+        synchronized (routeLock) {
+            event = replay.append(article);
+            current = routes;
+        }
+        current.route(article, subscriber -> emit(subscriber, event));
+        publishedCount.increment();
+    }
+
+    // 동시에 발행하는 스레드끼리만 구독자 단위로 직렬화 (싱크는 동시 emit 을 허용하지 않음)
+    // 구독이 끝난 구독자는 해제 때 인덱스에서 빠지므로 그 밖의 실패는 무시
+    private void emit(LiveSubscriber subscriber, NewsEvent event) {
+        synchronized (subscriber) {
+            if (subscriber.sink().tryEmitNext(event) != Sinks.EmitResult.FAIL_OVERFLOW) {
+                return;
+            }
+            // 재전송분을 받는 동안 실시간 대기열까지 가득 참: 새 이벤트는 버리고, DISCONNECT 면 연결 종료
+            droppedCount.increment();
+            if (subscriber.policy() == OverflowPolicy.DISCONNECT
+                    && subscriber.sink().tryEmitError(Exceptions.failWithOverflow("실시간 대기열 초과")).isSuccess()) {
+                disconnectedCount.increment();
+                log.warn("느린 구독자 연결 종료: 재전송 중 실시간 대기열 초과");
+            }
+        }
+    }
+
+    public Flux<NewsEvent> subscribe(StreamFilter filter, String lastEventId) {
+        return subscribe(filter, lastEventId, null);
+    }
+
+    // lastEventId 가 있으면 그 이후 보관 중인 이벤트 중 조건에 맞는 것을 먼저 보낸 뒤 실시간 이벤트를 이어서 보냄
+    // 재전송분은 구독자가 요청하는 만큼 보내며 overflow 버퍼를 거치지 않음 (버퍼 크기보다 많아도 버리거나 끊지 않음)
+    // overflow 가 없으면 설정된 기본 정책 사용
+    public Flux<NewsEvent> subscribe(StreamFilter filter, String lastEventId, OverflowPolicy overflow) {
+        OverflowPolicy policy = overflow == null ? properties.getOverflowPolicy() : overflow;
+        return Flux.defer(() -> {
+                    // 구독자별 실시간 대기열. 재전송분을 보내는 동안 들어온 이벤트도 여기 쌓였다가 이어서 나감
+                    // 재전송분(최대 replaySize)을 보내는 동안에도 쌓일 수 있도록 bufferSize + replaySize 로 제한하고
+                    // 실시간 구간의 버퍼 크기 제한은 applyOverflowPolicy 에서 적용
+                    Sinks.Many<NewsEvent> sink = Sinks.many().unicast().onBackpressureBuffer(
+                            Queues.<NewsEvent>get(properties.getBufferSize() + properties.getReplaySize()).get());
+                    LiveSubscriber subscriber = new LiveSubscriber(sink, policy);
+                    List<NewsEvent> replayed = List.of();
+                    synchronized (routeLock) {
+                        if (lastEventId != null && !lastEventId.isBlank()) {
+                            replayed = replay.since(lastEventId).stream()
+                                    .filter(event -> filter.matches(event.article()))
+                                    .toList();
+                        }
+                        routes = routes.with(filter, subscriber);
+                    }
+                    return Flux.fromIterable(replayed)
+                            .concatWith(applyOverflowPolicy(sink.asFlux(), policy))
+                            .doFinally(signal -> {
+                                synchronized (routeLock) {
+                                    routes = routes.without(filter, subscriber);
+                                }
+                            });
+                })
+                .doOnSubscribe(subscription -> onSubscriberAdded())
+                .doFinally(signal -> onSubscriberRemoved())
+                .name("news.stream")
+                .tap(Micrometer.metrics(meterRegistry));
+    }
+
+    public StreamStats getStats() {
+        return new StreamStats(
+                subscriberCount.get(),
+                getFilterCount(),
+                publishedCount.sum(),
+                droppedCount.sum(),
+                disconnectedCount.sum(),
+                bufferedCount.get()
+        );
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // 서로 다른 구독 조건 수 (같은 조건의 구독자는 하나로 셈)
+    public int getFilterCount() {
+        return routes.groupCount();
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getDisconnectedCount() {
+        return disconnectedCount.sum();
+    }
+
+    public long getBufferedCount() {
+        return bufferedCount.get();
+    }
+
+    private <T> Flux<T> applyOverflowPolicy(Flux<T> flux, OverflowPolicy policy) {
+        int bufferSize = properties.getBufferSize();
+        // 구독자별 버퍼 점유량. 구독 종료 시 남은 만큼 전체 점유량에서 제외
+        AtomicInteger pending = new AtomicInteger();
+        Consumer<T> onDropped = dropped -> {
+            release(pending);
+            droppedCount.increment();
+        };
+
+        Flux<T> counted = flux.doOnNext(article -> {
+            pending.incrementAndGet();
+            bufferedCount.incrementAndGet();
+        });
+
+        Flux<T> buffered = switch (policy) {
+            case DROP_OLDEST -> counted.onBackpressureBuffer(bufferSize, onDropped, BufferOverflowStrategy.DROP_OLDEST);
+            case DROP_LATEST -> counted.onBackpressureBuffer(bufferSize, onDropped, BufferOverflowStrategy.DROP_LATEST);
+            case LATEST -> counted.onBackpressureBuffer(1, onDropped, BufferOverflowStrategy.DROP_OLDEST);
+            // 한 건을 보내고 나면 간격이 지날 때까지 다음 요청을 미룸 (그동안 가장 최근 한 건만 남음)
+            case CONFLATE -> counted.onBackpressureBuffer(1, onDropped, BufferOverflowStrategy.DROP_OLDEST)
+                    .concatMap(article -> Mono.just(article)
+                            .concatWith(Mono.delay(properties.getConflateInterval()).then(Mono.empty())), 1);
+            case DISCONNECT -> counted.onBackpressureBuffer(bufferSize,
+                    dropped -> {
+                        onDropped.accept(dropped);
+                        disconnectedCount.increment();
+                        log.warn("느린 구독자 연결 종료: 버퍼 {}개 초과", bufferSize);
+                    },
+                    BufferOverflowStrategy.ERROR);
+        };
+
+        return buffered
+                .doOnNext(article -> release(pending))
+                .doFinally(signal -> bufferedCount.addAndGet(-pending.getAndSet(0)));
+    }
+
+    private void release(AtomicInteger pending) {
+        pending.decrementAndGet();
+        bufferedCount.decrementAndGet();
+    }
+
+    private synchronized void onSubscriberAdded() {
+        if (subscriberCount.incrementAndGet() == 1) {
+            log.info("첫 구독자 연결 - 뉴스 생성기 시작");
+            sourceSubscription = source.subscribe(
+                    this::publish,
+                    error -> log.error("뉴스 생성기 오류: {}", error.getMessage())
+            );
+        }
+    }
+
+    private synchronized void onSubscriberRemoved() {
+        if (subscriberCount.decrementAndGet() == 0 && sourceSubscription != null) {
+            log.info("마지막 구독자 해제 - 뉴스 생성기 중지");
+            sourceSubscription.dispose();
+            sourceSubscription = null;
+        }
+    }
+
+    // 라우팅 인덱스에 등록하는 구독자별 실시간 대기열과 overflow 정책
+    private record LiveSubscriber(Sinks.Many<NewsEvent> sink, OverflowPolicy policy) {
+    }
+
+    public record StreamStats(int subscribers, int filters, long published, long dropped, long disconnected, long buffered) {
+    }
+}
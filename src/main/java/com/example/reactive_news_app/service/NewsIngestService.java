@@ -0,0 +1,131 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.config.IngestProperties;
+import com.example.reactive_news_app.model.IngestResult;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 대량 기사 등록: 요청 본문을 스트림으로 읽어 검증 후 묶음 단위로 NewsService 에 저장하고 항목별 결과를 순서대로 내보냄
+// 한 묶음을 저장하는 동안에는 다음 묶음을 요청하지 않으므로, 저장이 밀리면 업로드 읽기도 함께 멈춤
+// 항목은 하나씩 따로 변환하므로 JSON 이 잘못된 항목도 전체 업로드를 끊지 않고 그 항목만 REJECTED 로 응답
+// DB 저장 대기열이 가득 차 생성하지 못한 항목은 FAILED 로 응답
+@Service
+@Slf4j
+public class NewsIngestService {
+
+    private final NewsService newsService;
+    private final IngestProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Counter createdCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public NewsIngestService(NewsService newsService, IngestProperties properties, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.newsService = newsService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.createdCounter = Counter.builder("news.ingest.articles")
+                .tag("result", "created")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("news.ingest.articles")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("news.ingest.articles")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    // NDJSON: 줄 단위로 파싱 (빈 줄은 항목으로 세지 않음)
+    public Flux<IngestResult> ingestLines(Flux<String> lines) {
+        return ingest(lines.filter(line -> !line.isBlank()).map(this::parse));
+    }
+
+    // JSON 배열: 요소 단위로 변환. 배열 문법 자체가 깨지면 다음 요소를 찾을 수 없어 그 지점에서 응답이 오류로 끝남
+    public Flux<IngestResult> ingestNodes(Flux<JsonNode> nodes) {
+        return ingest(nodes.map(this::parse));
+    }
+
+    private Flux<IngestResult> ingest(Flux<Parsed> items) {
+        return items.index()
+                // fairBackpressure: 아래에서 요청한 만큼만 업로드를 읽어 묶음을 채움
+                .bufferTimeout(properties.getChunkSize(), properties.getChunkTimeout(), true)
+                .concatMap(this::ingestChunk, 1);
+    }
+
+    private Parsed parse(String line) {
+        try {
+            return parsed(objectMapper.readValue(line, NewsArticle.class));
+        } catch (JsonProcessingException e) {
+            return new Parsed(null, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+
+    private Parsed parse(JsonNode node) {
+        try {
+            return parsed(objectMapper.treeToValue(node, NewsArticle.class));
+        } catch (JsonProcessingException e) {
+            return new Parsed(null, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+
+    private static Parsed parsed(NewsArticle article) {
+        return article == null ? new Parsed(null, "항목이 비어 있습니다") : new Parsed(article, null);
+    }
+
+    private Flux<IngestResult> ingestChunk(List<Tuple2<Long, Parsed>> chunk) {
+        IngestResult[] results = new IngestResult[chunk.size()];
+        List<NewsArticle> valid = new ArrayList<>(chunk.size());
+        int[] positions = new int[chunk.size()];
+
+        for (int i = 0; i < chunk.size(); i++) {
+            long index = chunk.get(i).getT1();
+            Parsed parsed = chunk.get(i).getT2();
+            NewsArticle article = parsed.article();
+            String error = parsed.error() != null ? parsed.error() : NewsArticleValidator.validate(article);
+            if (error != null) {
+                results[i] = IngestResult.rejected(index, error);
+            } else {
+                positions[valid.size()] = i;
+                valid.add(article);
+            }
+        }
+        rejectedCounter.increment(chunk.size() - valid.size());
+
+        if (valid.isEmpty()) {
+            return Flux.fromArray(results);
+        }
+
+        return newsService.createNewsBatch(valid)
+                .flatMapIterable(created -> {
+                    // created 는 valid 의 앞부분 (저장 대기열이 가득 차면 나머지는 생성되지 않음)
+                    for (int j = 0; j < valid.size(); j++) {
+                        int position = positions[j];
+                        long index = chunk.get(position).getT1();
+                        results[position] = j < created.size()
+                                ? IngestResult.created(index, created.get(j).id())
+                                : IngestResult.failed(index, "저장 대기열이 가득 차 등록하지 못했습니다");
+                    }
+                    createdCounter.increment(created.size());
+                    failedCounter.increment(valid.size() - created.size());
+                    log.debug("일괄 등록 묶음 처리: 저장 {}건, 실패 {}건, 거부 {}건", created.size(),
+                            valid.size() - created.size(), chunk.size() - valid.size());
+                    return Arrays.asList(results);
+                });
+    }
+
+    private record Parsed(NewsArticle article, String error) {
+    }
+}
@@ -1,119 +1,419 @@
 package com.example.reactive_news_app.service;
 
+import com.example.reactive_news_app.cache.NewsQueryCache;
+import com.example.reactive_news_app.cluster.ClusterOutbox;
+import com.example.reactive_news_app.config.NewsStreamProperties;
+import com.example.reactive_news_app.config.NewsStreamProperties.OverflowPolicy;
+import com.example.reactive_news_app.config.SchedulingProperties.Operation;
+import com.example.reactive_news_app.id.IdGenerator;
+import com.example.reactive_news_app.journal.Journal;
+import com.example.reactive_news_app.journal.JournalRecord;
 import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsEvent;
+import com.example.reactive_news_app.model.NewsPage;
+import com.example.reactive_news_app.model.User;
+import com.example.reactive_news_app.repository.ArticleCursor;
+import com.example.reactive_news_app.repository.ArticleStore;
+import com.example.reactive_news_app.repository.NewsArticlePersistence;
+import com.example.reactive_news_app.scheduling.ServiceScheduler;
+import com.example.reactive_news_app.search.NewsSearchIndex;
+import com.example.reactive_news_app.search.SearchQuery;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 public class NewsService {
 
-    private final Map<Long, NewsArticle> newsRepository = new HashMap<>();
     private final List<String> categories = Arrays.asList(
             "TECH", "SPORTS", "POLITICS", "ENTERTAINMENT", "SCIENCE"
     );
     private final List<String> authors = Arrays.asList("김기자", "이기자", "박기자", "최기자", "정기자");
+    private final ArticleStore newsRepository;
+    private final NewsSearchIndex searchIndex;
+    private final NewsArticlePersistence persistence;
+    private final PersonalizedFeedService feedService;
+    private final NewsBroadcaster newsBroadcaster;
+    private final IdGenerator idGenerator;
+    private final ViewCountAggregator viewCounts;
+    private final NewsQueryCache queryCache;
+    private final ClusterOutbox clusterOutbox;
+    private final ServiceScheduler scheduler;
+    private final Journal journal;
 
-    public NewsService() {
+    public NewsService(ArticleStore newsRepository, NewsSearchIndex searchIndex, NewsArticlePersistence persistence,
+                       PersonalizedFeedService feedService, NewsBroadcaster newsBroadcaster, IdGenerator idGenerator,
+                       ViewCountAggregator viewCounts, NewsQueryCache queryCache, ClusterOutbox clusterOutbox,
+                       ServiceScheduler scheduler, Journal journal, NewsStreamProperties streamProperties) {
+        this.newsRepository = newsRepository;
+        this.journal = journal;
+        this.clusterOutbox = clusterOutbox;
+        this.scheduler = scheduler;
+        this.queryCache = queryCache;
+        this.viewCounts = viewCounts;
+        this.feedService = feedService;
+        this.idGenerator = idGenerator;
+        this.searchIndex = searchIndex;
+        this.persistence = persistence;
+        this.newsBroadcaster = newsBroadcaster;
         initializeData();
+
+        // 구독자 수와 무관하게 하나의 생성기만 동작하도록 브로드캐스터에 연결
+        newsBroadcaster.connect(Flux.interval(streamProperties.getInterval())
+                .map(tick -> generateRandomNews())
+                // 저장 대기열이 가득 차면 이번 기사는 건너뜀 (news.persistence.dropped 에 집계됨)
+                .filter(this::store)
+                .doOnNext(article -> {
+                    clusterOutbox.publishArticles(List.of(article), true);
+                    log.debug("새 뉴스 생성: {}", article.title());
+                }));
     }
 
+    // 전체 목록을 캐시 없이 인덱스에서 바로 스트리밍 (구독자 요청량만큼만 읽음)
+    // HTTP 목록 라우트는 항상 페이지 단위로 응답하므로, 이 형태는 내부 용도(느린 응답 시연, 벤치마크)에만 사용
     public Flux<NewsArticle> getAllNews() {
-        log.info("모든 뉴스 조회 요청");
+        log.debug("모든 뉴스 조회 요청");
+
+        return Flux.fromStream(newsRepository::findAllOrderByPublishedAt);
+    }
 
-        return Flux.fromIterable(newsRepository.values())
-                .sort(Comparator.comparing(NewsArticle::getPublishedAt))
-                .doOnNext(article -> log.debug("뉴스 반환: {}", article.getTitle()))
-                .doOnComplete(() -> log.info("모든 뉴스 조회 완료"));
+    // limit 이 없으면 기본 크기의 페이지 (캐시 항목의 크기와 ETag 계산이 저장소 크기와 무관하도록 전체 목록은 주지 않음)
+    public Mono<NewsPage> getAllNews(String cursor, Integer limit) {
+        log.debug("모든 뉴스 페이지 조회: limit={}", limit);
+
+        int size = pageSize(limit);
+        return queryCache.get(NewsQueryCache.ALL, pageArgs(cursor, size), () -> {
+            ArticleCursor after = decodeCursor(cursor, ArticleCursor.Type.PUBLISHED);
+            return page(() -> newsRepository.findAllOrderByPublishedAt(after), size, ArticleCursor::published);
+        });
+    }
+
+    // NDJSON 용 목록 스트림 (아래 stream 참고)
+    public Flux<Object> streamAllNews(String cursor, Integer limit) {
+        log.debug("모든 뉴스 스트림 조회: limit={}", limit);
+
+        return stream(cursor, limit, ArticleCursor.Type.PUBLISHED,
+                newsRepository::findAllOrderByPublishedAt, ArticleCursor::published);
     }
 
     public Mono<NewsArticle> getNewsById(Long id) {
-        log.info("뉴스 조회 요청: ID={}", id);
+        log.debug("뉴스 조회 요청: ID={}", id);
 
-        return Mono.fromSupplier(() -> newsRepository.get(id))
+        // 조회수는 집계기에 모았다가 주기적으로 반영하므로 응답의 조회수는 반영 주기만큼 늦을 수 있음
+        // 실행 스레드는 news.scheduling 설정을 따름
+        return scheduler.schedule(Operation.GET_NEWS, Mono.fromSupplier(() -> newsRepository.findById(id).orElse(null))
+                // 메모리 저장소에 없으면 DB 에서 읽어와 캐시
+                .switchIfEmpty(Mono.defer(() -> persistence.load(id))
+                        .doOnNext(this::cache))
                 .switchIfEmpty(Mono.error(new RuntimeException("뉴스를 찾을 수 없습니다: " + id)))
                 .doOnNext(article -> {
-                    article.setViewCount(article.getViewCount() + 1);
-                    log.info("뉴스 조회 완료: {} (조회수: {})", article.getTitle(), article.getViewCount());
-                })
-                .subscribeOn(Schedulers.boundedElastic());
+                    viewCounts.record(article.id());
+                    log.debug("뉴스 조회 완료: {} (조회수: {})", article.title(), article.viewCount());
+                }));
     }
 
     public Flux<NewsArticle> getNewsByCategory(String category) {
-        log.info("카테고리별 뉴스 조회: {}", category);
+        log.debug("카테고리별 뉴스 조회: {}", category);
 
-        return Flux.fromIterable(newsRepository.values())
-                .filter(article -> category.equalsIgnoreCase(article.getCategory()))
-                .sort(Comparator.comparing(NewsArticle::getPublishedAt))
-                .doOnNext(article -> log.debug("카테고리 [{}] 뉴스: {}", category, article.getTitle()));
+        return Flux.fromStream(() -> newsRepository.findByCategoryOrderByPublishedAt(category));
     }
 
-    public Flux<NewsArticle> getNewsStream() {
-        log.info("실시간 뉴스 스트림 시작");
+    public Mono<NewsPage> getNewsByCategory(String category, String cursor, Integer limit) {
+        log.debug("카테고리별 뉴스 페이지 조회: {}, limit={}", category, limit);
 
-        return Flux.interval(Duration.ofSeconds(3))
-                .map(tick -> generateRandomNews())
-                .doOnNext(article -> {
-                    newsRepository.put(article.getId(), article);
-                    log.info("새 뉴스 생성: {}", article.getTitle());
-                })
-                .doOnCancel(() -> log.info("뉴스 스트림 종료"))
-                .onBackpressureBuffer(50);
+        int size = pageSize(limit);
+        return queryCache.get(NewsQueryCache.category(category), pageArgs(cursor, size), () -> {
+            ArticleCursor after = decodeCursor(cursor, ArticleCursor.Type.PUBLISHED);
+            return page(() -> newsRepository.findByCategoryOrderByPublishedAt(category, after),
+                    size, ArticleCursor::published);
+        });
+    }
+
+    public Flux<Object> streamNewsByCategory(String category, String cursor, Integer limit) {
+        log.debug("카테고리별 뉴스 스트림 조회: {}, limit={}", category, limit);
+
+        return stream(cursor, limit, ArticleCursor.Type.PUBLISHED,
+                after -> newsRepository.findByCategoryOrderByPublishedAt(category, after), ArticleCursor::published);
+    }
+
+    public Flux<NewsEvent> getNewsStream(StreamFilter filter, String lastEventId, OverflowPolicy overflow) {
+        log.debug("실시간 뉴스 스트림 구독: 조건={}, Last-Event-ID={}, 정책={}", filter, lastEventId, overflow);
+
+        return newsBroadcaster.subscribe(filter, lastEventId, overflow);
+    }
+
+    public Mono<NewsBroadcaster.StreamStats> getStreamStats() {
+        return Mono.fromSupplier(newsBroadcaster::getStats);
+    }
+
+    // 사용자별로 미리 구성된 피드에서 최신 기사를 바로 읽음
+    public Flux<NewsArticle> getPersonalizedNews(User user) {
+        log.debug("개인화 피드 조회: 사용자={}", user.getId());
+
+        return feedService.getFeed(user);
     }
 
+    @SuppressWarnings("unchecked")
     public Flux<NewsArticle> getPersonalizedNews(List<String> preferredCategories) {
-        log.info("개인화 뉴스 조회: 선호 카테고리={}", preferredCategories);
+        log.debug("개인화 뉴스 조회: 선호 카테고리={}", preferredCategories);
+
+        // 카테고리별 발행순 인덱스를 병합하여 앞에서부터 10개만 읽음
+        Flux<NewsArticle>[] sources = preferredCategories.stream()
+                .distinct()
+                .map(category -> Flux.fromStream(() -> newsRepository.findByCategoryOrderByPublishedAt(category)))
+                .toArray(Flux[]::new);
 
-        return getAllNews()
-                .filter(article -> preferredCategories.contains(article.getCategory()))
-                .take(10)
-                .doOnNext(article -> log.debug("개인화 뉴스: {}", article.getTitle()));
+        return Flux.mergeComparing(ArticleStore.PUBLISHED_ORDER, sources)
+                .take(10);
     }
 
     public Flux<NewsArticle> searchNews(String keyword) {
-        log.info("뉴스 검색: 키워드={}", keyword);
+        return searchNews(SearchQuery.of(keyword));
+    }
+
+    public Flux<NewsArticle> searchNews(SearchQuery query) {
+        log.debug("뉴스 검색: 키워드={}, 조건={}, 정렬={}", query.keyword(), query.operator(), query.ranking());
+
+        return Flux.defer(() -> Flux.fromIterable(searchIndex.search(query)));
+    }
+
+    public Mono<NewsPage> searchNews(String keyword, SearchQuery.Operator operator, SearchQuery.Ranking ranking,
+                                     String cursor, Integer limit) {
+        log.debug("뉴스 검색 페이지 조회: 키워드={}, limit={}", keyword, limit);
+
+        int size = pageSize(limit);
+        String args = String.join("|", keyword, operator.name(), ranking.name(), pageArgs(cursor, size));
+        return queryCache.get(NewsQueryCache.SEARCH, args, () -> {
+            ArticleCursor after = decodeCursor(cursor, ArticleCursor.Type.SEARCH);
+            SearchQuery query = new SearchQuery(keyword, operator, ranking,
+                    size + 1, after == null ? null : after.id());
+            return page(() -> searchIndex.search(query).stream(), size, ArticleCursor::search);
+        });
+    }
 
-        return Flux.fromIterable(newsRepository.values())
-                .filter(article ->
-                        article.getTitle().toLowerCase().contains(keyword.toLowerCase())
-                                || article.getContent().toLowerCase().contains(keyword.toLowerCase())
-                )
-                .sort(Comparator.comparing(NewsArticle::getPublishedAt).reversed())
-                .doOnNext(article -> log.debug("검색 결과: {}", article.getTitle()));
+    public Flux<Object> streamSearchNews(String keyword, SearchQuery.Operator operator, SearchQuery.Ranking ranking,
+                                         String cursor, Integer limit) {
+        log.debug("뉴스 검색 스트림 조회: 키워드={}, limit={}", keyword, limit);
+
+        int size = pageSize(limit);
+        return stream(cursor, limit, ArticleCursor.Type.SEARCH,
+                after -> searchIndex.search(new SearchQuery(keyword, operator, ranking,
+                        size + 1, after == null ? null : after.id())).stream(),
+                ArticleCursor::search);
     }
 
     public Flux<NewsArticle> getPopularNews(int limit) {
-        log.info("인기 뉴스 조회: 상위 {}개", limit);
+        log.debug("인기 뉴스 조회: 상위 {}개", limit);
+
+        return Flux.fromStream(newsRepository::findAllOrderByViewCountDesc)
+                .take(limit);
+    }
+
+    public Mono<NewsPage> getPopularNews(String cursor, int limit) {
+        log.debug("인기 뉴스 페이지 조회: limit={}", limit);
+
+        int size = clampLimit(limit);
+        return queryCache.get(NewsQueryCache.POPULAR, pageArgs(cursor, size), () -> {
+            ArticleCursor after = decodeCursor(cursor, ArticleCursor.Type.VIEWS);
+            return page(() -> newsRepository.findAllOrderByViewCountDesc(after), size, ArticleCursor::views);
+        });
+    }
+
+    public Flux<Object> streamPopularNews(String cursor, int limit) {
+        log.debug("인기 뉴스 스트림 조회: limit={}", limit);
+
+        return stream(cursor, limit, ArticleCursor.Type.VIEWS,
+                newsRepository::findAllOrderByViewCountDesc, ArticleCursor::views);
+    }
+
+    public Flux<NewsArticle> getTrendingNews(ViewCountAggregator.Window window, int limit) {
+        log.debug("급상승 뉴스 조회: 기간={}, 상위 {}개", window, limit);
 
-        return Flux.fromIterable(newsRepository.values())
-                .sort(Comparator.comparing(NewsArticle::getViewCount).reversed())
-                .take(limit)
-                .doOnNext(article -> log.debug("인기 뉴스: {} (조회수: {})",
-                        article.getTitle(), article.getViewCount()));
+        return viewCounts.getTrending(window, clampLimit(limit));
     }
 
     public Mono<NewsArticle> createNews(NewsArticle newsArticle) {
-        log.info("새 뉴스 생성 요청: {}", newsArticle.getTitle());
+        log.debug("새 뉴스 생성 요청: {}", newsArticle.title());
 
-        return Mono.fromSupplier(() -> {
-            Long id = System.currentTimeMillis();
-            newsArticle.setId(id);
-            newsArticle.setPublishedAt(LocalDateTime.now());
-            newsArticle.setViewCount(0);
+        // 컬럼 길이를 넘는 기사는 함께 저장되는 다른 기사들의 MERGE 까지 실패시키므로 받지 않음
+        String invalid = NewsArticleValidator.checkLengths(newsArticle);
+        if (invalid != null) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, invalid));
+        }
+
+        return scheduler.schedule(Operation.CREATE_NEWS, Mono.fromSupplier(() -> {
+            long id = idGenerator.nextId();
+            NewsArticle created = newsArticle.withId(id)
+                    .withPublishedAt(LocalDateTime.now())
+                    .withViewCount(0);
+
+            if (!store(created)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "저장 대기열이 가득 차 뉴스를 등록할 수 없습니다");
+            }
+            clusterOutbox.publishArticles(List.of(created), false);
+
+            log.debug("뉴스 생성 완료: ID={}", id);
+            return created;
+        }));
+    }
+
+    // 여러 기사를 한 번에 생성: 저장소/검색 색인/피드/캐시 무효화를 기사마다가 아니라 묶음마다 한 번씩 수행
+    // 반환 목록은 요청 순서대로이며, DB 저장 대기열이 가득 차면 앞에서부터 대기열에 넣은 기사까지만 생성
+    // (받지 못한 기사는 메모리 저장소와 저널에도 남기지 않으므로 호출한 쪽에서 실패로 알릴 수 있음)
+    public Mono<List<NewsArticle>> createNewsBatch(List<NewsArticle> articles) {
+        log.debug("뉴스 일괄 생성 요청: {}건", articles.size());
+
+        return scheduler.schedule(Operation.CREATE_NEWS_BATCH, Mono.fromSupplier(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NewsArticle> created = new ArrayList<>(articles.size());
+            for (NewsArticle article : articles) {
+                created.add(article.withId(idGenerator.nextId())
+                        .withPublishedAt(now)
+                        .withViewCount(0));
+            }
+
+            int accepted = 0;
+            while (accepted < created.size() && persistence.enqueue(created.get(accepted))) {
+                accepted++;
+            }
+
+            List<NewsArticle> stored = storeAllEnqueued(created.subList(0, accepted));
+            clusterOutbox.publishArticles(stored, false);
+
+            log.debug("뉴스 일괄 생성 완료: {}건 (저장 대기열 부족 {}건)", stored.size(), created.size() - accepted);
+            return stored;
+        }));
+    }
+
+    // 다른 노드에서 생성된 기사를 반영하고 새로 저장한 기사를 돌려줌 (이미 있는 기사는 건너뜀)
+    // live 면 이 노드의 스트림 구독자에게도 전달
+    public List<NewsArticle> applyReplicated(List<NewsArticle> articles, boolean live) {
+        List<NewsArticle> missing = articles.stream()
+                .filter(article -> newsRepository.findById(article.id()).isEmpty())
+                .sorted(ArticleStore.PUBLISHED_ORDER)
+                .toList();
+        if (missing.isEmpty()) {
+            return List.of();
+        }
+
+        List<NewsArticle> stored = storeAll(missing);
+        if (live) {
+            stored.forEach(newsBroadcaster::publish);
+        }
+        log.debug("다른 노드의 뉴스 반영: {}건", stored.size());
+        return stored;
+    }
 
-            newsRepository.put(id, newsArticle);
+    private static String pageArgs(String cursor, int size) {
+        return cursor + ":" + size;
+    }
 
-            log.info("뉴스 생성 완료: ID={}", id);
-            return newsArticle;
-        }).subscribeOn(Schedulers.boundedElastic());
+    // limit 이 없으면 기본 크기
+    private static int pageSize(Integer limit) {
+        return limit == null ? NewsPage.DEFAULT_LIMIT : clampLimit(limit);
+    }
+
+    // size + 1 개를 읽어 다음 페이지 존재 여부를 판단하고, 마지막 항목으로 다음 커서를 만듦
+    private Mono<NewsPage> page(Supplier<Stream<NewsArticle>> source, int size,
+                                Function<NewsArticle, ArticleCursor> cursorOf) {
+        return Flux.fromStream(source)
+                .take(size + 1)
+                .collectList()
+                .map(articles -> {
+                    if (articles.size() <= size) {
+                        return new NewsPage(List.copyOf(articles), null);
+                    }
+                    List<NewsArticle> items = List.copyOf(articles.subList(0, size));
+                    return new NewsPage(items, cursorOf.apply(items.get(size - 1)).encode());
+                });
+    }
+
+    // 캐시하지 않고 인덱스에서 구독자 요청량만큼 읽어 기사를 하나씩 내보냄 (목록 전체를 모으지 않음)
+    // 다음 페이지가 있으면 size + 1 번째 기사 대신 마지막으로 보낸 기사의 커서(NextCursor)를 내보내고 끝냄
+    private static Flux<Object> stream(String cursor, Integer limit, ArticleCursor.Type type,
+                                       Function<ArticleCursor, Stream<NewsArticle>> source,
+                                       Function<NewsArticle, ArticleCursor> cursorOf) {
+        int size = pageSize(limit);
+
+        return Flux.<Object>defer(() -> {
+            ArticleCursor after = decodeCursor(cursor, type);
+            Flux<NewsArticle> articles = Flux.fromStream(() -> source.apply(after));
+            AtomicReference<NewsArticle> last = new AtomicReference<>();
+            return articles.take(size + 1)
+                    .index()
+                    .<Object>handle((indexed, sink) -> {
+                        if (indexed.getT1() < size) {
+                            last.set(indexed.getT2());
+                            sink.next(indexed.getT2());
+                        } else {
+                            sink.next(new NewsPage.NextCursor(cursorOf.apply(last.get()).encode()));
+                        }
+                    });
+        });
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, NewsPage.MAX_LIMIT));
+    }
+
+    private static ArticleCursor decodeCursor(String cursor, ArticleCursor.Type type) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return ArticleCursor.decode(cursor, type);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // DB 저장 대기열에 먼저 넣고, 받아들여진 기사만 메모리 저장소/색인/저널/피드에 반영
+    // 대기열이 가득 차 버려졌으면 어디에도 남기지 않고 false
+    private boolean store(NewsArticle article) {
+        if (!persistence.enqueue(article)) {
+            return false;
+        }
+        cache(article);
+        journal.append(new JournalRecord.ArticleSaved(article));
+        feedService.onPublish(article);
+        return true;
+    }
+
+    private List<NewsArticle> storeAll(List<NewsArticle> articles) {
+        List<NewsArticle> stored = storeAllEnqueued(articles);
+        stored.forEach(persistence::enqueue);
+        return stored;
+    }
+
+    // DB 저장 대기열에 이미 넣은 기사를 메모리 저장소/색인/저널/피드에 반영
+    private List<NewsArticle> storeAllEnqueued(List<NewsArticle> articles) {
+        List<NewsArticle> stored = newsRepository.saveAll(articles);
+        searchIndex.indexAll(stored);
+        stored.stream()
+                .map(NewsArticle::category)
+                .distinct()
+                .forEach(queryCache::invalidateArticle);
+        stored.forEach(article -> journal.append(new JournalRecord.ArticleSaved(article)));
+        feedService.onPublishAll(stored);
+        return stored;
+    }
+
+    private void cache(NewsArticle article) {
+        newsRepository.save(article);
+        searchIndex.index(article);
+        queryCache.invalidateArticle(article.category());
     }
 
     private NewsArticle generateRandomNews() {
@@ -123,18 +423,23 @@ public class NewsService {
         String title = String.format("[%s] %s의 새로운 소식 %d", category, author, System.currentTimeMillis() % 1000);
         String content = String.format("%s 카테고리의 상세한 뉴스 내용입니다. " + "이 뉴스는 %s 기자가 작성했습니다.", category, author);
 
-        return NewsArticle.builder()
-                .id(System.currentTimeMillis())
-                .title(title)
-                .content(content)
-                .category(category)
-                .author(author)
-                .publishedAt(LocalDateTime.now())
-                .viewCount(0)
-                .build();
+        return NewsArticle.of(idGenerator.nextId(), title, content, category, author, LocalDateTime.now(), 0, null);
     }
 
     private void initializeData() {
+        // 저널에서 복구한 기사가 있으면 초기 데이터 대신 복구한 기사로 채움
+        // DB 가 기동마다 비는 메모리 DB 면(resync-on-recovery) 기동을 막지 않고 뒤에서 묶음 단위로 다시 기록
+        // (저장은 MERGE 라 이미 있는 기사는 덮어씀)
+        List<NewsArticle> recovered = journal.takeRecoveredArticles();
+        if (!recovered.isEmpty()) {
+            long started = System.nanoTime();
+            recovered.sort(ArticleStore.PUBLISHED_ORDER);
+            searchIndex.indexAll(newsRepository.saveAll(recovered));
+            persistence.resync(recovered).subscribe(null, error -> log.error("복구한 기사 DB 재기록 실패", error));
+            log.info("저널에서 뉴스 {} 개 복구, {}ms", recovered.size(), (System.nanoTime() - started) / 1_000_000);
+            return;
+        }
+
         log.info("초기 뉴스 데이터 생성 시작");
 
         List<NewsArticle> initialNews = Arrays.asList(
@@ -146,10 +451,9 @@ public class NewsService {
         );
 
         for (int i = 0; i < initialNews.size(); i++) {
-            NewsArticle article = initialNews.get(i);
-            article.setId((long) (i + 1));
-            article.setViewCount(ThreadLocalRandom.current().nextInt(100, 1000));
-            newsRepository.put(article.getId(), article);
+            store(initialNews.get(i)
+                    .withId(i + 1)
+                    .withViewCount(ThreadLocalRandom.current().nextInt(100, 1000)));
         }
 
         log.info("초기 뉴스 데이터 {} 개 생성 완료", initialNews.size());
@@ -0,0 +1,253 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.config.FeedProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+import com.example.reactive_news_app.repository.ArticleStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+// 사용자별 최신 기사 ID 링버퍼를 유지하고, 새 기사는 해당 카테고리를 선호하는 사용자에게만 전파
+@Service
+@Slf4j
+public class PersonalizedFeedService {
+
+    private static final List<String> DEFAULT_CATEGORIES = List.of("TECH");
+
+    private final ArticleStore articleStore;
+    private final FeedProperties properties;
+
+    private final ConcurrentHashMap<Long, UserFeed> feeds = new ConcurrentHashMap<>();
+    // 카테고리 -> 해당 카테고리를 선호하는 사용자의 피드
+    // ID 가 아니라 피드 객체를 넣어, 지운 피드의 등록 해제가 같은 사용자의 새 피드 등록을 지우지 않게 함
+    private final ConcurrentHashMap<String, Set<UserFeed>> subscribersByCategory = new ConcurrentHashMap<>();
+
+    private Disposable sweeper;
+
+    public PersonalizedFeedService(ArticleStore articleStore, FeedProperties properties) {
+        this.articleStore = articleStore;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper = Flux.interval(properties.getSweepInterval())
+                .subscribe(tick -> evictInactive());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+    }
+
+    public Flux<NewsArticle> getFeed(User user) {
+        return Flux.defer(() -> {
+            UserFeed feed = feeds.get(user.getId());
+            if (feed == null) {
+                feed = materialize(user);
+            }
+            feed.touch(user.getLastActiveAt());
+
+            return Flux.fromStream(feed.newestFirst()
+                    .mapToObj(articleStore::findById)
+                    .flatMap(Optional::stream));
+        });
+    }
+
+    public void onPublish(NewsArticle article) {
+        if (article.category() == null) {
+            return;
+        }
+
+        Set<UserFeed> subscribers = subscribersByCategory.get(normalize(article.category()));
+        if (subscribers == null) {
+            return;
+        }
+
+        for (UserFeed feed : subscribers) {
+            feed.push(article.id());
+        }
+    }
+
+    // 묶음 발행: 카테고리별로 구독자를 한 번만 찾고, 피드마다 한 번의 잠금으로 모두 추가
+    public void onPublishAll(List<NewsArticle> articles) {
+        Map<String, List<Long>> idsByCategory = new HashMap<>();
+        for (NewsArticle article : articles) {
+            if (article.category() != null) {
+                idsByCategory.computeIfAbsent(normalize(article.category()), key -> new ArrayList<>()).add(article.id());
+            }
+        }
+
+        idsByCategory.forEach((category, ids) -> {
+            Set<UserFeed> subscribers = subscribersByCategory.get(category);
+            if (subscribers == null) {
+                return;
+            }
+
+            long[] articleIds = ids.stream().mapToLong(Long::longValue).toArray();
+            for (UserFeed feed : subscribers) {
+                feed.pushAll(articleIds);
+            }
+        });
+    }
+
+    // 선호 카테고리가 바뀐 사용자는 다음 조회 때 다시 구성
+    public void invalidate(long userId) {
+        UserFeed feed = feeds.remove(userId);
+        if (feed != null) {
+            unregister(feed);
+        }
+    }
+
+    public int getFeedCount() {
+        return feeds.size();
+    }
+
+    // 카테고리에 등록된 피드 수
+    int subscriberCount(String category) {
+        Set<UserFeed> subscribers = subscribersByCategory.get(normalize(category));
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    private UserFeed materialize(User user) {
+        List<String> preferred = user.getPreferredCategories() == null || user.getPreferredCategories().isEmpty()
+                ? DEFAULT_CATEGORIES
+                : user.getPreferredCategories();
+        Set<String> categories = preferred.stream()
+                .map(PersonalizedFeedService::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+
+        // 인덱스를 읽기 전에 피드를 잠근 채 먼저 등록해 둠
+        // 그 사이에 발행된 기사는 onPublish 가 잠금을 기다렸다가 채운 뒤에 추가하므로 빠지지도, 순서가 뒤섞이지도 않음
+        UserFeed feed = new UserFeed(user.getId(), categories, properties.getSize(), user.getLastActiveAt());
+        synchronized (feed) {
+            UserFeed existing = feeds.putIfAbsent(user.getId(), feed);
+            if (existing != null) {
+                return existing;
+            }
+            categories.forEach(category ->
+                    subscribersByCategory.computeIfAbsent(category, key -> ConcurrentHashMap.newKeySet()).add(feed));
+            // 등록하는 사이 invalidate 가 이 피드를 지웠다면 그쪽의 등록 해제보다 늦게 등록했을 수 있으므로 직접 해제
+            if (feeds.get(user.getId()) != feed) {
+                unregister(feed);
+            }
+
+            categories.stream()
+                    .flatMap(category -> articleStore.findByCategoryOrderByPublishedAtDesc(category).limit(properties.getSize()))
+                    .sorted(ArticleStore.PUBLISHED_ORDER)
+                    .forEach(article -> feed.push(article.id()));
+        }
+
+        log.debug("개인화 피드 구성: 사용자={}, 카테고리={}", user.getId(), categories);
+        return feed;
+    }
+
+    // TTL 이 지난 피드를 지우고, 그래도 최대 사용자 수를 넘으면 가장 오래 활동하지 않은 사용자부터 지움
+    void evictInactive() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(properties.getTtl());
+        feeds.values().removeIf(feed -> {
+            if (feed.lastActiveAt.isBefore(expiredBefore)) {
+                unregister(feed);
+                return true;
+            }
+            return false;
+        });
+
+        int overflow = feeds.size() - properties.getMaxUsers();
+        if (overflow > 0) {
+            feeds.values().stream()
+                    .sorted(Comparator.comparing((UserFeed feed) -> feed.lastActiveAt))
+                    .limit(overflow)
+                    .toList()
+                    .forEach(feed -> {
+                        // 고른 뒤 같은 사용자의 피드가 새로 만들어졌으면 그 피드는 남김
+                        if (feeds.remove(feed.userId, feed)) {
+                            unregister(feed);
+                        }
+                    });
+        }
+    }
+
+    private void unregister(UserFeed feed) {
+        feed.categories.forEach(category -> {
+            Set<UserFeed> subscribers = subscribersByCategory.get(category);
+            if (subscribers != null) {
+                subscribers.remove(feed);
+            }
+        });
+    }
+
+    private static String normalize(String category) {
+        return category.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class UserFeed {
+        private final long userId;
+        private final Set<String> categories;
+        private final long[] articleIds;
+        private int head;
+        private int size;
+        private volatile LocalDateTime lastActiveAt;
+
+        private UserFeed(long userId, Set<String> categories, int capacity, LocalDateTime lastActiveAt) {
+            this.userId = userId;
+            this.categories = categories;
+            this.articleIds = new long[capacity];
+            this.lastActiveAt = lastActiveAt == null ? LocalDateTime.now() : lastActiveAt;
+        }
+
+        private void touch(LocalDateTime activeAt) {
+            lastActiveAt = activeAt == null ? LocalDateTime.now() : activeAt;
+        }
+
+        private synchronized void push(long articleId) {
+            append(articleId);
+        }
+
+        private synchronized void pushAll(long[] ids) {
+            for (long articleId : ids) {
+                append(articleId);
+            }
+        }
+
+        private void append(long articleId) {
+            for (int i = 0; i < size; i++) {
+                if (articleIds[i] == articleId) {
+                    return;
+                }
+            }
+            articleIds[head] = articleId;
+            head = (head + 1) % articleIds.length;
+            if (size < articleIds.length) {
+                size++;
+            }
+        }
+
+        private synchronized LongStream newestFirst() {
+            long[] ordered = new long[size];
+            for (int i = 0; i < size; i++) {
+                ordered[i] = articleIds[Math.floorMod(head - 1 - i, articleIds.length)];
+            }
+            return LongStream.of(ordered);
+        }
+    }
+}
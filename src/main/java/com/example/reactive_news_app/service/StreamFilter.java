@@ -0,0 +1,50 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.search.NewsSearchIndex;
+import com.example.reactive_news_app.search.NewsTokenizer;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+// 실시간 스트림 구독 조건. 구독 시 한 번만 정규화해 두므로 같은 조건의 구독자는 같은 값이 되어 하나의 그룹으로 묶임
+// keywords 는 검색어 단어이며 모두 제목/본문/태그에 있어야 함 (검색의 AND 와 같은 규칙: 영문은 부분 문자열, 한글은 이어진 구간)
+public record StreamFilter(String category, String author, List<String> keywords) {
+
+    public static final StreamFilter ALL = new StreamFilter(null, null, List.of());
+
+    public static StreamFilter of(String category, String author, String keyword) {
+        return new StreamFilter(
+                isBlank(category) ? null : normalizeCategory(category),
+                isBlank(author) ? null : author.trim(),
+                isBlank(keyword) ? List.of() : NewsTokenizer.words(keyword).stream().distinct().sorted().toList());
+    }
+
+    // text 는 키워드 조건이 있을 때만 호출되므로, 발행 시 여러 그룹이 같은 기사의 소문자 텍스트를 공유할 수 있음
+    public boolean matches(NewsArticle article, Supplier<List<String>> text) {
+        if (category != null && (article.category() == null || !category.equals(normalizeCategory(article.category())))) {
+            return false;
+        }
+        if (author != null && !author.equals(article.author())) {
+            return false;
+        }
+        if (keywords.isEmpty()) {
+            return true;
+        }
+        List<String> searchable = text.get();
+        return keywords.stream().allMatch(word -> NewsSearchIndex.containsWord(searchable, word));
+    }
+
+    public boolean matches(NewsArticle article) {
+        return matches(article, () -> NewsSearchIndex.searchableText(article));
+    }
+
+    static String normalizeCategory(String category) {
+        return category.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 최근 발행한 기사 이벤트를 고정 크기 링버퍼에 보관해 Last-Event-ID 이후 이벤트를 다시 보냄
+// 이벤트 ID 는 "<시작 시각>-<순번>" 형식이라, 재시작 전에 받은 ID 로 재연결하면 보관 중인 이벤트를 모두 보냄
+// 동기화는 호출하는 쪽(NewsBroadcaster)에서 담당
+final class StreamReplayBuffer {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final NewsEvent[] events;
+    private long nextSequence = 1;
+
+    StreamReplayBuffer(int capacity) {
+        this.events = new NewsEvent[Math.max(capacity, 1)];
+    }
+
+    NewsEvent append(NewsArticle article) {
+        long sequence = nextSequence++;
+        NewsEvent event = new NewsEvent(epoch + "-" + sequence, article);
+        events[(int) (sequence % events.length)] = event;
+        return event;
+    }
+
+    // lastEventId 다음부터 보관 중인 이벤트 (이미 밀려난 구간은 건너뜀)
+    List<NewsEvent> since(String lastEventId) {
+        long after = resolve(lastEventId);
+        long oldest = Math.max(1, nextSequence - events.length);
+
+        List<NewsEvent> result = new ArrayList<>();
+        for (long sequence = Math.max(after + 1, oldest); sequence < nextSequence; sequence++) {
+            result.add(events[(int) (sequence % events.length)]);
+        }
+        return result;
+    }
+
+    // 알 수 없는 형식이면 재전송하지 않고, 다른 시작 시각의 ID 면 처음부터
+    private long resolve(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator <= 0) {
+            return Long.MAX_VALUE - 1;
+        }
+        if (!epoch.equals(lastEventId.substring(0, separator))) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE - 1;
+        }
+    }
+}
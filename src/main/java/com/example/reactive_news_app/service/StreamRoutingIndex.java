@@ -0,0 +1,110 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.search.NewsSearchIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// 같은 조건의 구독자를 그룹으로 묶고 그룹을 카테고리로 색인
+// 발행 시 해당 카테고리 그룹과 카테고리 조건이 없는 그룹만 조건을 한 번씩 평가하고, 일치하면 그룹 구독자 전체에 전달
+// 불변 객체: 등록/해제는 바뀐 사본을 돌려주고, 발행하는 쪽은 잠금 없이 읽은 시점의 사본으로 전달
+final class StreamRoutingIndex<S> {
+
+    private final Map<StreamFilter, Group<S>> groups;
+    private final Map<String, List<Group<S>>> byCategory = new HashMap<>();
+    private final List<Group<S>> anyCategory = new ArrayList<>();
+
+    StreamRoutingIndex() {
+        this(Map.of());
+    }
+
+    private StreamRoutingIndex(Map<StreamFilter, Group<S>> groups) {
+        this.groups = groups;
+        for (Group<S> group : groups.values()) {
+            if (group.filter.category() == null) {
+                anyCategory.add(group);
+            } else {
+                byCategory.computeIfAbsent(group.filter.category(), category -> new ArrayList<>()).add(group);
+            }
+        }
+    }
+
+    StreamRoutingIndex<S> with(StreamFilter filter, S subscriber) {
+        Map<StreamFilter, Group<S>> copy = new HashMap<>(groups);
+        Group<S> group = groups.get(filter);
+        copy.put(filter, group == null ? new Group<>(filter, List.of(subscriber)) : group.with(subscriber));
+        return new StreamRoutingIndex<>(copy);
+    }
+
+    StreamRoutingIndex<S> without(StreamFilter filter, S subscriber) {
+        Group<S> group = groups.get(filter);
+        if (group == null || !group.members.contains(subscriber)) {
+            return this;
+        }
+
+        Map<StreamFilter, Group<S>> copy = new HashMap<>(groups);
+        Group<S> remaining = group.without(subscriber);
+        if (remaining.members.isEmpty()) {
+            copy.remove(filter);
+        } else {
+            copy.put(filter, remaining);
+        }
+        return new StreamRoutingIndex<>(copy);
+    }
+
+    void route(NewsArticle article, Consumer<S> delivery) {
+        Supplier<List<String>> text = new Supplier<>() {
+            private List<String> cached;
+
+            @Override
+            public List<String> get() {
+                if (cached == null) {
+                    cached = NewsSearchIndex.searchableText(article);
+                }
+                return cached;
+            }
+        };
+
+        deliver(anyCategory, article, text, delivery);
+        if (article.category() != null) {
+            List<Group<S>> categoryGroups = byCategory.get(StreamFilter.normalizeCategory(article.category()));
+            if (categoryGroups != null) {
+                deliver(categoryGroups, article, text, delivery);
+            }
+        }
+    }
+
+    int groupCount() {
+        return groups.size();
+    }
+
+    private static <S> void deliver(List<Group<S>> candidates, NewsArticle article, Supplier<List<String>> text,
+                                    Consumer<S> delivery) {
+        for (Group<S> group : candidates) {
+            if (group.filter.matches(article, text)) {
+                group.members.forEach(delivery);
+            }
+        }
+    }
+
+    private record Group<S>(StreamFilter filter, List<S> members) {
+
+        private Group<S> with(S subscriber) {
+            List<S> added = new ArrayList<>(members.size() + 1);
+            added.addAll(members);
+            added.add(subscriber);
+            return new Group<>(filter, added);
+        }
+
+        private Group<S> without(S subscriber) {
+            List<S> remaining = new ArrayList<>(members);
+            remaining.remove(subscriber);
+            return new Group<>(filter, remaining);
+        }
+    }
+}
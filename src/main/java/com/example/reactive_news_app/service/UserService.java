@@ -1,72 +1,118 @@
 package com.example.reactive_news_app.service;
 
+import com.example.reactive_news_app.cluster.ClusterOutbox;
+import com.example.reactive_news_app.config.SchedulingProperties.Operation;
+import com.example.reactive_news_app.id.IdGenerator;
+import com.example.reactive_news_app.journal.Journal;
+import com.example.reactive_news_app.journal.JournalRecord;
 import com.example.reactive_news_app.model.User;
+import com.example.reactive_news_app.repository.UserPersistence;
+import com.example.reactive_news_app.scheduling.ServiceScheduler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Slf4j
 public class UserService {
-    private final Map<Long, User> userRepository = new HashMap<>();
-
-    public UserService() {
+    private final Map<Long, User> userRepository = new ConcurrentHashMap<>();
+    private final UserPersistence persistence;
+    private final IdGenerator idGenerator;
+    private final ClusterOutbox clusterOutbox;
+    private final ServiceScheduler scheduler;
+    private final Journal journal;
+    private final PersonalizedFeedService feedService;
+
+    public UserService(UserPersistence persistence, IdGenerator idGenerator, ClusterOutbox clusterOutbox,
+                       ServiceScheduler scheduler, Journal journal, PersonalizedFeedService feedService) {
+        this.persistence = persistence;
+        this.idGenerator = idGenerator;
+        this.clusterOutbox = clusterOutbox;
+        this.scheduler = scheduler;
+        this.journal = journal;
+        this.feedService = feedService;
         initializeUsers();
     }
 
     public Flux<User> getAllUsers() {
-        log.info("모든 사용자 조회 요청");
+        log.debug("모든 사용자 조회 요청");
 
-        return Flux.fromIterable(userRepository.values())
-                .doOnNext(user -> log.debug("사용자 반환: {}", user.getUsername()));
+        return Flux.fromIterable(userRepository.values());
     }
 
     public Mono<User> getUserById(Long id) {
-        log.info("사용자 조회 요청: ID={}", id);
+        log.debug("사용자 조회 요청: ID={}", id);
 
-        return Mono.fromSupplier(() -> userRepository.get(id))
+        return scheduler.schedule(Operation.GET_USER, Mono.fromSupplier(() -> userRepository.get(id))
+                // 메모리에 없으면 DB 에서 읽어와 캐시
+                .switchIfEmpty(Mono.defer(() -> persistence.load(id))
+                        .doOnNext(user -> userRepository.put(user.getId(), user)))
                 .switchIfEmpty(Mono.error(new RuntimeException("사용자를 찾을 수 없습니다: " + id)))
                 .doOnNext(user -> {
                     // 마지막 활동 시간 업데이트
                     user.setLastActiveAt(LocalDateTime.now());
-                    log.info("사용자 조회 완료: {}", user.getUsername());
-                })
-                .subscribeOn(Schedulers.boundedElastic());
+                    log.debug("사용자 조회 완료: {}", user.getUsername());
+                }));
     }
 
     public Mono<User> createUser(User user) {
-        log.info("새 사용자 생성 요청: {}", user.getUsername());
+        log.debug("새 사용자 생성 요청: {}", user.getUsername());
 
-        return Mono.fromSupplier(() -> {
-            Long id = System.currentTimeMillis();
+        return scheduler.schedule(Operation.CREATE_USER, Mono.fromSupplier(() -> {
+            Long id = idGenerator.nextId();
             user.setId(id);
             user.setCreatedAt(LocalDateTime.now());
             user.setLastActiveAt(LocalDateTime.now());
 
             userRepository.put(id, user);
+            journal.append(new JournalRecord.UserSaved(user));
+            clusterOutbox.publishUser(user);
 
-            log.info("사용자 생성 완료: ID={}, 이름={}", id, user.getUsername());
+            log.debug("사용자 생성 완료: ID={}, 이름={}", id, user.getUsername());
             return user;
-        }).subscribeOn(Schedulers.boundedElastic());
+        })).flatMap(persistence::save);
     }
 
     public Mono<List<String>> getUserPreferences(Long userId) {
-        log.info("사용자 선호도 조회: ID={}", userId);
+        log.debug("사용자 선호도 조회: ID={}", userId);
 
         return getUserById(userId)
                 .map(User::getPreferredCategories)
                 .switchIfEmpty(Mono.just(Arrays.asList("TECH"))); // 기본값
     }
 
+    // 다른 노드에서 생성/변경된 사용자를 반영 (선호 카테고리가 바뀌었을 수 있어 피드는 다시 구성)
+    public void applyReplicated(List<User> users) {
+        users.forEach(user -> {
+            userRepository.put(user.getId(), user);
+            feedService.invalidate(user.getId());
+            journal.append(new JournalRecord.UserSaved(user));
+            persistence.save(user).subscribe();
+        });
+    }
+
+    public List<User> snapshot() {
+        return List.copyOf(userRepository.values());
+    }
+
     private void initializeUsers() {
+        // 저널에서 복구한 사용자가 있으면 초기 데이터를 만들지 않음
+        // 기사와 마찬가지로 DB 가 메모리 DB 일 때만(resync-on-recovery) 다시 저장 (저장은 upsert)
+        List<User> recovered = journal.takeRecoveredUsers();
+        if (!recovered.isEmpty()) {
+            recovered.forEach(user -> userRepository.put(user.getId(), user));
+            persistence.resync(recovered).subscribe(null, error -> log.error("복구한 사용자 DB 재기록 실패", error));
+            log.info("저널에서 사용자 {} 명 복구", recovered.size());
+            return;
+        }
+
         log.info("초기 사용자 데이터 생성 시작");
 
         List<User> initialUsers = Arrays.asList(
@@ -98,7 +144,11 @@ public class UserService {
                         .build()
         );
 
-        initialUsers.forEach(user -> userRepository.put(user.getId(), user));
+        initialUsers.forEach(user -> {
+            userRepository.put(user.getId(), user);
+            journal.append(new JournalRecord.UserSaved(user));
+            persistence.save(user).subscribe();
+        });
 
         log.info("초기 사용자 데이터 {} 개 생성 완료", initialUsers.size());
     }
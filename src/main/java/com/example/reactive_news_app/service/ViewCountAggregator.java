@@ -0,0 +1,457 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.cache.NewsQueryCache;
+import com.example.reactive_news_app.cluster.ClusterOutbox;
+import com.example.reactive_news_app.config.ViewCountProperties;
+import com.example.reactive_news_app.journal.Journal;
+import com.example.reactive_news_app.journal.JournalRecord;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.repository.ArticleStore;
+import com.example.reactive_news_app.repository.NewsArticlePersistence;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수 증가를 기사별 LongAdder 에 모았다가 주기적으로(또는 일정량이 쌓이면) 저장소와 DB 에 한 번에 반영
+// 인기 순위는 반영된 값을 읽고, 최근 5분/1시간 조회수는 1분 단위 버킷으로 따로 집계
+@Service
+@Slf4j
+public class ViewCountAggregator {
+
+    private static final int BUCKET_COUNT = 60;
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    // 임계값 확인 빈도 (매번 sum() 을 호출하지 않도록 1/64 확률로만 확인)
+    private static final int THRESHOLD_CHECK_MASK = 63;
+
+    public enum Window {
+        FIVE_MINUTES(5), ONE_HOUR(60), ALL_TIME(0);
+
+        private final int minutes;
+
+        Window(int minutes) {
+            this.minutes = minutes;
+        }
+    }
+
+    private final ArticleStore articleStore;
+    private final NewsArticlePersistence persistence;
+    private final NewsQueryCache queryCache;
+    private final ViewCountProperties properties;
+    private final ClusterOutbox clusterOutbox;
+    private final Journal journal;
+
+    // 아직 반영하지 않은 기사별 증가분 (한 주기 동안 조회가 없으면 항목을 지움)
+    private final ConcurrentHashMap<Long, PendingCount> pending = new ConcurrentHashMap<>();
+    private final LongAdder pendingTotal = new LongAdder();
+    private final LongAdder flushedTotal = new LongAdder();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Sinks.Many<Long> thresholdTriggers = Sinks.many().unicast().onBackpressureBuffer();
+
+    // 최근 1시간 안에 조회된 기사만 유지 (반영 스레드와 클러스터 반영 스레드가 갱신)
+    private final ConcurrentHashMap<Long, WindowCounter> recent = new ConcurrentHashMap<>();
+
+    // 클러스터 모드에서 기사별로 replica(노드의 한 번의 기동)마다 센 누적 조회수 (G-counter)
+    // 저장소의 조회수 = 기사를 받았을 때의 기본값 + 카운터 합. 자기 카운터만 늘리고 받은 카운터는 replica 별로 큰 값을 택하므로
+    // 같은 값을 여러 번 받거나 스냅샷과 겹쳐도 두 번 세지 않고 모든 노드가 같은 값으로 수렴
+    // 저장소 반영과 카운터 갱신은 이 맵을 잠그고 함께 수행 (스냅샷의 기본값이 어긋나지 않도록)
+    private final Map<Long, Map<String, Long>> counters = new HashMap<>();
+    // 저장소에 없는 기사의 카운터를 처음 확인한 시각 (counters 와 같은 잠금으로 보호)
+    private final Map<Long, Long> missingSince = new HashMap<>();
+    private long prunedBucket;
+
+    private final Sinks.Empty<Void> stopSignal = Sinks.empty();
+    // 반영 흐름이 끝나면 완료됨 (종료 시 진행 중인 반영을 기다리는 데 사용)
+    private Mono<Void> flushLoop;
+
+    public ViewCountAggregator(ArticleStore articleStore, NewsArticlePersistence persistence,
+                               NewsQueryCache queryCache, ViewCountProperties properties,
+                               ClusterOutbox clusterOutbox, Journal journal) {
+        this.articleStore = articleStore;
+        this.persistence = persistence;
+        this.queryCache = queryCache;
+        this.properties = properties;
+        this.clusterOutbox = clusterOutbox;
+        this.journal = journal;
+    }
+
+    @PostConstruct
+    public void start() {
+        // 저널에서 복구한 누적 조회수에는 이미 카운터가 들어 있으므로, 카운터도 함께 복구해야
+        // 재기동 후 받은 스냅샷의 카운터(이전 기동의 자기 카운터 포함)를 다시 더하지 않음
+        synchronized (counters) {
+            journal.takeRecoveredCounters().forEach((id, byReplica) -> counters.put(id, new HashMap<>(byReplica)));
+        }
+
+        // concatMap 으로 반영 작업이 겹치지 않게 한 번에 하나씩만 실행
+        // 종료 신호가 오면 새 주기는 받지 않고, 진행 중인 반영은 끝까지 마친 뒤 완료
+        flushLoop = Flux.merge(Flux.interval(properties.getFlushInterval()), thresholdTriggers.asFlux())
+                .takeUntilOther(stopSignal.asMono())
+                .onBackpressureDrop()
+                .concatMap(tick -> flush()
+                        .onErrorResume(error -> {
+                            log.error("조회수 반영 실패", error);
+                            return Mono.empty();
+                        }), 1)
+                .then()
+                .cache();
+        flushLoop.subscribe();
+    }
+
+    // 종료 시 진행 중인 반영이 끝나기를 기다린 뒤 남은 증가분을 모두 반영
+    // (진행 중인 반영을 취소하면 이미 꺼낸 증가분의 DB 기록이 빠질 수 있음)
+    @PreDestroy
+    public void stop() {
+        Mono<Void> inFlight = Mono.empty();
+        if (flushLoop != null) {
+            stopSignal.tryEmitEmpty();
+            inFlight = flushLoop;
+        }
+        inFlight.then(flush()).block(Duration.ofSeconds(10));
+    }
+
+    public void record(long articleId) {
+        addPending(articleId, 1);
+        pendingTotal.increment();
+
+        if ((ThreadLocalRandom.current().nextInt() & THRESHOLD_CHECK_MASK) == 0
+                && pendingTotal.sum() >= properties.getFlushThreshold()
+                && flushRequested.compareAndSet(false, true)) {
+            thresholdTriggers.tryEmitNext(System.nanoTime());
+        }
+    }
+
+    public Mono<Void> flush() {
+        return Mono.fromCallable(this::drain)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(persistence::saveViewCounts);
+    }
+
+    // 다른 노드의 한 replica 가 센 기사별 누적 조회수 (다시 전파하지 않음)
+    public void applyReplicated(String replica, Map<Long, Long> counts) {
+        Map<Long, Map<String, Long>> received = new HashMap<>();
+        counts.forEach((id, count) -> received.put(id, Map.of(replica, count)));
+        mergeCounters(received);
+    }
+
+    // replica 별로 받은 값이 더 크면 올리고, 늘어난 만큼 저장소에 더함
+    // 아직 없는 기사의 카운터는 기억만 해 두었다가 기사가 저장되면 addCounters 에서 더함
+    public void mergeCounters(Map<Long, Map<String, Long>> received) {
+        long bucket = currentBucket();
+        Map<Long, Long> totals = new HashMap<>();
+        Map<Long, Map<String, Long>> raised = new HashMap<>();
+
+        synchronized (counters) {
+            received.forEach((id, byReplica) -> {
+                Map<String, Long> known = counters.computeIfAbsent(id, key -> new HashMap<>());
+                Map<String, Long> changed = new HashMap<>();
+                long delta = 0;
+                for (Map.Entry<String, Long> entry : byReplica.entrySet()) {
+                    long previous = known.getOrDefault(entry.getKey(), 0L);
+                    if (entry.getValue() > previous) {
+                        known.put(entry.getKey(), entry.getValue());
+                        changed.put(entry.getKey(), entry.getValue());
+                        delta += entry.getValue() - previous;
+                    }
+                }
+                if (!changed.isEmpty()) {
+                    raised.put(id, changed);
+                }
+                if (delta > 0 && articleStore.addViewCount(id, delta)) {
+                    totals.put(id, articleStore.getViewCount(id));
+                    recent.computeIfAbsent(id, key -> new WindowCounter()).add(bucket, delta);
+                }
+            });
+        }
+        saveReplicated(totals, raised);
+    }
+
+    // 다른 노드에서 받아 새로 저장한 기사에, 기사가 없던 동안 받아 둔 카운터를 더함
+    // (받은 기사의 조회수에는 카운터가 들어 있지 않음: ARTICLES 는 생성 직후 값이고 스냅샷은 카운터를 뺀 값)
+    public void addCounters(List<NewsArticle> stored) {
+        Map<Long, Long> totals = new HashMap<>();
+
+        synchronized (counters) {
+            for (NewsArticle article : stored) {
+                Map<String, Long> known = counters.get(article.id());
+                long sum = known == null ? 0 : sum(known);
+                if (sum > 0 && articleStore.addViewCount(article.id(), sum)) {
+                    totals.put(article.id(), articleStore.getViewCount(article.id()));
+                }
+            }
+        }
+        saveReplicated(totals, Map.of());
+    }
+
+    // 스냅샷으로 보낼 기사(조회수는 카운터를 뺀 기본값)와 기사별 카운터
+    public CounterSnapshot snapshot(List<NewsArticle> articles) {
+        List<NewsArticle> base = new ArrayList<>(articles.size());
+        Map<Long, Map<String, Long>> snapshot = new HashMap<>();
+
+        synchronized (counters) {
+            for (NewsArticle article : articles) {
+                long total = articleStore.getViewCount(article.id());
+                Map<String, Long> known = counters.get(article.id());
+                if (known != null && !known.isEmpty()) {
+                    snapshot.put(article.id(), Map.copyOf(known));
+                    total -= sum(known);
+                }
+                base.add(article.withViewCount((int) total));
+            }
+        }
+        return new CounterSnapshot(base, snapshot);
+    }
+
+    public Flux<NewsArticle> getTrending(Window window, int limit) {
+        if (window == Window.ALL_TIME) {
+            return Flux.fromStream(articleStore::findAllOrderByViewCountDesc).take(limit);
+        }
+
+        return Flux.defer(() -> {
+            long bucket = currentBucket();
+            Comparator<long[]> order = Comparator.<long[]>comparingLong(entry -> entry[1])
+                    .thenComparingLong(entry -> -entry[0]);
+            PriorityQueue<long[]> top = new PriorityQueue<>(limit + 1, order);
+
+            recent.forEach((id, counter) -> {
+                long views = counter.sum(bucket, window.minutes);
+                if (views > 0) {
+                    top.offer(new long[]{id, views});
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            });
+
+            List<long[]> ranked = new ArrayList<>(top);
+            ranked.sort(order.reversed());
+            return Flux.fromIterable(ranked)
+                    .flatMap(entry -> Mono.justOrEmpty(articleStore.findById(entry[0])), 1);
+        });
+    }
+
+    public long getPendingCount() {
+        return pendingTotal.sum();
+    }
+
+    public long getFlushedCount() {
+        return flushedTotal.sum();
+    }
+
+    // 기사별 증가분을 꺼내 저장소에 반영하고, DB 에 기록할 누적 조회수를 반환
+    private Map<Long, Long> drain() {
+        flushRequested.set(false);
+        long bucket = currentBucket();
+        Map<Long, Long> totals = new HashMap<>();
+        Map<Long, Long> counts = new HashMap<>();
+
+        pending.forEach((id, adder) -> {
+            // sumThenReset 은 셀마다 getAndSet 으로 비우므로 동시에 들어온 증가분도 다음 반영 때 포함됨
+            long delta = adder.sumThenReset();
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없던 기사는 항목을 지워, 맵이 조회된 적 있는 모든 기사로 커지지 않게 함
+                // 지운 항목에 늦게 더해진 증가분은 새 항목으로 옮김
+                long late = retire(id, adder);
+                if (late != 0) {
+                    addPending(id, late);
+                }
+                return;
+            }
+
+            pendingTotal.add(-delta);
+            if (addLocal(id, delta, counts)) {
+                flushedTotal.add(delta);
+                totals.put(id, articleStore.getViewCount(id));
+                recent.computeIfAbsent(id, key -> new WindowCounter()).add(bucket, delta);
+            } else {
+                // 없는 기사의 증가분은 버림
+                pendingTotal.add(-retire(id, adder));
+            }
+        });
+
+        recent.entrySet().removeIf(entry -> entry.getValue().sum(bucket, BUCKET_COUNT) == 0);
+        if (bucket != prunedBucket) {
+            prunedBucket = bucket;
+            pruneCounters();
+        }
+
+        if (!totals.isEmpty()) {
+            // 조회수가 바뀌면 인기 순위 캐시만 다시 계산
+            queryCache.invalidatePopular();
+            journal.append(new JournalRecord.ViewCounts(totals, ownCounters(counts)));
+            log.debug("조회수 반영: 기사 {}개", totals.size());
+        }
+        // 다른 노드에는 저장소의 누적값이 아니라 이 노드 카운터의 값을 보냄
+        clusterOutbox.publishViewCounts(counts);
+        return totals;
+    }
+
+    // 지운 항목에 더한 쪽이 retired 를 보면 직접 남은 값을 꺼내 새 항목으로 옮기므로 증가분을 잃지 않음
+    // (sumThenReset 은 셀마다 getAndSet 이라 같은 증가분을 두 번 꺼내지 않음)
+    private void addPending(long id, long count) {
+        PendingCount adder = pending.computeIfAbsent(id, key -> new PendingCount());
+        adder.add(count);
+        if (adder.retired) {
+            long late = adder.sumThenReset();
+            if (late != 0) {
+                addPending(id, late);
+            }
+        }
+    }
+
+    // 항목을 맵에서 지운 뒤 retired 를 켜고 남은 값을 꺼냄
+    // retired 를 켜기 전에 더해진 값은 여기서, 그 뒤에 더해진 값은 더한 쪽(addPending)에서 꺼냄
+    private long retire(long id, PendingCount adder) {
+        if (!pending.remove(id, adder)) {
+            return 0;
+        }
+        adder.retired = true;
+        return adder.sumThenReset();
+    }
+
+    // 이 노드에서 생긴 조회수를 저장소에 더하고, 클러스터 모드면 자기 카운터도 함께 올림
+    private boolean addLocal(long id, long delta, Map<Long, Long> counts) {
+        if (!clusterOutbox.isEnabled()) {
+            return articleStore.addViewCount(id, delta);
+        }
+
+        synchronized (counters) {
+            if (!articleStore.addViewCount(id, delta)) {
+                return false;
+            }
+            counts.put(id, counters.computeIfAbsent(id, key -> new HashMap<>())
+                    .merge(clusterOutbox.getReplica(), delta, Long::sum));
+            return true;
+        }
+    }
+
+    // 1분에 한 번, 저장소에 없는 기사의 카운터 중 보관 시간이 지난 것을 지움
+    // 아직 도착하지 않은 기사의 카운터는 보관 시간 동안 남겨 두어 기사가 저장되면 addCounters 에서 더함
+    private void pruneCounters() {
+        long now = System.currentTimeMillis();
+        long retention = properties.getCounterRetention().toMillis();
+        int removed = 0;
+
+        synchronized (counters) {
+            var entries = counters.entrySet().iterator();
+            while (entries.hasNext()) {
+                long id = entries.next().getKey();
+                if (articleStore.findById(id).isPresent()) {
+                    missingSince.remove(id);
+                    continue;
+                }
+                long since = missingSince.computeIfAbsent(id, key -> now);
+                if (now - since >= retention) {
+                    entries.remove();
+                    missingSince.remove(id);
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.debug("저장소에 없는 기사의 조회수 카운터 {}개 삭제", removed);
+        }
+    }
+
+    // 카운터를 가진 기사 수
+    int counterCount() {
+        synchronized (counters) {
+            return counters.size();
+        }
+    }
+
+    private Map<Long, Map<String, Long>> ownCounters(Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return Map.of();
+        }
+        String replica = clusterOutbox.getReplica();
+        Map<Long, Map<String, Long>> own = new HashMap<>();
+        counts.forEach((id, count) -> own.put(id, Map.of(replica, count)));
+        return own;
+    }
+
+    private static long sum(Map<String, Long> byReplica) {
+        long sum = 0;
+        for (long count : byReplica.values()) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    // 아직 없는 기사의 카운터만 바뀌었어도 저널에는 남김
+    private void saveReplicated(Map<Long, Long> totals, Map<Long, Map<String, Long>> raised) {
+        if (!totals.isEmpty() || !raised.isEmpty()) {
+            journal.append(new JournalRecord.ViewCounts(totals, raised));
+        }
+        if (!totals.isEmpty()) {
+            queryCache.invalidatePopular();
+            persistence.saveViewCounts(totals).subscribe();
+        }
+    }
+
+    private static long currentBucket() {
+        return System.currentTimeMillis() / BUCKET_MILLIS;
+    }
+
+    private static final class PendingCount extends LongAdder {
+        private volatile boolean retired;
+    }
+
+    // articles 의 조회수는 카운터를 뺀 기본값
+    public record CounterSnapshot(List<NewsArticle> articles, Map<Long, Map<String, Long>> counters) {
+
+        // 기본값에 카운터를 다시 더한 기사 (저장소의 누적 조회수)
+        public List<NewsArticle> totals() {
+            return articles.stream()
+                    .map(article -> {
+                        Map<String, Long> byReplica = counters.get(article.id());
+                        return byReplica == null
+                                ? article
+                                : article.withViewCount((int) (article.viewCount() + sum(byReplica)));
+                    })
+                    .toList();
+        }
+    }
+
+    // 1분 단위 버킷 60개 링버퍼 (버킷 번호로 오래된 칸을 구분)
+    private static final class WindowCounter {
+        private final long[] buckets = new long[BUCKET_COUNT];
+        private final long[] counts = new long[BUCKET_COUNT];
+
+        private synchronized void add(long bucket, long delta) {
+            int slot = (int) (bucket % BUCKET_COUNT);
+            if (buckets[slot] != bucket) {
+                buckets[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot] += delta;
+        }
+
+        private synchronized long sum(long bucket, int minutes) {
+            long total = 0;
+            for (int slot = 0; slot < BUCKET_COUNT; slot++) {
+                if (buckets[slot] > bucket - minutes && buckets[slot] <= bucket) {
+                    total += counts[slot];
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+CREATE TABLE IF NOT EXISTS news_articles (
+    id           BIGINT PRIMARY KEY,
+    title        VARCHAR(500),
+    content      CLOB,
+    category     VARCHAR(50),
+    author       VARCHAR(100),
+    published_at TIMESTAMP,
+    view_count   INT
+);
+
+CREATE INDEX IF NOT EXISTS idx_news_articles_category_published ON news_articles (category, published_at);
+CREATE INDEX IF NOT EXISTS idx_news_articles_published ON news_articles (published_at);
+
+-- List<String> tags 저장용 보조 테이블
+CREATE TABLE IF NOT EXISTS news_article_tags (
+    article_id BIGINT      NOT NULL,
+    position   INT         NOT NULL,
+    tag        VARCHAR(100) NOT NULL,
+    PRIMARY KEY (article_id, position)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id             BIGINT PRIMARY KEY,
+    username       VARCHAR(100),
+    email          VARCHAR(200),
+    created_at     TIMESTAMP,
+    last_active_at TIMESTAMP
+);
+
+-- List<String> preferredCategories 저장용 보조 테이블
+CREATE TABLE IF NOT EXISTS user_preferred_categories (
+    user_id  BIGINT      NOT NULL,
+    position INT         NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    PRIMARY KEY (user_id, position)
+);
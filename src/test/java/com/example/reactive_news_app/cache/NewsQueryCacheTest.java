@@ -0,0 +1,96 @@
+package com.example.reactive_news_app.cache;
+
+import com.example.reactive_news_app.config.QueryCacheProperties;
+import com.example.reactive_news_app.model.NewsPage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsQueryCacheTest {
+
+    private final NewsQueryCache cache = new NewsQueryCache(new QueryCacheProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void concurrentMissesShareOneComputation() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<NewsPage> result = Sinks.one();
+
+        List<Mono<NewsPage>> requests = Flux.range(0, 32)
+                .map(i -> cache.get(NewsQueryCache.ALL, "*", () -> {
+                    loads.incrementAndGet();
+                    return result.asMono();
+                }))
+                .collectList()
+                .block();
+
+        Mono<List<NewsPage>> all = Flux.merge(requests).collectList().cache();
+        all.subscribe();
+        result.tryEmitValue(new NewsPage(List.of(), null));
+
+        assertThat(all.block()).hasSize(32);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void newArticleEvictsOnlyItsCategoryListsAndSearch() {
+        AtomicInteger loads = new AtomicInteger();
+
+        load(NewsQueryCache.ALL, loads);
+        load(NewsQueryCache.category("tech"), loads);
+        load(NewsQueryCache.category("SPORTS"), loads);
+        load(NewsQueryCache.SEARCH, loads);
+        load(NewsQueryCache.POPULAR, loads);
+        assertThat(loads).hasValue(5);
+
+        cache.invalidateArticle("TECH");
+
+        loads.set(0);
+        load(NewsQueryCache.ALL, loads);
+        load(NewsQueryCache.category("TECH"), loads);
+        load(NewsQueryCache.SEARCH, loads);
+        assertThat(loads).hasValue(3);
+
+        loads.set(0);
+        load(NewsQueryCache.category("SPORTS"), loads);
+        load(NewsQueryCache.POPULAR, loads);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void dropsScopesWithoutCachedLists() {
+        AtomicInteger loads = new AtomicInteger();
+
+        // 읽지 않은 카테고리는 무효화해도 범위가 생기지 않음
+        for (int i = 0; i < 100; i++) {
+            cache.invalidateArticle("unknown-" + i);
+        }
+        assertThat(cache.scopeCount()).isZero();
+
+        load(NewsQueryCache.category("random-1"), loads);
+        load(NewsQueryCache.category("random-2"), loads);
+        assertThat(cache.scopeCount()).isEqualTo(2);
+
+        cache.invalidateArticle("random-1");
+        assertThat(cache.scopeCount()).isEqualTo(1);
+
+        // 다시 만든 범위는 이전 세대 항목을 읽지 않음
+        loads.set(0);
+        load(NewsQueryCache.category("random-1"), loads);
+        load(NewsQueryCache.category("random-2"), loads);
+        assertThat(loads).hasValue(1);
+    }
+
+    private void load(String scope, AtomicInteger loads) {
+        cache.get(scope, "*", () -> {
+            loads.incrementAndGet();
+            return Mono.just(new NewsPage(List.of(), null));
+        }).block();
+    }
+}
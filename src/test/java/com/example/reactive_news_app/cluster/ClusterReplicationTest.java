@@ -0,0 +1,165 @@
+package com.example.reactive_news_app.cluster;
+
+import com.example.reactive_news_app.ReactiveNewsAppApplication;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+import com.example.reactive_news_app.repository.ArticleStore;
+import com.example.reactive_news_app.service.NewsService;
+import com.example.reactive_news_app.service.UserService;
+import com.example.reactive_news_app.service.ViewCountAggregator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 JVM 에 두 노드를 띄워 in-process 버스로 복제를 확인
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClusterReplicationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private ConfigurableApplicationContext node1;
+    private ConfigurableApplicationContext node2;
+
+    @BeforeAll
+    void startNodes() {
+        String cluster = "cluster-test-" + UUID.randomUUID();
+        node1 = start(cluster, 1);
+        node2 = start(cluster, 2);
+    }
+
+    @AfterAll
+    void stopNodes() {
+        if (node2 != null) {
+            node2.close();
+        }
+        if (node1 != null) {
+            node1.close();
+        }
+    }
+
+    @Test
+    void replicatesCreatedArticles() {
+        NewsArticle created = createNews(node1, "복제 기사");
+
+        awaitUntil(() -> store(node2).findById(created.id()).isPresent());
+        assertThat(store(node2).findById(created.id()).orElseThrow().title()).isEqualTo("복제 기사");
+    }
+
+    @Test
+    void viewCountsConvergeToSumWithoutDoubleCounting() {
+        NewsArticle created = createNews(node1, "조회수 기사");
+        awaitUntil(() -> store(node2).findById(created.id()).isPresent());
+
+        recordViews(node1, created.id(), 3);
+        recordViews(node2, created.id(), 2);
+        awaitUntil(() -> store(node1).getViewCount(created.id()) == 5 && store(node2).getViewCount(created.id()) == 5);
+
+        // 같은 누적값을 다시 보내도 늘지 않음
+        recordViews(node1, created.id(), 1);
+        awaitUntil(() -> store(node2).getViewCount(created.id()) == 6);
+        views(node2).flush().block(TIMEOUT);
+        views(node1).flush().block(TIMEOUT);
+        assertThat(store(node1).getViewCount(created.id())).isEqualTo(6);
+        assertThat(store(node2).getViewCount(created.id())).isEqualTo(6);
+    }
+
+    @Test
+    void replicatesCreatedUsers() {
+        User created = node1.getBean(UserService.class).createUser(User.builder()
+                        .username("cluster-user")
+                        .email("cluster-user@example.com")
+                        .preferredCategories(List.of("TECH"))
+                        .build())
+                .block(TIMEOUT);
+
+        awaitUntil(() -> node2.getBean(UserService.class).snapshot().stream()
+                .anyMatch(user -> user.getId().equals(created.getId())));
+    }
+
+    @Test
+    void missedEventsAreRecoveredFromSnapshot() {
+        ClusterReplicator replicator2 = node2.getBean(ClusterReplicator.class);
+        NewsArticle viewed = createNews(node1, "스냅샷 전 기사");
+        awaitUntil(() -> store(node2).findById(viewed.id()).isPresent());
+        recordViews(node1, viewed.id(), 4);
+        recordViews(node2, viewed.id(), 3);
+        awaitUntil(() -> store(node2).getViewCount(viewed.id()) == 7);
+        long gaps = replicator2.getGapCount();
+        long snapshots = replicator2.getSnapshotCount();
+
+        // 노드 2 가 잠시 빠진 동안 생성된 기사는 다음 이벤트에서 누락을 알아채고 스냅샷으로 채움
+        replicator2.stop();
+        NewsArticle missed = createNews(node1, "놓친 기사");
+        replicator2.start();
+        NewsArticle next = createNews(node1, "다음 기사");
+
+        awaitUntil(() -> replicator2.getSnapshotCount() > snapshots);
+        assertThat(replicator2.getGapCount()).isGreaterThan(gaps);
+        assertThat(store(node2).findById(missed.id())).isPresent();
+        assertThat(store(node2).findById(next.id())).isPresent();
+        // 스냅샷의 카운터는 이미 받은 값과 겹쳐도 두 번 더하지 않음
+        assertThat(store(node2).getViewCount(viewed.id())).isEqualTo(7);
+        assertThat(store(node1).getViewCount(viewed.id())).isEqualTo(7);
+    }
+
+    private static ConfigurableApplicationContext start(String cluster, int nodeId) {
+        return new SpringApplicationBuilder(ReactiveNewsAppApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///" + cluster + "-" + nodeId + "?options=DB_CLOSE_DELAY=-1",
+                        "news.id.node-id=" + nodeId,
+                        "news.stream.interval=1h",
+                        "news.cluster.enabled=true",
+                        "news.cluster.transport=in-process",
+                        "news.cluster.name=" + cluster,
+                        "news.cluster.heartbeat-interval=1h",
+                        "news.cluster.snapshot-timeout=1s")
+                .run();
+    }
+
+    private static NewsArticle createNews(ConfigurableApplicationContext node, String title) {
+        return node.getBean(NewsService.class)
+                .createNews(NewsArticle.create(title, title + " 내용", "TECH", "김기자"))
+                .block(TIMEOUT);
+    }
+
+    private static void recordViews(ConfigurableApplicationContext node, long id, int count) {
+        ViewCountAggregator aggregator = views(node);
+        for (int i = 0; i < count; i++) {
+            aggregator.record(id);
+        }
+        aggregator.flush().block(TIMEOUT);
+    }
+
+    private static ArticleStore store(ConfigurableApplicationContext node) {
+        return node.getBean(ArticleStore.class);
+    }
+
+    private static ViewCountAggregator views(ConfigurableApplicationContext node) {
+        return node.getBean(ViewCountAggregator.class);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("제한 시간 안에 조건을 만족하지 않음").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
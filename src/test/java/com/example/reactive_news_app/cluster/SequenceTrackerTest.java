@@ -0,0 +1,48 @@
+package com.example.reactive_news_app.cluster;
+
+import com.example.reactive_news_app.cluster.ClusterEvent.Version;
+import com.example.reactive_news_app.cluster.SequenceTracker.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenceTrackerTest {
+
+    private final SequenceTracker tracker = new SequenceTracker();
+
+    @Test
+    void detectsGapsAndDuplicates() {
+        assertThat(tracker.accept(1, 100, 1)).isEqualTo(Result.APPLY);
+        assertThat(tracker.accept(1, 100, 2)).isEqualTo(Result.APPLY);
+        assertThat(tracker.accept(1, 100, 2)).isEqualTo(Result.DUPLICATE);
+        assertThat(tracker.accept(1, 100, 5)).isEqualTo(Result.GAP);
+        assertThat(tracker.accept(1, 100, 4)).isEqualTo(Result.DUPLICATE);
+        assertThat(tracker.accept(1, 100, 6)).isEqualTo(Result.APPLY);
+    }
+
+    @Test
+    void heartbeatFromUnknownNodeMeansLateJoin() {
+        assertThat(tracker.isBehind(2, 100, 0)).isFalse();
+        assertThat(tracker.isBehind(2, 100, 42)).isTrue();
+
+        tracker.catchUp(Map.of(2, new Version(100, 42)));
+        assertThat(tracker.isBehind(2, 100, 42)).isFalse();
+        assertThat(tracker.accept(2, 100, 42)).isEqualTo(Result.DUPLICATE);
+        assertThat(tracker.accept(2, 100, 43)).isEqualTo(Result.APPLY);
+    }
+
+    @Test
+    void restartedNodeStartsOverAndOldEpochIsIgnored() {
+        tracker.accept(3, 100, 1);
+        tracker.accept(3, 100, 2);
+
+        assertThat(tracker.accept(3, 200, 1)).isEqualTo(Result.APPLY);
+        assertThat(tracker.accept(3, 100, 3)).isEqualTo(Result.DUPLICATE);
+
+        // 스냅샷보다 이미 더 반영했으면 그대로 유지
+        tracker.catchUp(Map.of(3, new Version(200, 0)));
+        assertThat(tracker.versions()).containsEntry(3, new Version(200, 1));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.reactive_news_app.codec;
+
+import com.example.reactive_news_app.config.QueryCacheProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleJsonEncoderTest {
+
+    private static final ResolvableType ARTICLE = ResolvableType.forClass(NewsArticle.class);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ArticleJsonCache cache = new ArticleJsonCache(objectMapper, new QueryCacheProperties(),
+            new SimpleMeterRegistry());
+    private final ArticleJsonEncoder encoder = new ArticleJsonEncoder(cache);
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    @Test
+    void writesArticlesAsJsonArray() throws Exception {
+        List<NewsArticle> articles = List.of(article(1), article(2), article(3));
+
+        String json = encode(Flux.fromIterable(articles), MediaType.APPLICATION_JSON);
+
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(articles));
+    }
+
+    @Test
+    void writesEmptyArrayWhenNoArticles() {
+        assertThat(encode(Flux.empty(), MediaType.APPLICATION_JSON)).isEqualTo("[]");
+    }
+
+    @Test
+    void writesSingleArticleWithoutArrayFraming() throws Exception {
+        NewsArticle article = article(1);
+
+        String json = encode(Mono.just(article), MediaType.APPLICATION_JSON);
+
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(article));
+    }
+
+    @Test
+    void terminatesEveryNdjsonLineWithNewline() throws Exception {
+        NewsArticle first = article(1);
+        NewsArticle second = article(2);
+
+        String ndjson = encode(Flux.just(first, second), MediaType.APPLICATION_NDJSON);
+
+        assertThat(ndjson).isEqualTo(objectMapper.writeValueAsString(first) + "\n"
+                + objectMapper.writeValueAsString(second) + "\n");
+    }
+
+    @Test
+    void reusesSerializedBytesOnlyForSameArticleInstance() {
+        NewsArticle article = article(1);
+
+        byte[] first = cache.bytes(article);
+        assertThat(cache.bytes(article)).isSameAs(first);
+        // 조회수가 바뀐 새 객체는 다시 직렬화
+        assertThat(cache.bytes(article.withViewCount(5))).isNotSameAs(first);
+    }
+
+    @Test
+    void delegatesOtherTypesToFallbackForSse() throws Exception {
+        ArticleJsonEncoder sse = new ArticleJsonEncoder(cache, new Jackson2JsonEncoder(objectMapper));
+        ResolvableType mapType = ResolvableType.forClass(Map.class);
+        Map<String, Object> event = Map.of("type", "PING");
+        NewsArticle article = article(1);
+
+        assertThat(encoder.canEncode(mapType, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(sse.canEncode(mapType, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(sse.canEncode(ARTICLE, MediaType.APPLICATION_JSON)).isTrue();
+
+        DataBuffer other = sse.encodeValue(event, bufferFactory, mapType, MediaType.APPLICATION_JSON, Map.of());
+        assertThat(other.toString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(event));
+
+        DataBuffer data = sse.encodeValue(article, bufferFactory, ARTICLE, MediaType.APPLICATION_JSON, Map.of());
+        assertThat(data.toString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(article));
+    }
+
+    @Test
+    void writesArticlesAndTrailingCursorAsNdjsonLines() throws Exception {
+        ArticleJsonEncoder mixed = new ArticleJsonEncoder(cache, new Jackson2JsonEncoder(objectMapper));
+        NewsArticle article = article(1);
+        NewsPage.NextCursor cursor = new NewsPage.NextCursor("abc");
+
+        String ndjson = DataBufferUtils.join(mixed.encode(Flux.just(article, cursor), bufferFactory,
+                        ResolvableType.forClass(Object.class), MediaType.APPLICATION_NDJSON, Map.of()))
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .block();
+
+        assertThat(ndjson).isEqualTo(new String(cache.bytes(article), StandardCharsets.UTF_8) + "\n"
+                + "{\"nextCursor\":\"abc\"}\n");
+    }
+
+    private String encode(Publisher<NewsArticle> articles, MediaType mediaType) {
+        return DataBufferUtils.join(encoder.encode(articles, bufferFactory, ARTICLE, mediaType, Map.of()))
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .block();
+    }
+
+    private static NewsArticle article(long id) {
+        return NewsArticle.create("제목 " + id, "내용 " + id, "TECH", "김기자")
+                .withId(id)
+                .withPublishedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id));
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.reactive_news_app.handler;
+
+import com.example.reactive_news_app.model.FeedCommand;
+import com.example.reactive_news_app.model.FeedCommand.Type;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsEvent;
+import com.example.reactive_news_app.model.StreamSubscription;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketFeedTest {
+
+    private final List<TestPublisher<NewsEvent>> streams = new ArrayList<>();
+    private final List<StreamSubscription> subscriptions = new ArrayList<>();
+    private final WebSocketFeed feed = new WebSocketFeed(subscription -> {
+        TestPublisher<NewsEvent> stream = TestPublisher.create();
+        streams.add(stream);
+        subscriptions.add(subscription);
+        return stream.flux();
+    });
+
+    @Test
+    void requestsOnlyWhatSocketCanTake() {
+        // 소켓이 아직 아무것도 요청하지 않음
+        StepVerifier.create(feed.events(), 0)
+                .then(() -> {
+                    feed.onCommand(subscribe());
+                    feed.onCommand(request(1_000_000));
+                    stream(0).assertMaxRequested(0);
+                })
+                .thenRequest(2)
+                .then(() -> stream(0).assertMinRequested(2).assertMaxRequested(2).next(event(1), event(2)))
+                .expectNext(event(1), event(2))
+                .thenRequest(1)
+                .then(() -> stream(0).assertMaxRequested(1).next(event(3)))
+                .expectNext(event(3))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        stream(0).assertCancelled();
+    }
+
+    @Test
+    void deliversNoMoreThanClientRequested() {
+        StepVerifier.create(feed.events(), 100)
+                .then(() -> {
+                    feed.onCommand(subscribe());
+                    stream(0).assertMaxRequested(0);
+                    feed.onCommand(request(2));
+                    stream(0).assertMaxRequested(2).next(event(1), event(2));
+                })
+                .expectNext(event(1), event(2))
+                .then(() -> {
+                    stream(0).assertMaxRequested(0);
+                    feed.onCommand(request(1));
+                    stream(0).assertMaxRequested(1).next(event(3));
+                })
+                .expectNext(event(3))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void cancelStopsStreamAndCarriesUnusedCreditToNextSubscription() {
+        StepVerifier.create(feed.events(), 100)
+                .then(() -> {
+                    feed.onCommand(subscribe());
+                    feed.onCommand(request(5));
+                    stream(0).next(event(1));
+                })
+                .expectNext(event(1))
+                .then(() -> {
+                    feed.onCommand(new FeedCommand(Type.CANCEL, null, 0));
+                    stream(0).assertCancelled();
+                    // 구독이 없는 동안 받은 요청도 다음 구독으로 넘어감
+                    feed.onCommand(request(2));
+                    feed.onCommand(subscribe());
+                    stream(1).assertMinRequested(6).assertMaxRequested(6);
+                })
+                .then(() -> stream(1).next(event(2), event(3)))
+                .expectNext(event(2), event(3))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void resubscribeSwitchesConditionsAndKeepsCredit() {
+        StreamSubscription tech = new StreamSubscription("TECH", null, null, null, null);
+
+        StepVerifier.create(feed.events(), 100)
+                .then(() -> {
+                    feed.onCommand(subscribe());
+                    feed.onCommand(request(3));
+                    stream(0).next(event(1));
+                })
+                .expectNext(event(1))
+                .then(() -> {
+                    feed.onCommand(new FeedCommand(Type.SUBSCRIBE, tech, 0));
+                    stream(0).assertCancelled();
+                    stream(1).assertMaxRequested(2).next(event(2));
+                })
+                .expectNext(event(2))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(subscriptions).containsExactly(StreamSubscription.ALL, tech);
+    }
+
+    @Test
+    void completesWhenStreamFails() {
+        StepVerifier.create(feed.events(), 100)
+                .then(() -> {
+                    feed.onCommand(subscribe());
+                    feed.onCommand(request(1));
+                    stream(0).error(new IllegalStateException("느린 구독자"));
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private TestPublisher<NewsEvent> stream(int index) {
+        return streams.get(index);
+    }
+
+    private static FeedCommand subscribe() {
+        return new FeedCommand(Type.SUBSCRIBE, null, 0);
+    }
+
+    private static FeedCommand request(long n) {
+        return new FeedCommand(Type.REQUEST, null, n);
+    }
+
+    private static NewsEvent event(long id) {
+        return new NewsEvent("e-" + id, NewsArticle.create("기사 " + id, "내용", "TECH", "김기자")
+                .withId(id)
+                .withPublishedAt(LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+}
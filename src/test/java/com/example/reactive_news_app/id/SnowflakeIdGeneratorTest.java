@@ -0,0 +1,84 @@
+package com.example.reactive_news_app.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final int THREADS = 32;
+    private static final int IDS_PER_THREAD = 200_000;
+
+    @Test
+    void generatesUniqueIdsUnderContention() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, Instant.parse("2024-01-01T00:00:00Z"));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long[] ids = new long[IDS_PER_THREAD];
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+
+            start.countDown();
+
+            long[] all = new long[THREADS * IDS_PER_THREAD];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get(60, TimeUnit.SECONDS);
+                // 스레드 안에서는 항상 증가
+                for (int i = 1; i < ids.length; i++) {
+                    assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                }
+                System.arraycopy(ids, 0, all, offset, ids.length);
+                offset += ids.length;
+            }
+
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                assertThat(all[i]).isNotEqualTo(all[i - 1]);
+            }
+            assertThat(all[0]).isPositive();
+            // JavaScript 클라이언트가 숫자로 읽어도 값을 잃지 않음
+            assertThat(all[all.length - 1]).isLessThanOrEqualTo(SnowflakeIdGenerator.MAX_ID);
+            assertThat(SnowflakeIdGenerator.MAX_ID).isEqualTo((1L << 53) - 1);
+            assertThat(Arrays.stream(all).map(SnowflakeIdGenerator::nodeIdOf).distinct()).containsExactly(7L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024, Instant.EPOCH))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 기준 시각이 31비트(약 68년)보다 오래되면 2^53 을 넘는 ID 를 만들지 않고 실패
+    @Test
+    void rejectsEpochBeyondTimestampRange() {
+        Instant tooOld = Instant.now().minusSeconds(SnowflakeIdGenerator.MAX_TIMESTAMP + 60);
+
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(0, tooOld).nextId())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
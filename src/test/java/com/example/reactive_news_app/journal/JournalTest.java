@@ -0,0 +1,223 @@
+package com.example.reactive_news_app.journal;
+
+import com.example.reactive_news_app.config.JournalProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class JournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysJournalAfterRestart() throws Exception {
+        Journal journal = open();
+        journal.append(new JournalRecord.ArticleSaved(article(1, 10)));
+        journal.append(new JournalRecord.ArticleSaved(article(2, 0)));
+        journal.append(new JournalRecord.UserSaved(user(7)));
+        journal.append(new JournalRecord.ViewCounts(Map.of(1L, 15L, 2L, 3L)));
+        // 이미 반영된 더 작은 누적값은 무시
+        journal.append(new JournalRecord.ViewCounts(Map.of(1L, 12L)));
+        journal.stop();
+
+        Journal restarted = open();
+        assertThat(restarted.takeRecoveredArticles())
+                .extracting(NewsArticle::id, NewsArticle::viewCount)
+                .containsExactlyInAnyOrder(tuple(1L, 15), tuple(2L, 3));
+        List<User> users = restarted.takeRecoveredUsers();
+        assertThat(users).extracting(User::getUsername).containsExactly("user7");
+        assertThat(users.get(0).getPreferredCategories()).containsExactly("TECH", "SCIENCE");
+        assertThat(restarted.takeRecoveredArticles()).isEmpty();
+        restarted.stop();
+    }
+
+    @Test
+    void keepsRecordsAppendedConcurrently() throws Exception {
+        Journal journal = open();
+        int threads = 8;
+        int perThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long first = (long) t * perThread + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (long id = first; id < first + perThread; id++) {
+                    journal.append(new JournalRecord.ArticleSaved(article(id, 0)));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        journal.stop();
+
+        assertThat(journal.getDroppedCount()).isZero();
+        Journal restarted = open();
+        assertThat(restarted.takeRecoveredArticles()).hasSize(threads * perThread);
+        restarted.stop();
+    }
+
+    @Test
+    void truncatesTornTailAndKeepsAppending() throws Exception {
+        Journal journal = open();
+        journal.append(new JournalRecord.ArticleSaved(article(1, 0)));
+        journal.append(new JournalRecord.ArticleSaved(article(2, 0)));
+        journal.stop();
+
+        // 마지막 레코드를 쓰다 죽은 상황
+        Path file = directory.resolve(Journal.JOURNAL_FILE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        Journal restarted = open();
+        assertThat(restarted.takeRecoveredArticles()).extracting(NewsArticle::id).containsExactly(1L);
+        restarted.append(new JournalRecord.ArticleSaved(article(3, 0)));
+        restarted.stop();
+
+        Journal again = open();
+        assertThat(again.takeRecoveredArticles()).extracting(NewsArticle::id).containsExactlyInAnyOrder(1L, 3L);
+        again.stop();
+    }
+
+    @Test
+    void detectsChecksumMismatch() throws Exception {
+        Journal journal = open();
+        journal.append(new JournalRecord.ArticleSaved(article(1, 0)));
+        journal.stop();
+
+        Path file = directory.resolve(Journal.JOURNAL_FILE);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 2] ^= 0x7F;
+        Files.write(file, bytes);
+
+        Journal restarted = open();
+        assertThat(restarted.takeRecoveredArticles()).isEmpty();
+        restarted.stop();
+    }
+
+    @Test
+    void compactionWritesSnapshotAndEmptiesJournal() throws Exception {
+        Journal journal = open();
+        journal.append(new JournalRecord.ArticleSaved(article(1, 0)));
+        journal.append(new JournalRecord.ViewCounts(Map.of(1L, 5L)));
+        Thread.sleep(200);
+        long before = journal.getJournalSize();
+
+        journal.compact(() -> new Journal.Snapshot(List.of(article(1, 5), article(2, 8)), List.of(user(7))))
+                .block(Duration.ofSeconds(5));
+        assertThat(journal.getJournalSize()).isLessThan(before);
+        assertThat(journal.getSnapshotCount()).isEqualTo(1);
+
+        journal.append(new JournalRecord.ViewCounts(Map.of(2L, 9L)));
+        journal.stop();
+
+        Journal restarted = open();
+        assertThat(restarted.takeRecoveredArticles())
+                .extracting(NewsArticle::id, NewsArticle::viewCount)
+                .containsExactlyInAnyOrder(tuple(1L, 5), tuple(2L, 9));
+        assertThat(restarted.takeRecoveredUsers()).extracting(User::getId).containsExactly(7L);
+        restarted.stop();
+    }
+
+    @Test
+    void recoversReplicaCountersFromJournalAndSnapshot() throws Exception {
+        Journal journal = open();
+        journal.append(new JournalRecord.ArticleSaved(article(1, 0)));
+        journal.append(new JournalRecord.ViewCounts(Map.of(1L, 5L), Map.of(1L, Map.of("1-100", 3L, "2-200", 2L))));
+        Thread.sleep(200);
+        journal.compact(() -> new Journal.Snapshot(List.of(article(1, 5)), List.of(),
+                        Map.of(1L, Map.of("1-100", 3L, "2-200", 2L))))
+                .block(Duration.ofSeconds(5));
+        // 스냅샷 뒤의 더 큰 카운터와, 이미 반영된 더 작은 카운터
+        journal.append(new JournalRecord.ViewCounts(Map.of(1L, 9L), Map.of(1L, Map.of("2-200", 6L))));
+        journal.append(new JournalRecord.ViewCounts(Map.of(), Map.of(1L, Map.of("1-100", 1L))));
+        journal.stop();
+
+        Journal restarted = open();
+        assertThat(restarted.takeRecoveredArticles())
+                .extracting(NewsArticle::id, NewsArticle::viewCount)
+                .containsExactly(tuple(1L, 9));
+        assertThat(restarted.takeRecoveredCounters()).isEqualTo(Map.of(1L, Map.of("1-100", 3L, "2-200", 6L)));
+        restarted.stop();
+    }
+
+    @Test
+    void droppedRecordsRequireSnapshotUntilCompacted() throws Exception {
+        JournalProperties properties = properties();
+        properties.setQueueCapacity(1);
+        // 쓰기 스레드가 시작되기 전이라 대기열이 비워지지 않음
+        Journal journal = new Journal(properties);
+        journal.append(new JournalRecord.ArticleSaved(article(1, 0)));
+        assertThat(journal.isSnapshotRequired()).isFalse();
+        journal.append(new JournalRecord.ArticleSaved(article(2, 0)));
+        assertThat(journal.getDroppedCount()).isEqualTo(1);
+        assertThat(journal.isSnapshotRequired()).isTrue();
+
+        journal.start();
+        journal.compact(() -> new Journal.Snapshot(List.of(article(1, 0), article(2, 0)), List.of()))
+                .block(Duration.ofSeconds(5));
+        assertThat(journal.isSnapshotRequired()).isFalse();
+        journal.stop();
+
+        Journal restarted = open();
+        assertThat(restarted.takeRecoveredArticles()).extracting(NewsArticle::id).containsExactlyInAnyOrder(1L, 2L);
+        restarted.stop();
+    }
+
+    private Journal open() {
+        Journal journal = new Journal(properties());
+        journal.start();
+        return journal;
+    }
+
+    private JournalProperties properties() {
+        JournalProperties properties = new JournalProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory);
+        properties.setFlushInterval(Duration.ofMillis(5));
+        return properties;
+    }
+
+    private static NewsArticle article(long id, int viewCount) {
+        return NewsArticle.create("제목 " + id, "내용 " + id, "TECH", "김기자")
+                .withId(id)
+                .withPublishedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id))
+                .withViewCount(viewCount);
+    }
+
+    private static User user(long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .email("user" + id + "@example.com")
+                .preferredCategories(List.of("TECH", "SCIENCE"))
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+    }
+}
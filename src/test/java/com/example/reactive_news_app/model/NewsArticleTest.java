@@ -0,0 +1,46 @@
+package com.example.reactive_news_app.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NewsArticleTest {
+
+    @Test
+    void keepsTagsWithAnyCharacters() {
+        List<String> tags = List.of("a\u001Fb", "12:34", "", "월드컵", "x:");
+
+        assertThat(article().withTags(tags).tags()).containsExactlyElementsOf(tags);
+    }
+
+    @Test
+    void distinguishesMissingEmptyAndBlankTags() {
+        assertThat(article().withTags(null).tags()).isNull();
+        assertThat(article().withTags(List.of()).tags()).isEmpty();
+        assertThat(article().withTags(List.of("")).tags()).containsExactly("");
+    }
+
+    @Test
+    void rejectsNullTag() {
+        assertThatThrownBy(() -> article().withTags(Arrays.asList("a", null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sharesCategoryAndAuthorAcrossArticles() {
+        NewsArticle first = NewsArticle.create("제목", "내용", new String("TECH"), new String("김기자"));
+        NewsArticle second = NewsArticle.create("제목", "내용", new String("TECH"), new String("김기자"));
+
+        assertThat(second.category()).isSameAs(first.category());
+        assertThat(second.author()).isSameAs(first.author());
+        assertThat(second.withViewCount(3).withId(7).category()).isSameAs(first.category());
+    }
+
+    private static NewsArticle article() {
+        return NewsArticle.create("제목", "내용", "TECH", "김기자");
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.reactive_news_app.overload;
+
+import com.example.reactive_news_app.config.OverloadProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long SLOW = Duration.ofMillis(200).toNanos();
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void shedsRequestsAboveLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getShedCount()).isEqualTo(1);
+
+        limiter.release();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void backsOffOnEventLoopLagAndRecoversUnderLoad() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100);
+
+        limiter.adjust(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(80);
+        for (int i = 0; i < 20; i++) {
+            limiter.adjust(SLOW);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        // 지연이 정상이어도 한도를 절반 이상 쓰고 있을 때만 늘림
+        limiter.adjust(FAST);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.adjust(FAST);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        OverloadProperties properties = new OverloadProperties();
+        properties.getConcurrency().setInitialLimit(initialLimit);
+        properties.getConcurrency().setMinLimit(4);
+        properties.getConcurrency().setLatencyThreshold(Duration.ofMillis(50));
+        return new AdaptiveConcurrencyLimiter(properties, new EventLoopLatencyMonitor(properties));
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryArticleStoreTest {
+
+    private static final int THREADS = 64;
+    private static final int INCREMENTS_PER_THREAD = 10_000;
+    private static final int SNAPSHOTS = 50;
+
+    @Test
+    void concurrentViewIncrementsAreNotLost() throws Exception {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        int articleCount = 8;
+        for (long id = 1; id <= articleCount; id++) {
+            store.save(article(id));
+        }
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                store.incrementViewCount((i % articleCount) + 1);
+            }
+        });
+
+        long expectedPerArticle = (long) THREADS * INCREMENTS_PER_THREAD / articleCount;
+        for (long id = 1; id <= articleCount; id++) {
+            assertThat(store.getViewCount(id)).isEqualTo(expectedPerArticle);
+        }
+    }
+
+    @Test
+    void snapshotIsSafeDuringConcurrentWrites() throws Exception {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        int writers = THREADS - 1;
+
+        // 0번 스레드는 쓰기 도중 정해진 횟수만 스냅샷을 뜸 (쓰기마다 뜨면 O(n²))
+        runConcurrently(thread -> {
+            if (thread == 0) {
+                for (int i = 0; i < SNAPSHOTS; i++) {
+                    assertThat(store.snapshot())
+                            .hasSizeLessThanOrEqualTo(writers * 1_000)
+                            .doesNotContainNull();
+                }
+                return;
+            }
+            for (int i = 0; i < 1_000; i++) {
+                long id = (long) thread * 1_000 + i;
+                store.save(article(id));
+                store.incrementViewCount(id);
+            }
+        });
+
+        assertThat(store.size()).isEqualTo(writers * 1_000);
+        assertThat(store.snapshot()).hasSize(writers * 1_000);
+    }
+
+    @Test
+    void concurrentSavesOfSameIdLeaveOneIndexEntry() throws Exception {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        int articleCount = 16;
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 1_000; i++) {
+                long id = i % articleCount;
+                store.save(article(id, thread % 2 == 0 ? "TECH" : "SPORTS", base.plusSeconds(thread * 1_000L + i)));
+                store.incrementViewCount(id);
+            }
+        });
+
+        assertThat(store.size()).isEqualTo(articleCount);
+        assertThat(store.findAllOrderByPublishedAt()).hasSize(articleCount);
+        assertThat(store.findAllOrderByViewCountDesc()).hasSize(articleCount);
+        assertThat(store.findByCategoryOrderByPublishedAt("TECH").count()
+                + store.findByCategoryOrderByPublishedAt("SPORTS").count()).isEqualTo(articleCount);
+    }
+
+    @Test
+    void indexesFollowPublishOrderCategoryAndViewCount() {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        store.save(article(1, "TECH", base.plusMinutes(2)));
+        store.save(article(2, "SPORTS", base.plusMinutes(1)));
+        store.save(article(3, "TECH", base.plusMinutes(3)));
+
+        store.incrementViewCount(2);
+        store.incrementViewCount(2);
+        store.incrementViewCount(3);
+
+        assertThat(store.findAllOrderByPublishedAt().map(NewsArticle::id)).containsExactly(2L, 1L, 3L);
+        assertThat(store.findAllOrderByPublishedAtDesc().map(NewsArticle::id)).containsExactly(3L, 1L, 2L);
+        assertThat(store.findByCategoryOrderByPublishedAt("tech").map(NewsArticle::id)).containsExactly(1L, 3L);
+        assertThat(store.findAllOrderByViewCountDesc().map(NewsArticle::id)).containsExactly(2L, 3L, 1L);
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private NewsArticle article(long id, String category, LocalDateTime publishedAt) {
+        return NewsArticle.create("제목 " + id, "내용 " + id, category, "김기자")
+                .withId(id)
+                .withPublishedAt(publishedAt);
+    }
+
+    private NewsArticle article(long id) {
+        return NewsArticle.create("제목 " + id, "내용 " + id, "TECH", "김기자").withId(id);
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.reactive_news_app.repository;
+
+import com.example.reactive_news_app.config.PersistenceProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NewsArticlePersistenceTest {
+
+    private final NewsArticleRepository repository = mock(NewsArticleRepository.class);
+    private final InMemoryArticleStore store = new InMemoryArticleStore();
+    // 성공한 MERGE 호출마다 기록한 기사
+    private final List<List<NewsArticle>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void writesQueuedArticlesInBatchesWithLatestViewCounts() throws Exception {
+        acceptAllExcept(-1);
+        store.save(article(1));
+        store.incrementViewCount(1);
+        store.incrementViewCount(1);
+        NewsArticlePersistence persistence = persistence(3, 100);
+        persistence.start();
+
+        for (long id = 1; id <= 7; id++) {
+            persistence.enqueue(article(id));
+        }
+        persistence.stop();
+
+        assertThat(written()).containsExactly(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L));
+        // 대기열의 기사는 생성 시점 조회수(0)지만 기록할 때는 메모리의 조회수를 씀
+        assertThat(batches.get(0).get(0).viewCount()).isEqualTo(2);
+        assertThat(persistence.getWrittenCount()).isEqualTo(7);
+        assertThat(persistence.getFailedCount()).isZero();
+    }
+
+    // 한 행 때문에 묶음이 실패하면 나눠서 다시 기록하고, 끝까지 실패한 기사만 실패로 셈
+    @Test
+    void splitsFailingBatchAndCountsOnlyRejectedRows() throws Exception {
+        acceptAllExcept(3);
+        NewsArticlePersistence persistence = persistence(4, 100);
+        persistence.start();
+
+        for (long id = 1; id <= 8; id++) {
+            persistence.enqueue(article(id));
+        }
+        persistence.stop();
+
+        assertThat(written()).containsExactly(List.of(1L, 2L), List.of(4L), List.of(5L, 6L, 7L, 8L));
+        assertThat(persistence.getWrittenCount()).isEqualTo(7);
+        assertThat(persistence.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsArticlesBeyondQueueCapacity() {
+        acceptAllExcept(-1);
+        // 시작하지 않아 대기열이 비워지지 않음
+        NewsArticlePersistence persistence = persistence(10, 2);
+
+        List<Boolean> accepted = LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> persistence.enqueue(article(id)))
+                .toList();
+
+        assertThat(accepted).containsExactly(true, true, false, false, false);
+        assertThat(persistence.getDroppedCount()).isEqualTo(3);
+        assertThat(batches).isEmpty();
+    }
+
+    // 복구한 기사는 대기열 한도와 관계없이 묶음 단위로 모두 기록하고, 설정을 끄면 DB 에 가지 않음
+    @Test
+    void resyncsRecoveredArticlesInBatchesOnlyWhenEnabled() {
+        acceptAllExcept(-1);
+        List<NewsArticle> recovered = LongStream.rangeClosed(1, 5).mapToObj(NewsArticlePersistenceTest::article).toList();
+
+        persistence(2, 1).resync(recovered).block();
+        assertThat(batches).isEmpty();
+
+        NewsArticlePersistence persistence = persistence(2, 1, true);
+        persistence.resync(recovered).block();
+
+        assertThat(written()).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(persistence.getWrittenCount()).isEqualTo(5);
+        assertThat(persistence.getDroppedCount()).isZero();
+    }
+
+    private void acceptAllExcept(long rejectedId) {
+        when(repository.upsertAll(anyList())).thenAnswer(invocation -> {
+            List<NewsArticle> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(article -> article.id() == rejectedId)) {
+                return Mono.error(new IllegalStateException("value too long"));
+            }
+            batches.add(batch);
+            return Mono.empty();
+        });
+    }
+
+    private List<List<Long>> written() {
+        return batches.stream()
+                .map(batch -> batch.stream().map(NewsArticle::id).toList())
+                .toList();
+    }
+
+    // 주기는 길게 두어 묶음 크기와 종료 시점만으로 배치가 나뉘게 함
+    private NewsArticlePersistence persistence(int batchSize, int queueCapacity) {
+        return persistence(batchSize, queueCapacity, false);
+    }
+
+    private NewsArticlePersistence persistence(int batchSize, int queueCapacity, boolean resyncOnRecovery) {
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setResyncOnRecovery(resyncOnRecovery);
+        properties.setBatchSize(batchSize);
+        properties.setFlushInterval(Duration.ofMinutes(1));
+        properties.setQueueCapacity(queueCapacity);
+        return new NewsArticlePersistence(repository, store, properties);
+    }
+
+    private static NewsArticle article(long id) {
+        return NewsArticle.create("제목 " + id, "내용 " + id, "TECH", "김기자").withId(id);
+    }
+}
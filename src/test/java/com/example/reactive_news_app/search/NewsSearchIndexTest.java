@@ -0,0 +1,81 @@
+package com.example.reactive_news_app.search;
+
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.repository.InMemoryArticleStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsSearchIndexTest {
+
+    private InMemoryArticleStore store;
+    private NewsSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryArticleStore();
+        index = new NewsSearchIndex(store);
+        save(1, "Spring WebFlux 완전정복", "리액티브 프로그래밍의 새로운 패러다임", 1);
+        save(2, "월드컵 결승전 하이라이트", "역사상 가장 치열했던 경기", 2);
+        save(3, "리액티브 월드컵 중계", "WebFlux로 만든 실시간 중계 서비스", 3);
+    }
+
+    @Test
+    void matchesKoreanTextRegardlessOfParticles() {
+        assertThat(ids(SearchQuery.of("월드컵"))).containsExactly(3L, 2L);
+        assertThat(ids(SearchQuery.of("프로그래밍"))).containsExactly(1L);
+    }
+
+    @Test
+    void matchesSingleSyllableAndLatinSubstrings() {
+        assertThat(ids(SearchQuery.of("컵"))).containsExactly(3L, 2L);
+        assertThat(ids(SearchQuery.of("flux"))).containsExactly(3L, 1L);
+        assertThat(ids(SearchQuery.of("FLUX 중계"))).containsExactly(3L);
+    }
+
+    @Test
+    void requiresKoreanCharactersToBeAdjacent() {
+        save(4, "스포일러 주의", "포츠담 회담 다큐멘터리", 4);
+        save(5, "스포츠 뉴스", "오늘의 경기 결과", 5);
+
+        assertThat(ids(SearchQuery.of("스포츠"))).containsExactly(5L);
+        assertThat(ids(SearchQuery.of("스포"))).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void supportsAndOrQueries() {
+        assertThat(ids(SearchQuery.of("webflux 월드컵"))).containsExactly(3L);
+        assertThat(ids(query("webflux 결승전", SearchQuery.Operator.OR, SearchQuery.Ranking.RECENCY, 10, null)))
+                .containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void ranksByRelevanceAndPagesWithCursor() {
+        SearchQuery firstPage = query("webflux", SearchQuery.Operator.AND, SearchQuery.Ranking.RELEVANCE, 1, null);
+        assertThat(ids(firstPage)).containsExactly(1L);
+
+        SearchQuery secondPage = query("webflux", SearchQuery.Operator.AND, SearchQuery.Ranking.RELEVANCE, 1, 1L);
+        assertThat(ids(secondPage)).containsExactly(3L);
+    }
+
+    private SearchQuery query(String keyword, SearchQuery.Operator operator, SearchQuery.Ranking ranking,
+                              int limit, Long cursor) {
+        return new SearchQuery(keyword, operator, ranking, limit, cursor);
+    }
+
+    private List<Long> ids(SearchQuery query) {
+        return index.search(query).stream().map(NewsArticle::id).toList();
+    }
+
+    private void save(long id, String title, String content, int minutes) {
+        NewsArticle article = NewsArticle.create(title, content, "TECH", "김기자")
+                .withId(id)
+                .withPublishedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(minutes));
+        store.save(article);
+        index.index(article);
+    }
+}
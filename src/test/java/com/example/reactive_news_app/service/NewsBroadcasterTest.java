@@ -0,0 +1,186 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.config.NewsStreamProperties;
+import com.example.reactive_news_app.config.NewsStreamProperties.OverflowPolicy;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsBroadcasterTest {
+
+    @Test
+    void deliversOnlyArticlesMatchingSubscriberFilter() {
+        NewsBroadcaster broadcaster = broadcaster(10);
+
+        StepVerifier.create(broadcaster.subscribe(StreamFilter.of("tech", null, "webflux"), null)
+                        .map(event -> event.article().id()))
+                .then(() -> {
+                    broadcaster.publish(article(1, "TECH", "Spring WebFlux 입문"));
+                    broadcaster.publish(article(2, "SPORTS", "WebFlux 로 만든 중계"));
+                    broadcaster.publish(article(3, "TECH", "자바 21 출시"));
+                    broadcaster.publish(article(4, "TECH", "webflux 성능 튜닝"));
+                })
+                .expectNext(1L, 4L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void matchesKeywordsWithSearchRules() {
+        StreamFilter latin = StreamFilter.of(null, null, "flux");
+        assertThat(latin.matches(article(1, "TECH", "Spring WebFlux 입문"))).isTrue();
+        assertThat(latin.matches(article(2, "TECH", "Flutter 입문"))).isFalse();
+
+        // 한글은 글자가 이어져 있어야 함 (검색과 같이 "스포츠" 는 "스포일러 ... 포츠담" 과 일치하지 않음)
+        StreamFilter korean = StreamFilter.of(null, null, "스포츠");
+        assertThat(korean.matches(article(3, "SPORTS", "스포츠 뉴스"))).isTrue();
+        assertThat(korean.matches(article(4, "SPORTS", "스포일러 주의, 포츠담 회담"))).isFalse();
+    }
+
+    @Test
+    void subscribersWithSameFilterShareOneGroup() {
+        NewsBroadcaster broadcaster = broadcaster(10);
+
+        Flux<NewsEvent> first = broadcaster.subscribe(StreamFilter.of("TECH", null, null), null);
+        Flux<NewsEvent> second = broadcaster.subscribe(StreamFilter.of(" tech ", null, ""), null);
+        Disposable a = first.subscribe();
+        Disposable b = second.subscribe();
+
+        assertThat(broadcaster.getFilterCount()).isEqualTo(1);
+
+        a.dispose();
+        b.dispose();
+        assertThat(broadcaster.getFilterCount()).isZero();
+    }
+
+    @Test
+    void resumesAfterLastEventIdFromReplayBuffer() {
+        NewsBroadcaster broadcaster = broadcaster(3);
+
+        String[] lastEventId = new String[1];
+        StepVerifier.create(broadcaster.subscribe(StreamFilter.ALL, null))
+                .then(() -> {
+                    broadcaster.publish(article(1, "TECH", "기사 1"));
+                    broadcaster.publish(article(2, "TECH", "기사 2"));
+                })
+                .expectNextCount(1)
+                .consumeNextWith(event -> lastEventId[0] = event.id())
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        // 끊긴 동안 발행된 기사 (버퍼 크기 3: 3, 4, 5 만 남음)
+        for (long id = 3; id <= 5; id++) {
+            broadcaster.publish(article(id, "TECH", "기사 " + id));
+        }
+
+        StepVerifier.create(broadcaster.subscribe(StreamFilter.ALL, lastEventId[0])
+                        .map(event -> event.article().id()))
+                .expectNext(3L, 4L, 5L)
+                .then(() -> broadcaster.publish(article(6, "TECH", "기사 6")))
+                .expectNext(6L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        // 다른 실행에서 받은 ID 면 보관 중인 이벤트를 모두 다시 보냄
+        StepVerifier.create(broadcaster.subscribe(StreamFilter.ALL, "old-1")
+                        .map(event -> event.article().id()))
+                .expectNext(4L, 5L, 6L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = OverflowPolicy.class, names = {"DROP_OLDEST", "DISCONNECT"})
+    void replaysMoreEventsThanBufferSizeWithoutDroppingOrDisconnecting(OverflowPolicy policy) {
+        NewsBroadcaster broadcaster = broadcaster(10, 2);
+        for (long id = 1; id <= 10; id++) {
+            broadcaster.publish(article(id, "TECH", "기사 " + id));
+        }
+
+        // 재전송분을 천천히 요청해도 버퍼 크기(2)와 상관없이 모두 받고, 이어서 실시간 이벤트를 받음
+        StepVerifier.create(broadcaster.subscribe(StreamFilter.ALL, "old-1", policy)
+                                .map(event -> event.article().id()), 0)
+                .thenRequest(3)
+                .expectNext(1L, 2L, 3L)
+                .then(() -> broadcaster.publish(article(11, "TECH", "기사 11")))
+                .thenRequest(8)
+                .expectNext(4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(broadcaster.getDroppedCount()).isZero();
+        assertThat(broadcaster.getDisconnectedCount()).isZero();
+    }
+
+    // 재전송분을 받지 않는 동안 실시간 대기열은 bufferSize + replaySize 근처에서 멈추고 새 이벤트는 버림
+    @Test
+    void boundsLiveQueueWhileReplayIsPending() {
+        NewsBroadcaster broadcaster = broadcaster(2, 2);
+        broadcaster.publish(article(1, "TECH", "기사 1"));
+        broadcaster.publish(article(2, "TECH", "기사 2"));
+
+        StepVerifier.create(broadcaster.subscribe(StreamFilter.ALL, "old-1", OverflowPolicy.DROP_OLDEST)
+                                .map(event -> event.article().id()), 0)
+                .then(() -> {
+                    for (long id = 3; id <= 102; id++) {
+                        broadcaster.publish(article(id, "TECH", "기사 " + id));
+                    }
+                })
+                .then(() -> assertThat(broadcaster.getDroppedCount()).isBetween(1L, 99L))
+                .thenRequest(3)
+                .expectNext(1L, 2L, 3L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(broadcaster.getDisconnectedCount()).isZero();
+    }
+
+    @Test
+    void disconnectsWhenLiveQueueOverflowsWhileReplayIsPending() {
+        NewsBroadcaster broadcaster = broadcaster(2, 2);
+        broadcaster.publish(article(1, "TECH", "기사 1"));
+        broadcaster.publish(article(2, "TECH", "기사 2"));
+
+        StepVerifier.create(broadcaster.subscribe(StreamFilter.ALL, "old-1", OverflowPolicy.DISCONNECT)
+                                .map(event -> event.article().id()), 0)
+                .then(() -> {
+                    for (long id = 3; id <= 102; id++) {
+                        broadcaster.publish(article(id, "TECH", "기사 " + id));
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .expectNext(1L, 2L)
+                .thenConsumeWhile(id -> true)
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(broadcaster.getDisconnectedCount()).isEqualTo(1);
+        assertThat(broadcaster.getFilterCount()).isZero();
+    }
+
+    private static NewsBroadcaster broadcaster(int replaySize) {
+        return broadcaster(replaySize, new NewsStreamProperties().getBufferSize());
+    }
+
+    private static NewsBroadcaster broadcaster(int replaySize, int bufferSize) {
+        NewsStreamProperties properties = new NewsStreamProperties();
+        properties.setReplaySize(replaySize);
+        properties.setBufferSize(bufferSize);
+        return new NewsBroadcaster(properties, new SimpleMeterRegistry());
+    }
+
+    private static NewsArticle article(long id, String category, String title) {
+        return NewsArticle.create(title, "내용", category, "김기자").withId(id);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.config.IngestProperties;
+import com.example.reactive_news_app.model.IngestResult;
+import com.example.reactive_news_app.model.IngestResult.Status;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NewsIngestServiceTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final NewsService newsService = mock(NewsService.class);
+    private final AtomicLong ids = new AtomicLong(100);
+    private NewsIngestService ingestService;
+
+    @BeforeEach
+    void setUp() {
+        when(newsService.createNewsBatch(anyList())).thenAnswer(invocation -> {
+            List<NewsArticle> articles = invocation.getArgument(0);
+            return Mono.just(articles.stream().map(article -> article.withId(ids.getAndIncrement())).toList());
+        });
+
+        IngestProperties properties = new IngestProperties();
+        properties.setChunkSize(2);
+        ingestService = new NewsIngestService(newsService, properties, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void rejectsMalformedLinesWithoutFailingUpload() {
+        Flux<String> lines = Flux.just(
+                article("첫 기사"),
+                "{\"title\": \"잘린 줄\"",
+                article("두 번째 기사"),
+                "",
+                "{\"title\": \"\", \"category\": \"TECH\"}",
+                "{\"title\": \"조회수\", \"category\": \"TECH\", \"viewCount\": \"많음\"}",
+                article("세 번째 기사"));
+
+        StepVerifier.create(ingestService.ingestLines(lines))
+                .assertNext(result -> assertCreated(result, 0, 100))
+                .assertNext(result -> assertRejected(result, 1, "JSON 형식 오류"))
+                .assertNext(result -> assertCreated(result, 2, 101))
+                .assertNext(result -> assertRejected(result, 3, "title"))
+                .assertNext(result -> assertRejected(result, 4, "JSON 형식 오류"))
+                .assertNext(result -> assertCreated(result, 5, 102))
+                .verifyComplete();
+    }
+
+    @Test
+    void rejectsUnconvertibleArrayElementsInOrder() throws Exception {
+        JsonNode array = objectMapper.readTree("["
+                + article("첫 기사") + ","
+                + "null,"
+                + "{\"title\": \"태그\", \"category\": \"TECH\", \"tags\": [\"a\", null]},"
+                + article("두 번째 기사")
+                + "]");
+
+        StepVerifier.create(ingestService.ingestNodes(Flux.fromIterable(array)))
+                .assertNext(result -> assertCreated(result, 0, 100))
+                .assertNext(result -> assertRejected(result, 1, "비어 있습니다"))
+                .assertNext(result -> assertRejected(result, 2, "JSON 형식 오류"))
+                .assertNext(result -> assertCreated(result, 3, 101))
+                .verifyComplete();
+    }
+
+    @Test
+    void skipsStoringWhenWholeChunkIsRejected() {
+        StepVerifier.create(ingestService.ingestLines(Flux.just("[", "{}")))
+                .assertNext(result -> assertRejected(result, 0, "JSON 형식 오류"))
+                .assertNext(result -> assertRejected(result, 1, "title"))
+                .verifyComplete();
+
+        verify(newsService, never()).createNewsBatch(anyList());
+    }
+
+    // 저장 대기열이 가득 차 묶음의 앞부분만 생성되면 나머지 항목은 CREATED 가 아니라 FAILED
+    @Test
+    void reportsArticlesNotAcceptedForStorageAsFailed() {
+        when(newsService.createNewsBatch(anyList())).thenAnswer(invocation -> {
+            List<NewsArticle> articles = invocation.getArgument(0);
+            return Mono.just(List.of(articles.get(0).withId(ids.getAndIncrement())));
+        });
+
+        StepVerifier.create(ingestService.ingestLines(Flux.just(article("첫 기사"), article("두 번째 기사"), "{}")))
+                .assertNext(result -> assertCreated(result, 0, 100))
+                .assertNext(result -> {
+                    assertThat(result.index()).isEqualTo(1);
+                    assertThat(result.status()).isEqualTo(Status.FAILED);
+                    assertThat(result.id()).isNull();
+                    assertThat(result.error()).contains("저장 대기열");
+                })
+                .assertNext(result -> assertRejected(result, 2, "title"))
+                .verifyComplete();
+    }
+
+    private static String article(String title) {
+        return "{\"title\": \"" + title + "\", \"content\": \"내용\", \"category\": \"TECH\", \"author\": \"김기자\"}";
+    }
+
+    private static void assertCreated(IngestResult result, long index, long id) {
+        assertThat(result.index()).isEqualTo(index);
+        assertThat(result.status()).isEqualTo(Status.CREATED);
+        assertThat(result.id()).isEqualTo(id);
+    }
+
+    private static void assertRejected(IngestResult result, long index, String error) {
+        assertThat(result.index()).isEqualTo(index);
+        assertThat(result.status()).isEqualTo(Status.REJECTED);
+        assertThat(result.error()).contains(error);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.cache.NewsQueryCache;
+import com.example.reactive_news_app.cluster.ClusterOutbox;
+import com.example.reactive_news_app.cluster.InProcessClusterEventBus;
+import com.example.reactive_news_app.config.ClusterProperties;
+import com.example.reactive_news_app.config.FeedProperties;
+import com.example.reactive_news_app.config.IdGeneratorProperties;
+import com.example.reactive_news_app.config.JournalProperties;
+import com.example.reactive_news_app.config.NewsStreamProperties;
+import com.example.reactive_news_app.config.PersistenceProperties;
+import com.example.reactive_news_app.config.QueryCacheProperties;
+import com.example.reactive_news_app.config.SchedulingProperties;
+import com.example.reactive_news_app.config.ViewCountProperties;
+import com.example.reactive_news_app.id.SnowflakeIdGenerator;
+import com.example.reactive_news_app.journal.Journal;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.NewsPage;
+import com.example.reactive_news_app.repository.ArticleCursor;
+import com.example.reactive_news_app.repository.InMemoryArticleStore;
+import com.example.reactive_news_app.repository.NewsArticlePersistence;
+import com.example.reactive_news_app.scheduling.ServiceScheduler;
+import com.example.reactive_news_app.search.NewsSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 키셋 페이지네이션: 초기 데이터와 섞이지 않도록 별도 카테고리의 기사로 확인
+class NewsServiceTest {
+
+    private static final String CATEGORY = "PAGING";
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final InMemoryArticleStore store = new InMemoryArticleStore();
+    private NewsService newsService;
+
+    @BeforeEach
+    void setUp() {
+        PersistenceProperties persistenceProperties = new PersistenceProperties();
+        persistenceProperties.setEnabled(false);
+        NewsArticlePersistence persistence = new NewsArticlePersistence(null, store, persistenceProperties);
+        persistence.start();
+        newsService = newsService(store, persistence);
+
+        // 발행 시각이 같은 기사(12~14, 15~16)는 ID 순
+        store.save(article(11, 0));
+        store.save(article(12, 1));
+        store.save(article(13, 1));
+        store.save(article(14, 1));
+        store.save(article(15, 2));
+        store.save(article(16, 2));
+        store.save(article(17, 3));
+    }
+
+    private static NewsService newsService(InMemoryArticleStore store, NewsArticlePersistence persistence) {
+        NewsQueryCache queryCache = new NewsQueryCache(new QueryCacheProperties(), new SimpleMeterRegistry());
+        ClusterOutbox clusterOutbox = new ClusterOutbox(new ClusterProperties(), new IdGeneratorProperties(),
+                new InProcessClusterEventBus("test", 0));
+        Journal journal = new Journal(new JournalProperties());
+        NewsStreamProperties streamProperties = new NewsStreamProperties();
+
+        return new NewsService(
+                store,
+                new NewsSearchIndex(store),
+                persistence,
+                new PersonalizedFeedService(store, new FeedProperties()),
+                new NewsBroadcaster(streamProperties, new SimpleMeterRegistry()),
+                new SnowflakeIdGenerator(0, Instant.EPOCH),
+                new ViewCountAggregator(store, persistence, queryCache, new ViewCountProperties(), clusterOutbox, journal),
+                queryCache,
+                clusterOutbox,
+                new ServiceScheduler(new SchedulingProperties()),
+                journal,
+                streamProperties);
+    }
+
+    @Test
+    void pagesWalkTiesOnPublishedAtWithoutGapsOrDuplicates() {
+        List<List<Long>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            NewsPage page = newsService.getNewsByCategory(CATEGORY, cursor, 2).block();
+            pages.add(page.items().stream().map(NewsArticle::id).toList());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(pages).containsExactly(List.of(11L, 12L), List.of(13L, 14L), List.of(15L, 16L), List.of(17L));
+    }
+
+    @Test
+    void nextCursorPointsAtLastItemOfPage() {
+        NewsPage page = newsService.getNewsByCategory(CATEGORY, null, 3).block();
+
+        NewsArticle last = page.items().get(2);
+        ArticleCursor cursor = ArticleCursor.decode(page.nextCursor(), ArticleCursor.Type.PUBLISHED);
+        assertThat(cursor).isEqualTo(ArticleCursor.published(last));
+        assertThat(cursor.id()).isEqualTo(13);
+    }
+
+    @Test
+    void rejectsCursorOfAnotherOrder() {
+        NewsArticle article = store.findById(12).orElseThrow();
+        String viewsCursor = ArticleCursor.views(article).encode();
+
+        assertThatThrownBy(() -> newsService.getNewsByCategory(CATEGORY, viewsCursor, 2).block())
+                .hasMessageContaining("잘못된 커서");
+        assertThatThrownBy(() -> newsService.getNewsByCategory(CATEGORY, "not-a-cursor", 2).block())
+                .hasMessageContaining("잘못된 커서");
+    }
+
+    @Test
+    void clampsLimitAndUsesDefaultPageWithoutLimit() {
+        NewsPage smallest = newsService.getNewsByCategory(CATEGORY, null, 0).block();
+        assertThat(smallest.items()).extracting(NewsArticle::id).containsExactly(11L);
+        assertThat(smallest.nextCursor()).isNotNull();
+
+        NewsPage small = newsService.getNewsByCategory(CATEGORY, null, null).block();
+        assertThat(small.items()).hasSize(7);
+        assertThat(small.nextCursor()).isNull();
+
+        for (long id = 100; id < 100 + NewsPage.MAX_LIMIT; id++) {
+            store.save(article(id, 10));
+        }
+        // limit 이 없어도 전체 목록이 아니라 기본 크기의 페이지 (저장소에 바로 넣어 캐시가 무효화되지 않았으므로 다른 키로 조회)
+        NewsPage unpaged = newsService.getNewsByCategory(CATEGORY, "", null).block();
+        assertThat(unpaged.items()).hasSize(NewsPage.DEFAULT_LIMIT);
+        assertThat(unpaged.nextCursor()).isNotNull();
+        NewsPage largest = newsService.getNewsByCategory(CATEGORY, null, NewsPage.MAX_LIMIT * 5).block();
+        assertThat(largest.items()).hasSize(NewsPage.MAX_LIMIT);
+        assertThat(largest.nextCursor()).isNotNull();
+    }
+
+    // NDJSON 스트림은 페이지와 같은 기사를 보내고, 다음 커서를 마지막 요소로 보냄
+    @Test
+    void streamEndsWithSameCursorAsPage() {
+        NewsPage page = newsService.getNewsByCategory(CATEGORY, null, 3).block();
+
+        List<Object> streamed = newsService.streamNewsByCategory(CATEGORY, null, 3).collectList().block();
+
+        assertThat(streamed).hasSize(4);
+        assertThat(streamed.subList(0, 3)).containsExactlyElementsOf(page.items());
+        assertThat(streamed.get(3)).isEqualTo(new NewsPage.NextCursor(page.nextCursor()));
+
+        List<Object> lastPage = newsService.streamNewsByCategory(CATEGORY, page.nextCursor(), 10).collectList().block();
+        assertThat(lastPage).extracting(item -> ((NewsArticle) item).id()).containsExactly(14L, 15L, 16L, 17L);
+    }
+
+    // DB 저장 대기열이 가득 차면 503 으로 거절하고 메모리에도 남기지 않음
+    @Test
+    void rejectsCreateWhenPersistenceQueueIsFull() {
+        PersistenceProperties persistenceProperties = new PersistenceProperties();
+        persistenceProperties.setQueueCapacity(0);
+        InMemoryArticleStore fullStore = new InMemoryArticleStore();
+        // 시작하지 않아 대기열이 비워지지 않음 (초기 데이터도 받지 못함)
+        NewsService service = newsService(fullStore, new NewsArticlePersistence(null, fullStore, persistenceProperties));
+
+        assertThatThrownBy(() -> service.createNews(NewsArticle.create("제목", "내용", "TECH", "김기자")).block())
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(error -> assertThat(((ResponseStatusException) error).getStatusCode())
+                        .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(fullStore.size()).isZero();
+    }
+
+    private static NewsArticle article(long id, int minutes) {
+        return NewsArticle.create("제목 " + id, "내용 " + id, CATEGORY, "김기자")
+                .withId(id)
+                .withPublishedAt(BASE.plusMinutes(minutes));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.config.FeedProperties;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.model.User;
+import com.example.reactive_news_app.repository.InMemoryArticleStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonalizedFeedServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final InMemoryArticleStore store = new InMemoryArticleStore();
+    private final FeedProperties properties = new FeedProperties();
+    private final PersonalizedFeedService feedService = new PersonalizedFeedService(store, properties);
+
+    @Test
+    void materializedFeedIsNewestFirstAndBounded() {
+        properties.setSize(3);
+        for (long id = 1; id <= 5; id++) {
+            store.save(article(id, "TECH"));
+        }
+        store.save(article(6, "SPORTS"));
+
+        assertThat(feedIds(user(1, LocalDateTime.now(), "TECH"))).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void publishFansOutOnlyToSubscribersOfCategory() {
+        properties.setSize(3);
+        store.save(article(1, "TECH"));
+        User tech = user(1, LocalDateTime.now(), "tech");
+        User sports = user(2, LocalDateTime.now(), "SPORTS");
+        feedIds(tech);
+        feedIds(sports);
+
+        NewsArticle published = save(article(2, "TECH"));
+        feedService.onPublish(published);
+        feedService.onPublishAll(List.of(save(article(3, "TECH")), save(article(4, "SPORTS")),
+                save(article(5, "TECH"))));
+        // 이미 있는 기사는 다시 넣지 않음
+        feedService.onPublish(published);
+
+        assertThat(feedIds(tech)).containsExactly(5L, 3L, 2L);
+        assertThat(feedIds(sports)).containsExactly(4L);
+    }
+
+    @Test
+    void evictsFeedsPastTtlAndStopsFanningOutToThem() {
+        properties.setTtl(Duration.ofMinutes(30));
+        User active = user(1, LocalDateTime.now(), "TECH");
+        User idle = user(2, LocalDateTime.now().minusHours(2), "TECH");
+        feedIds(active);
+        feedIds(idle);
+        assertThat(feedService.getFeedCount()).isEqualTo(2);
+
+        feedService.evictInactive();
+        assertThat(feedService.getFeedCount()).isEqualTo(1);
+
+        feedService.onPublish(save(article(1, "TECH")));
+        assertThat(feedIds(active)).containsExactly(1L);
+        assertThat(feedService.getFeedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyActiveUsersBeyondMaxUsers() {
+        properties.setMaxUsers(2);
+        LocalDateTime now = LocalDateTime.now();
+        feedIds(user(1, now.minusMinutes(3), "TECH"));
+        feedIds(user(2, now.minusMinutes(1), "TECH"));
+        feedIds(user(3, now.minusMinutes(2), "SPORTS"));
+
+        feedService.evictInactive();
+
+        assertThat(feedService.getFeedCount()).isEqualTo(2);
+        feedService.onPublish(save(article(1, "TECH")));
+        assertThat(feedIds(user(2, now, "TECH"))).containsExactly(1L);
+
+        // 가장 오래 활동하지 않은 사용자 1 의 피드는 지워져 다시 구성됨
+        feedIds(user(1, now, "TECH"));
+        assertThat(feedService.getFeedCount()).isEqualTo(3);
+    }
+
+    // 피드를 지우는 쪽과 다시 만드는 쪽이 엇갈려도, 남은 피드는 항상 등록되어 있고 지운 피드는 등록이 남지 않음
+    @Test
+    void concurrentInvalidateAndRebuildKeepCurrentFeedSubscribed() throws Exception {
+        User user = user(1, LocalDateTime.now(), "TECH");
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            boolean invalidating = t % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2_000; i++) {
+                    if (invalidating) {
+                        feedService.invalidate(user.getId());
+                    } else {
+                        feedIds(user);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        feedIds(user);
+        assertThat(feedService.subscriberCount("TECH")).isEqualTo(1);
+        feedService.onPublish(save(article(1, "TECH")));
+        assertThat(feedIds(user)).containsExactly(1L);
+    }
+
+    private List<Long> feedIds(User user) {
+        return feedService.getFeed(user).map(NewsArticle::id).collectList().block();
+    }
+
+    private NewsArticle save(NewsArticle article) {
+        store.save(article);
+        return article;
+    }
+
+    private static User user(long id, LocalDateTime lastActiveAt, String category) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .preferredCategories(List.of(category))
+                .lastActiveAt(lastActiveAt)
+                .build();
+    }
+
+    private static NewsArticle article(long id, String category) {
+        return NewsArticle.create("제목 " + id, "내용 " + id, category, "김기자")
+                .withId(id)
+                .withPublishedAt(BASE.plusMinutes(id));
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.reactive_news_app.service;
+
+import com.example.reactive_news_app.cache.NewsQueryCache;
+import com.example.reactive_news_app.cluster.ClusterOutbox;
+import com.example.reactive_news_app.cluster.InProcessClusterEventBus;
+import com.example.reactive_news_app.config.ClusterProperties;
+import com.example.reactive_news_app.config.IdGeneratorProperties;
+import com.example.reactive_news_app.config.JournalProperties;
+import com.example.reactive_news_app.config.PersistenceProperties;
+import com.example.reactive_news_app.config.QueryCacheProperties;
+import com.example.reactive_news_app.config.ViewCountProperties;
+import com.example.reactive_news_app.journal.Journal;
+import com.example.reactive_news_app.model.NewsArticle;
+import com.example.reactive_news_app.repository.InMemoryArticleStore;
+import com.example.reactive_news_app.repository.NewsArticlePersistence;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewCountAggregatorTest {
+
+    private static final int THREADS = 16;
+    private static final int VIEWS_PER_THREAD = 20_000;
+
+    @Test
+    void viewsRecordedWhileFlushingAreNotLost() throws Exception {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        int articleCount = 4;
+        for (long id = 1; id <= articleCount; id++) {
+            store.save(article(id, "TECH"));
+        }
+        ViewCountAggregator aggregator = aggregator(store);
+
+        AtomicBoolean recording = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (recording.get()) {
+                aggregator.flush().block();
+            }
+        });
+        flusher.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    aggregator.record((i % articleCount) + 1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        recording.set(false);
+        flusher.join();
+
+        // 종료 시 남은 증가분까지 반영
+        aggregator.stop();
+
+        long expectedPerArticle = (long) THREADS * VIEWS_PER_THREAD / articleCount;
+        for (long id = 1; id <= articleCount; id++) {
+            assertThat(store.getViewCount(id)).isEqualTo(expectedPerArticle);
+        }
+        assertThat(aggregator.getPendingCount()).isZero();
+        assertThat(aggregator.getFlushedCount()).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+    }
+
+    // 조회가 드문드문 들어와 반영할 때마다 빈 항목이 지워지는 상황에서도 증가분을 잃지 않음
+    @Test
+    void viewsRecordedWhileIdleEntriesAreRemovedAreNotLost() throws Exception {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        int articleCount = 512;
+        for (long id = 1; id <= articleCount; id++) {
+            store.save(article(id, "TECH"));
+        }
+        ViewCountAggregator aggregator = aggregator(store);
+
+        AtomicBoolean recording = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (recording.get()) {
+                aggregator.flush().block();
+            }
+        });
+        flusher.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * 31;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                    aggregator.record(((i * 7 + offset) % articleCount) + 1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        recording.set(false);
+        flusher.join();
+        aggregator.stop();
+
+        long total = 0;
+        for (long id = 1; id <= articleCount; id++) {
+            total += store.getViewCount(id);
+        }
+        assertThat(total).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+        assertThat(aggregator.getPendingCount()).isZero();
+    }
+
+    @Test
+    void trendingRanksByRecentViewsAndPopularityReadsFlushedTotals() {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        store.save(article(1, "TECH").withViewCount(1_000));
+        store.save(article(2, "SPORTS"));
+        store.save(article(3, "SCIENCE"));
+        ViewCountAggregator aggregator = aggregator(store);
+
+        for (int i = 0; i < 5; i++) {
+            aggregator.record(2);
+        }
+        aggregator.record(3);
+
+        // 반영 전에는 인기 순위에 나타나지 않음
+        assertThat(store.getViewCount(2)).isZero();
+
+        aggregator.flush().block();
+
+        assertThat(aggregator.getTrending(ViewCountAggregator.Window.FIVE_MINUTES, 10).map(NewsArticle::id).collectList().block())
+                .containsExactly(2L, 3L);
+        assertThat(aggregator.getTrending(ViewCountAggregator.Window.ALL_TIME, 3).map(NewsArticle::id).collectList().block())
+                .containsExactly(1L, 2L, 3L);
+        assertThat(store.getViewCount(2)).isEqualTo(5);
+    }
+
+    @Test
+    void stopFlushesViewsRecordedAfterStart() {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        store.save(article(1, "TECH"));
+        ViewCountAggregator aggregator = aggregator(store);
+        aggregator.start();
+
+        for (int i = 0; i < 3; i++) {
+            aggregator.record(1);
+        }
+        aggregator.stop();
+
+        assertThat(store.getViewCount(1)).isEqualTo(3);
+        assertThat(aggregator.getPendingCount()).isZero();
+    }
+
+    // 저장소에 없는 기사의 카운터는 보관 시간이 지나면 지우고, 저장된 기사의 카운터는 유지
+    @Test
+    void prunesCountersOfArticlesMissingFromStore() {
+        InMemoryArticleStore store = new InMemoryArticleStore();
+        store.save(article(1, "TECH"));
+        ViewCountProperties properties = new ViewCountProperties();
+        properties.setCounterRetention(Duration.ZERO);
+        ViewCountAggregator aggregator = aggregator(store, properties);
+
+        aggregator.mergeCounters(Map.of(
+                1L, Map.of("node-b", 4L),
+                2L, Map.of("node-b", 7L)));
+        assertThat(aggregator.counterCount()).isEqualTo(2);
+
+        aggregator.flush().block();
+
+        assertThat(aggregator.counterCount()).isEqualTo(1);
+        assertThat(store.getViewCount(1)).isEqualTo(4);
+        assertThat(aggregator.snapshot(List.of(store.findById(1).orElseThrow())).counters())
+                .containsEntry(1L, Map.of("node-b", 4L));
+    }
+
+    private static ViewCountAggregator aggregator(InMemoryArticleStore store) {
+        return aggregator(store, new ViewCountProperties());
+    }
+
+    private static ViewCountAggregator aggregator(InMemoryArticleStore store, ViewCountProperties properties) {
+        PersistenceProperties persistenceProperties = new PersistenceProperties();
+        persistenceProperties.setEnabled(false);
+        return new ViewCountAggregator(store, new NewsArticlePersistence(null, store, persistenceProperties),
+                new NewsQueryCache(new QueryCacheProperties(), new SimpleMeterRegistry()), properties,
+                new ClusterOutbox(new ClusterProperties(), new IdGeneratorProperties(),
+                        new InProcessClusterEventBus("test", 0)),
+                new Journal(new JournalProperties()));
+    }
+
+    private static NewsArticle article(long id, String category) {
+        return NewsArticle.create("title " + id, "content " + id, category, "김기자")
+                .withId(id)
+                .withPublishedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id));
+    }
+}